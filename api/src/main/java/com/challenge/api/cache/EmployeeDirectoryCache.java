@@ -0,0 +1,144 @@
+package com.challenge.api.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gzip-compressed encoding of the whole employee directory, kept for the store version it encodes, so clients asking
+ * for an unchanged directory share one encode and one compression.
+ *
+ * <p>Only the latest version is kept. The first caller to ask for a new version encodes it and every concurrent
+ * caller for that version waits for the same bytes rather than encoding its own. Since the bytes are produced once
+ * per version, they are compressed at the best gzip level rather than the fast level used per response.
+ */
+@Component
+public class EmployeeDirectoryCache {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final int maxBytes;
+    private final AtomicReference<Entry> latest = new AtomicReference<>();
+
+    /**
+     * Constructor
+     *
+     * @param maxBytes largest compressed directory kept - larger ones are compressed per request and not retained
+     */
+    @Autowired
+    public EmployeeDirectoryCache(@Value("${employee.directory-cache.max-bytes:67108864}") int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param version store version the encoder writes
+     * @param encoder writes the directory as uncompressed JSON, called only on a miss
+     * @return gzip-compressed directory - must not be modified
+     * @throws IOException if the encoder fails
+     */
+    public byte[] get(long version, Encoder encoder) throws IOException {
+        while (true) {
+            Entry entry = latest.get();
+            if (entry != null && entry.version == version) {
+                return entry.await();
+            }
+            if (entry != null && entry.version > version || maxBytes < 1) {
+                // A newer directory is already cached, or caching is off - compress for this caller alone
+                return compress(encoder);
+            }
+            Entry claimed = new Entry(version);
+            if (latest.compareAndSet(entry, claimed)) {
+                return claimed.fill(encoder);
+            }
+        }
+    }
+
+    /**
+     * @return compressed bytes held, 0 while nothing is cached
+     */
+    public int size() {
+        Entry entry = latest.get();
+        byte[] gzip = entry == null ? null : entry.bytes.getNow(null);
+        return gzip == null ? 0 : gzip.length;
+    }
+
+    private static byte[] compress(Encoder encoder) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        try (OutputStream gzip = new BestGzipOutputStream(bytes)) {
+            encoder.encode(gzip);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes the uncompressed directory
+     */
+    @FunctionalInterface
+    public interface Encoder {
+        /**
+         * @param out stream to write to - may be closed by the encoder
+         * @throws IOException
+         */
+        void encode(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Directory version being compressed or compressed
+     */
+    private final class Entry {
+        private final long version;
+        private final CompletableFuture<byte[]> bytes = new CompletableFuture<>();
+
+        private Entry(long version) {
+            this.version = version;
+        }
+
+        private byte[] fill(Encoder encoder) throws IOException {
+            try {
+                byte[] gzip = compress(encoder);
+                bytes.complete(gzip);
+                if (gzip.length > maxBytes) {
+                    latest.compareAndSet(this, null);
+                }
+                return gzip;
+            } catch (IOException | RuntimeException e) {
+                // Let the next caller try again rather than cache the failure
+                latest.compareAndSet(this, null);
+                bytes.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        private byte[] await() throws IOException {
+            try {
+                return bytes.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException io) {
+                    throw io;
+                }
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Gzip at the best compression level
+     */
+    private static final class BestGzipOutputStream extends GZIPOutputStream {
+        private BestGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
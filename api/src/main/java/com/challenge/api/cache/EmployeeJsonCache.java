@@ -0,0 +1,118 @@
+package com.challenge.api.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of pre-encoded UTF-8 JSON per employee, so repeated single-employee reads skip Jackson entirely.
+ *
+ * <p>Every entry is tagged with the employee version it encodes, and a lookup only hits when the caller's current
+ * version matches - any write to the employee makes its entry stale, and the stale entry is dropped on the next
+ * read. Once full, CLOCK eviction (second chance) removes an entry that has not been read since the sweep last
+ * passed it.
+ */
+@Component
+public class EmployeeJsonCache {
+
+    private final int maxEntries;
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<UUID, Entry>> clockHand;
+
+    /**
+     * Constructor
+     *
+     * @param maxEntries most employees kept encoded at once
+     */
+    @Autowired
+    public EmployeeJsonCache(@Value("${employee.json-cache.max-entries:10000}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param uuid
+     * @param version employee's current version
+     * @return JSON encoding of that version, or null on a miss
+     */
+    public byte[] get(UUID uuid, long version) {
+        Entry entry = entries.get(uuid);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.version != version) {
+            entries.remove(uuid, entry);
+            return null;
+        }
+        entry.referenced = true;
+        return entry.json;
+    }
+
+    /**
+     * Cache the encoding of an employee version, evicting if the cache is full
+     *
+     * @param uuid
+     * @param version version the JSON encodes
+     * @param json UTF-8 JSON - must not be modified afterwards
+     */
+    public void put(UUID uuid, long version, byte[] json) {
+        if (maxEntries < 1) {
+            return;
+        }
+        if (entries.put(uuid, new Entry(version, json)) == null && entries.size() > maxEntries) {
+            evict();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Advance the clock hand until the cache is back within bounds. Each entry read since the hand last passed it
+     * is spared once, so a full sweep always finds a victim.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // Another writer is already evicting - the cache may briefly run over its bound
+            return;
+        }
+        try {
+            while (entries.size() > maxEntries) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = entries.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<UUID, Entry> candidate = clockHand.next();
+                if (candidate.getValue().referenced) {
+                    candidate.getValue().referenced = false;
+                } else {
+                    clockHand.remove();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Encoded employee version
+     */
+    private static final class Entry {
+        private final long version;
+        private final byte[] json;
+        private volatile boolean referenced;
+
+        private Entry(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
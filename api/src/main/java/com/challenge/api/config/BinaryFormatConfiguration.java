@@ -0,0 +1,40 @@
+package com.challenge.api.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR and Smile message converters for the binary representations of the Employee API.
+ *
+ * <p>Both mappers are built from Spring Boot's Jackson builder, so they carry the same modules and spring.jackson.*
+ * settings as the JSON mapper and encode exactly the properties JSON does. Declared as beans, they replace the
+ * converters Spring MVC would otherwise create with default settings.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BinaryFormatConfiguration {
+
+    /**
+     * @param builder Spring Boot's Jackson builder, a fresh copy per injection point
+     * @return CBOR converter
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * @param builder Spring Boot's Jackson builder, a fresh copy per injection point
+     * @return Smile converter
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(new SmileFactory()).build());
+    }
+}
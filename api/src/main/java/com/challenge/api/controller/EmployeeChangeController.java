@@ -0,0 +1,178 @@
+package com.challenge.api.controller;
+
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.service.EmployeeChangeFeed;
+import com.challenge.api.service.EmployeeService;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-sent change feed - pushes employee creations and terminations as they are committed, so downstream systems
+ * follow the store instead of re-reading the whole directory
+ */
+@Controller
+@RequestMapping("/api/v1/employee")
+public class EmployeeChangeController {
+
+    /**
+     * Most changes taken from the feed per read
+     */
+    static final int MAX_CHANGES_PER_READ = 256;
+
+    private final EmployeeService employeeService;
+    private final Duration heartbeat;
+
+    /**
+     * Constructor
+     *
+     * @param employeeService
+     * @param heartbeat idle time after which a comment is sent, keeping proxies open and detecting gone clients
+     */
+    @Autowired
+    public EmployeeChangeController(
+            EmployeeService employeeService, @Value("${employee.changes.heartbeat:15s}") Duration heartbeat) {
+        this.employeeService = employeeService;
+        this.heartbeat = heartbeat;
+    }
+
+    /**
+     * Stream changes as server-sent events. Each event is named created or terminated, carries the change as JSON
+     * and has the id epoch-sequence. Browsers' EventSource resumes from the last id it saw by sending it as
+     * Last-Event-ID on reconnect; other clients may pass it as since. Without either the stream starts with the next
+     * change.
+     *
+     * <p>A client that resumes from a sequence the feed no longer holds - it fell a full ring behind, or the server
+     * restarted - first receives a reset event with the current sequence and store version. It must re-read the
+     * directory, then apply the changes that follow.
+     *
+     * <p>Each subscriber is served by its own virtual thread, which blocks on the feed and on the client's socket
+     * without holding a request or async pool thread.
+     *
+     * @param since id of the last event seen
+     * @param lastEventId id of the last event seen, sent by EventSource on reconnect - takes precedence over since
+     * @return event stream
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        EmployeeChangeFeed feed = employeeService.getChangeFeed();
+        long after = resumeAfter(feed, lastEventId != null ? lastEventId : since);
+
+        SseEmitter emitter = new SseEmitter();
+        Thread subscriber = Thread.ofVirtual()
+                .name("employee-changes-subscriber")
+                .unstarted(() -> stream(feed, after, emitter));
+        emitter.onCompletion(subscriber::interrupt);
+        emitter.onTimeout(subscriber::interrupt);
+        emitter.onError(failure -> subscriber.interrupt());
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * Send changes until the client goes away or the stream times out
+     *
+     * @param feed
+     * @param after last sequence the client has seen, or -1 if it must resync
+     * @param emitter
+     */
+    void stream(EmployeeChangeFeed feed, long after, SseEmitter emitter) {
+        try {
+            long cursor = after < 0 ? reset(feed, emitter) : after;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<EmployeeChange> changes = feed.readAfter(cursor, MAX_CHANGES_PER_READ);
+                if (changes == null) {
+                    cursor = reset(feed, emitter);
+                } else if (changes.isEmpty()) {
+                    awaitChange(feed, cursor, emitter);
+                } else {
+                    for (EmployeeChange change : changes) {
+                        emitter.send(SseEmitter.event()
+                                .id(eventId(feed, change.getSequence()))
+                                .name(change.getType().name().toLowerCase(Locale.ROOT))
+                                .data(change, MediaType.APPLICATION_JSON));
+                        cursor = change.getSequence();
+                    }
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client gone or stream completed - the container reports it to the emitter
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the next change, sending a heartbeat comment if none comes in time
+     */
+    private void awaitChange(EmployeeChangeFeed feed, long cursor, SseEmitter emitter)
+            throws IOException, InterruptedException {
+        try {
+            feed.awaitAfter(cursor).get(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Tell the client to resync, and continue from the feed's current sequence
+     *
+     * @return sequence to continue after
+     */
+    private long reset(EmployeeChangeFeed feed, SseEmitter emitter) throws IOException {
+        // Sequence before version, so the directory the client re-reads holds every change up to the sequence
+        long sequence = feed.getSequence();
+        long version = employeeService.getVersion();
+        emitter.send(SseEmitter.event()
+                .id(eventId(feed, sequence))
+                .name("reset")
+                .data(Map.of("sequence", sequence, "version", version), MediaType.APPLICATION_JSON));
+        return sequence;
+    }
+
+    /**
+     * @param feed
+     * @param id last event id seen - epoch-sequence, or a bare sequence of the current feed
+     * @return sequence to continue after, -1 if the id belongs to an earlier feed, or the current sequence if null
+     */
+    static long resumeAfter(EmployeeChangeFeed feed, String id) {
+        if (id == null || id.isBlank()) {
+            return feed.getSequence();
+        }
+        try {
+            int dash = id.indexOf('-');
+            if (dash < 0) {
+                return Long.parseLong(id.trim());
+            }
+            long epoch = Long.parseLong(id.substring(0, dash).trim());
+            long sequence = Long.parseLong(id.substring(dash + 1).trim());
+            return epoch == feed.getEpoch() ? sequence : -1;
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid change id: " + id);
+        }
+    }
+
+    private static String eventId(EmployeeChangeFeed feed, long sequence) {
+        return feed.getEpoch() + "-" + sequence;
+    }
+}
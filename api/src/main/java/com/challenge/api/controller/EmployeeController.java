@@ -1,17 +1,43 @@
 package com.challenge.api.controller;
 
+import com.challenge.api.cache.EmployeeDirectoryCache;
+import com.challenge.api.cache.EmployeeJsonCache;
+import com.challenge.api.dto.EmployeeJsonWriter;
 import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeSort;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.model.VersionedEmployee;
 import com.challenge.api.model.impl.EmployeeImpl;
 import com.challenge.api.service.EmployeeService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * Employee Controller Class
@@ -20,51 +46,475 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/employee")
 public class EmployeeController {
 
+    /**
+     * Page size when only a cursor is given
+     */
+    static final int DEFAULT_PAGE_SIZE = 100;
+    /**
+     * Largest page a client may request
+     */
+    static final int MAX_PAGE_SIZE = 1000;
+    /**
+     * Response header carrying the cursor for the next page
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    /**
+     * NDJSON export flushes after the first employee, then every this many
+     */
+    static final int NDJSON_FLUSH_INTERVAL = 256;
+    /**
+     * Largest batch accepted by the batch create endpoint
+     */
+    static final int MAX_BATCH_SIZE = 10_000;
+    /**
+     * Typeahead results when no limit is given
+     */
+    static final int DEFAULT_SEARCH_LIMIT = 10;
+    /**
+     * Most typeahead results a client may request
+     */
+    static final int MAX_SEARCH_LIMIT = 100;
+    /**
+     * HTML directory rows when no size is given
+     */
+    static final int DEFAULT_HTML_PAGE_SIZE = 50;
+    /**
+     * Most HTML directory rows on one page
+     */
+    static final int MAX_HTML_PAGE_SIZE = 500;
+    /**
+     * CBOR - binary JSON for service-to-service callers
+     */
+    public static final String APPLICATION_CBOR_VALUE = "application/cbor";
+    /**
+     * Smile - Jackson's binary JSON, with back-references for repeated names and values
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private static final MediaType APPLICATION_CBOR = MediaType.parseMediaType(APPLICATION_CBOR_VALUE);
+    private static final MediaType APPLICATION_SMILE = MediaType.parseMediaType(APPLICATION_SMILE_VALUE);
+
+    /**
+     * Formats the negotiated endpoints produce, in the order they are listed - JSON first, so it wins ties
+     */
+    private static final List<MediaType> FORMATS =
+            List.of(MediaType.APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE);
+
     private final EmployeeService employeeService;
 
+    private final ObjectMapper objectMapper;
+
+    private final EmployeeJsonCache jsonCache;
+
+    private final EmployeeDirectoryCache directoryCache;
+
+    /**
+     * Distinguishes this instance's ETags - store versions restart on recovery and differ between instances
+     */
+    private final String etagEpoch = Long.toString(System.currentTimeMillis(), 36);
+
     /**
      * Constructor
      *
      * @param employeeService
+     * @param objectMapper
+     * @param jsonCache
+     * @param directoryCache
      */
     @Autowired
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(
+            EmployeeService employeeService,
+            ObjectMapper objectMapper,
+            EmployeeJsonCache jsonCache,
+            EmployeeDirectoryCache directoryCache) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.jsonCache = jsonCache;
+        this.directoryCache = directoryCache;
     }
 
     /**
-     * Get All Employees in system
+     * Get All Employees in system - one page of the directory, in UUID order or sorted by a column. Only the page
+     * is materialized, and every page is a keyset page, so employees changed between pages never shift or repeat
+     * rows. UUID order walks the service's keyset index from the cursor, so a page costs O(log n + size). A sort
+     * walks the store once, keeping just the first size employees after the previous page's last sort key and UUID.
+     *
+     * <p>The page is rendered by Thymeleaf's MVC view, which writes the whole page to the response only once the
+     * template is processed. Its data-driven mode, which flushes rows as they are produced, exists only for the
+     * reactive view layer; since a page is at most MAX_HTML_PAGE_SIZE rows, buffering it costs little.
+     *
+     * @param size rows per page, clamped to 1..MAX_HTML_PAGE_SIZE
+     * @param sort optional column - name, email, job-title, salary, age or hire-date
+     * @param dir asc or desc
+     * @param cursor optional UUID to resume after in UUID order, taken from the previous page's Next link
+     * @param after optional sort cursor to resume after in sorted order, taken from the previous page's Next link
+     * @param model
+     * @return
      */
     @GetMapping(produces = "text/html")
-    public String getAllEmployeesHtml(Model model) {
-        List<Employee> employees = employeeService.getAllEmployees();
-        model.addAttribute("employees", employees);
+    public String getAllEmployeesHtml(
+            @RequestParam(defaultValue = "" + DEFAULT_HTML_PAGE_SIZE) int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "asc") String dir,
+            @RequestParam(required = false) UUID cursor,
+            @RequestParam(required = false) String after,
+            Model model) {
+        EmployeeSort order = sort == null || sort.isBlank() ? null : EmployeeSort.of(sort);
+        if (order == null && sort != null && !sort.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown sort: " + sort);
+        }
+        boolean descending = "desc".equalsIgnoreCase(dir);
+
+        long totalEmployees = employeeService.getStatistics().getHeadcount();
+        int pageSize = Math.max(1, Math.min(size, MAX_HTML_PAGE_SIZE));
+
+        if (order == null) {
+            EmployeePage keyset = employeeService.getEmployeesPage(cursor, pageSize);
+            model.addAttribute("employees", keyset.getEmployees());
+            model.addAttribute("cursor", cursor);
+            model.addAttribute("nextCursor", keyset.getNextCursor());
+        } else {
+            Employee position = after == null || after.isBlank() ? null : order.after(after);
+            List<Employee> employees;
+            try (Stream<Employee> all = employeeService.streamEmployees()) {
+                // One extra row tells whether there is a next page
+                employees = order.select(all, descending, position, pageSize + 1);
+            }
+            boolean hasMore = employees.size() > pageSize;
+            if (hasMore) {
+                employees = employees.subList(0, pageSize);
+            }
+            model.addAttribute("employees", employees);
+            model.addAttribute("after", position == null ? null : after);
+            model.addAttribute("nextAfter", hasMore ? order.cursor(employees.get(pageSize - 1)) : null);
+        }
+
+        model.addAttribute("totalEmployees", totalEmployees);
+        model.addAttribute("size", pageSize);
+        model.addAttribute("sort", order == null ? "" : order.name().toLowerCase(Locale.ROOT).replace('_', '-'));
+        model.addAttribute("dir", descending ? "desc" : "asc");
         model.addAttribute("title", "Employee Directory");
         return "employees"; // This will look for employees.html
     }
 
     /**
-     * JSON API - original endpoint (for API clients)
+     * JSON API - original endpoint (for API clients). The whole directory, unfiltered, is sent as JSON to clients
+     * accepting gzip from the directory cache: compressed once per store version and shared by every request until
+     * the next write, with an ETag of its own. Every other request is answered by getAllEmployeesJson.
+     *
+     * @param jobTitle optional filter, matched case-insensitively
+     * @param active optional filter - true for current employees, false for terminated
+     * @param limit optional page size, up to MAX_PAGE_SIZE
+     * @param cursor optional UUID to resume after, taken from a previous X-Next-Cursor
+     * @param range optional salary, age and hire date ranges
+     * @param ifNoneMatch optional ETags from a previous response
+     * @param accept optional media types the client accepts
+     * @param acceptEncoding optional content codings the client accepts
+     * @return
+     * @throws IOException
      */
-    @GetMapping(produces = "application/json")
+    @GetMapping(produces = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @ResponseBody
-    public List<Employee> getAllEmployeesJson() {
-        return employeeService.getAllEmployees();
+    public ResponseEntity<?> getAllEmployeesNegotiated(
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) UUID cursor,
+            @ModelAttribute EmployeeRangeQuery range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding)
+            throws IOException {
+        boolean wholeDirectory = jobTitle == null
+                && active == null
+                && limit == null
+                && cursor == null
+                && (range == null || range.isEmpty());
+        MediaType format = negotiate(accept);
+        if (wholeDirectory && acceptsGzip(acceptEncoding) && MediaType.APPLICATION_JSON.equals(format)) {
+            return getAllEmployeesGzip(ifNoneMatch);
+        }
+        return getAllEmployeesJson(jobTitle, active, limit, cursor, range, ifNoneMatch, format);
+    }
+
+    /**
+     * Whole directory as gzip-compressed JSON from the directory cache. The directory is encoded from a snapshot
+     * pinned at the version it is cached and tagged under, so the cached bytes and their ETag always name the same
+     * store version.
+     *
+     * @param ifNoneMatch optional ETags from a previous response
+     * @return
+     * @throws IOException
+     */
+    ResponseEntity<byte[]> getAllEmployeesGzip(String ifNoneMatch) throws IOException {
+        EmployeeSnapshot snapshot = employeeService.snapshot();
+        long version = snapshot.getVersion();
+        String etag = gzipEtag(version);
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        // Same bytes Jackson would write, without materializing the directory as a list first
+        byte[] gzip = directoryCache.get(version, out -> {
+            try (Stream<Employee> employees = snapshot.stream();
+                    JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                EmployeeJsonWriter.all().writeArray(generator, employees::iterator);
+            }
+        });
+        // Tomcat leaves a body alone once it carries a Content-Encoding, so it is not compressed twice
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(etag)
+                .body(gzip);
+    }
+
+    /**
+     * JSON API - original endpoint (for API clients). Passing limit and/or cursor returns a single page in UUID
+     * order; the cursor for the following page is sent in the X-Next-Cursor header, absent on the last page.
+     *
+     * <p>Salary, age and hire date ranges (minSalary, maxSalary, minAge, maxAge, hiredFrom, hiredTo - all inclusive,
+     * dates as ISO-8601 instants) are answered from sorted indexes and combine with each other and with jobTitle and
+     * active.
+     *
+     * <p>Served as CBOR or Smile instead of JSON when the Accept header asks for it.
+     *
+     * <p>Responses carry a strong ETag derived from the store version. A request whose If-None-Match still matches
+     * is answered 304 from the version alone, without loading or serializing any employee.
+     *
+     * @param jobTitle optional filter, matched case-insensitively
+     * @param active optional filter - true for current employees, false for terminated
+     * @param limit optional page size, up to MAX_PAGE_SIZE
+     * @param cursor optional UUID to resume after, taken from a previous X-Next-Cursor
+     * @param range optional salary, age and hire date ranges
+     * @param ifNoneMatch optional ETags from a previous response
+     * @return
+     */
+    public ResponseEntity<List<Employee>> getAllEmployeesJson(
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) UUID cursor,
+            @ModelAttribute EmployeeRangeQuery range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return getAllEmployeesJson(jobTitle, active, limit, cursor, range, ifNoneMatch, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Directory in the negotiated format. The ETag names the format as well as the store version, since the JSON,
+     * CBOR and Smile bodies of one URL differ - EmployeeFormatAdvice matches it to the converter Spring selects.
+     *
+     * @param format media type the body will be written as
+     * @return
+     */
+    ResponseEntity<List<Employee>> getAllEmployeesJson(
+            String jobTitle,
+            Boolean active,
+            Integer limit,
+            UUID cursor,
+            EmployeeRangeQuery range,
+            String ifNoneMatch,
+            MediaType format) {
+        boolean paged = limit != null || cursor != null;
+        boolean ranged = range != null && !range.isEmpty();
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (paged) {
+            if (jobTitle != null || active != null || ranged) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "Pagination cannot be combined with jobTitle, active or range filters");
+            }
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "Page limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+        }
+
+        long version = employeeService.getVersion();
+        String etag = etag(version, format);
+        if (matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        List<Employee> employees;
+        if (paged) {
+            EmployeePage page = employeeService.getEmployeesPage(cursor, pageSize);
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+            }
+            employees = page.getEmployees();
+        } else if (ranged) {
+            employees = employeeService.findEmployeesInRange(range).stream()
+                    .filter(e -> jobTitle == null || jobTitle.equalsIgnoreCase(e.getJobTitle()))
+                    .filter(e -> active == null || (e.getContractTerminationDate() == null) == active)
+                    .toList();
+        } else if (jobTitle != null) {
+            employees = employeeService.getEmployeesByJobTitle(jobTitle);
+            if (active != null) {
+                employees = employees.stream()
+                        .filter(e -> (e.getContractTerminationDate() == null) == active)
+                        .toList();
+            }
+        } else if (active != null) {
+            employees = active ? employeeService.getActiveEmployees() : employeeService.getTerminatedEmployees();
+        } else {
+            employees = employeeService.getAllEmployees();
+        }
+
+        // Only tag the body if no write landed while it was read, so an ETag always names exactly one body
+        if (employeeService.getVersion() == version) {
+            response.eTag(etag);
+        }
+        return response.body(employees);
+    }
+
+    /**
+     * JSON API with a sparse fieldset - the same selection, paging and ETags as getAllEmployeesJson, with only the
+     * selected properties written by the employee JSON writer
+     *
+     * @param jobTitle optional filter, matched case-insensitively
+     * @param active optional filter - true for current employees, false for terminated
+     * @param limit optional page size, up to MAX_PAGE_SIZE
+     * @param cursor optional UUID to resume after, taken from a previous X-Next-Cursor
+     * @param range optional salary, age and hire date ranges
+     * @param ifNoneMatch optional ETags from a previous response
+     * @param fields comma-separated property names, e.g. uuid,email,fullName
+     * @return
+     */
+    @GetMapping(produces = "application/json", params = "fields")
+    public ResponseEntity<StreamingResponseBody> getAllEmployeesJsonFields(
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) UUID cursor,
+            @ModelAttribute EmployeeRangeQuery range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam String fields) {
+        EmployeeJsonWriter writer = EmployeeJsonWriter.forFields(fields);
+        ResponseEntity<List<Employee>> response =
+                getAllEmployeesJson(jobTitle, active, limit, cursor, range, ifNoneMatch);
+        return project(response, employees -> generator -> writer.writeArray(generator, employees));
+    }
+
+    /**
+     * Typeahead search on full name, last name and email prefixes
+     *
+     * @param q prefix, matched case-insensitively
+     * @param limit optional result count, up to MAX_SEARCH_LIMIT
+     * @return
+     */
+    @GetMapping(value = "/search", produces = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @ResponseBody
+    public List<Employee> searchEmployeesJson(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        if (size < 1 || size > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Search limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return employeeService.searchEmployees(q, size);
+    }
+
+    /**
+     * Typeahead search with a sparse fieldset
+     *
+     * @param q prefix, matched case-insensitively
+     * @param limit optional result count, up to MAX_SEARCH_LIMIT
+     * @param fields comma-separated property names, e.g. uuid,email,fullName
+     * @return
+     */
+    @GetMapping(value = "/search", produces = "application/json", params = "fields")
+    public ResponseEntity<StreamingResponseBody> searchEmployeesJsonFields(
+            @RequestParam String q, @RequestParam(required = false) Integer limit, @RequestParam String fields) {
+        EmployeeJsonWriter writer = EmployeeJsonWriter.forFields(fields);
+        List<Employee> employees = searchEmployeesJson(q, limit);
+        return project(ResponseEntity.ok(employees), matches -> generator -> writer.writeArray(generator, matches));
+    }
+
+    /**
+     * Workforce statistics - read from aggregates maintained as employees are written, never from a scan
+     *
+     * @return
+     */
+    @GetMapping(
+            value = "/statistics",
+            produces = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @ResponseBody
+    public EmployeeStatistics getStatisticsJson() {
+        return employeeService.getStatistics();
+    }
+
+    /**
+     * NDJSON export - one employee per line, written to the response as the store is walked so server memory
+     * stays flat regardless of directory size
+     *
+     * @return
+     */
+    @GetMapping(produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> getAllEmployeesNdjson() {
+        return ndjson(null);
+    }
+
+    /**
+     * NDJSON export of selected properties only, written by the employee JSON writer
+     *
+     * @param fields comma-separated property names, e.g. uuid,email,fullName
+     * @return
+     */
+    @GetMapping(produces = "application/x-ndjson", params = "fields")
+    public ResponseEntity<StreamingResponseBody> getAllEmployeesNdjsonFields(@RequestParam String fields) {
+        return ndjson(EmployeeJsonWriter.forFields(fields));
+    }
+
+    /**
+     * @param projection writer for selected properties, or null to serialize employees whole with Jackson
+     * @return
+     */
+    private ResponseEntity<StreamingResponseBody> ndjson(EmployeeJsonWriter projection) {
+        // Lines are terminated and flushed by the export loop, not by Jackson after every value
+        ObjectWriter writer = objectMapper
+                .writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("");
+        StreamingResponseBody body = out -> {
+            try (Stream<Employee> employees = employeeService.streamEmployees();
+                    JsonGenerator generator = writer.createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                Iterator<Employee> iterator = employees.iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    if (projection == null) {
+                        writer.writeValue(generator, iterator.next());
+                    } else {
+                        projection.write(generator, iterator.next());
+                    }
+                    generator.writeRaw('\n');
+                    if (++written % NDJSON_FLUSH_INTERVAL == 1) {
+                        generator.flush();
+                    }
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
      * Get employee by their UUID (as extension in path)
      *
      * @param uuid
+     * @param ifNoneMatch optional ETags from a previous response
+     * @param accept optional media types the client accepts
      * @return
      */
     @GetMapping("/{uuid}")
-    public ResponseEntity<Employee> getEmployeeByUuid(@PathVariable UUID uuid) {
-        Employee employee = employeeService.getEmployeeByUuid(uuid);
-        if (employee == null) {
-            return ResponseEntity.notFound().build();
-        }
-        return ResponseEntity.ok(employee);
+    public ResponseEntity<Employee> getEmployeeByUuid(
+            @PathVariable UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return conditionalEmployee(uuid, ifNoneMatch, negotiate(accept));
     }
 
     /**
@@ -82,15 +532,267 @@ public class EmployeeController {
     }
 
     /**
-     * Get uuid JSON
+     * Get uuid JSON - written from the pre-encoded bytes in the JSON cache when the employee has not changed since
+     * it was last encoded
      *
      * @param uuid
+     * @param ifNoneMatch optional ETags from a previous response
      * @return
+     * @throws JsonProcessingException
      */
     @GetMapping(value = "/{uuid}", produces = "application/json")
     @ResponseBody
-    public Employee getEmployeeByUuidJson(@PathVariable UUID uuid) {
-        return employeeService.getEmployeeByUuid(uuid);
+    public ResponseEntity<byte[]> getEmployeeByUuidJson(
+            @PathVariable UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch)
+            throws JsonProcessingException {
+        long version = employeeService.getEmployeeVersion(uuid);
+        String etag = etag(version);
+        if (version >= 0 && matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        byte[] json = version >= 0 ? jsonCache.get(uuid, version) : null;
+        if (json != null) {
+            return response.eTag(etag).body(json);
+        }
+
+        Employee employee = employeeService.getEmployeeByUuid(uuid);
+        json = objectMapper.writeValueAsBytes(employee);
+        // Cache and tag only if the employee read is still the version looked up above
+        if (version >= 0 && employeeService.getEmployeeVersion(uuid) == version) {
+            jsonCache.put(uuid, version, json);
+            response.eTag(etag);
+        }
+        return response.body(json);
+    }
+
+    /**
+     * Get uuid JSON with a sparse fieldset - conditional like the full representation, but written by the employee
+     * JSON writer rather than served from the JSON cache
+     *
+     * @param uuid
+     * @param ifNoneMatch optional ETags from a previous response
+     * @param fields comma-separated property names, e.g. uuid,email,fullName
+     * @return
+     */
+    @GetMapping(value = "/{uuid}", produces = "application/json", params = "fields")
+    public ResponseEntity<StreamingResponseBody> getEmployeeByUuidJsonFields(
+            @PathVariable UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestParam String fields) {
+        EmployeeJsonWriter writer = EmployeeJsonWriter.forFields(fields);
+        return project(
+                conditionalEmployee(uuid, ifNoneMatch, MediaType.APPLICATION_JSON),
+                employee -> generator -> writer.write(generator, employee));
+    }
+
+    /**
+     * Re-render a response body through the employee JSON writer, keeping its status and headers
+     *
+     * @param response
+     * @param body writes the original body to a generator
+     * @return
+     */
+    private <T> ResponseEntity<StreamingResponseBody> project(ResponseEntity<T> response, Function<T, JsonBody> body) {
+        ResponseEntity.BodyBuilder projected =
+                ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders());
+        if (response.getBody() == null) {
+            return projected.build();
+        }
+        JsonBody json = body.apply(response.getBody());
+        return projected.contentType(MediaType.APPLICATION_JSON).body(out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                json.writeTo(generator);
+            }
+        });
+    }
+
+    /**
+     * Single employee with a strong ETag from its record version and the negotiated format - answered 304 from the
+     * version alone while If-None-Match still matches
+     *
+     * @param uuid
+     * @param ifNoneMatch
+     * @param format media type the body will be written as
+     * @return
+     */
+    private ResponseEntity<Employee> conditionalEmployee(UUID uuid, String ifNoneMatch, MediaType format) {
+        long version = employeeService.getEmployeeVersion(uuid);
+        String etag = etag(version, format);
+        if (version >= 0 && matchesAny(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        Employee employee = employeeService.getEmployeeByUuid(uuid);
+        if (employee == null) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (version >= 0 && employeeService.getEmployeeVersion(uuid) == version) {
+            response.eTag(etag);
+        }
+        return response.body(employee);
+    }
+
+    /**
+     * @param version store or employee version
+     * @return strong ETag of the JSON body, quoted
+     */
+    private String etag(long version) {
+        return etag(version, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * @param version store or employee version
+     * @param format media type of the body - JSON, CBOR or Smile
+     * @return strong ETag, quoted - the JSON body's with a suffix naming any other format, as gzipEtag does
+     */
+    private String etag(long version, MediaType format) {
+        return "\"" + etagEpoch + "-" + Long.toString(version, 36) + formatSuffix(format) + "\"";
+    }
+
+    /**
+     * ETag for the format a body is actually written in
+     *
+     * @param etag strong ETag of any format, quoted
+     * @param format media type of the body
+     * @return the same version's ETag for that format - unchanged for JSON and gzip-encoded JSON ETags
+     */
+    static String retag(String etag, MediaType format) {
+        String tag = etag.substring(0, etag.length() - 1);
+        for (MediaType other : FORMATS) {
+            String suffix = formatSuffix(other);
+            if (!suffix.isEmpty() && tag.endsWith(suffix)) {
+                tag = tag.substring(0, tag.length() - suffix.length());
+            }
+        }
+        return tag + formatSuffix(format) + "\"";
+    }
+
+    /**
+     * @param format media type of the body
+     * @return whether the body is CBOR or Smile rather than JSON
+     */
+    static boolean isBinaryFormat(MediaType format) {
+        return !formatSuffix(format).isEmpty();
+    }
+
+    /**
+     * @param format media type of the body
+     * @return ETag suffix naming CBOR or Smile, empty for JSON
+     */
+    private static String formatSuffix(MediaType format) {
+        if (APPLICATION_CBOR.equalsTypeAndSubtype(format)) {
+            return "-cbor";
+        }
+        if (APPLICATION_SMILE.equalsTypeAndSubtype(format)) {
+            return "-smile";
+        }
+        return "";
+    }
+
+    /**
+     * @param version store version
+     * @return strong ETag of the gzip-encoded directory, quoted - distinct from the identity-encoded body's
+     */
+    private String gzipEtag(long version) {
+        return "\"" + etagEpoch + "-" + Long.toString(version, 36) + "-gzip\"";
+    }
+
+    /**
+     * @param acceptEncoding header value - comma-separated codings with optional q weights
+     * @return true if gzip is acceptable, by name or through *
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzip = -1;
+        double any = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equalsIgnoreCase("x-gzip")) {
+                gzip = Math.max(gzip, quality(parts));
+            } else if (name.equals("*")) {
+                any = quality(parts);
+            }
+        }
+        // A coding named outright overrides the wildcard
+        return gzip >= 0 ? gzip > 0 : any > 0;
+    }
+
+    /**
+     * @param parts coding name followed by its parameters
+     * @return q weight, 1 if absent, 0 if unreadable
+     */
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * Format content negotiation picks among JSON, CBOR and Smile for an Accept header - JSON is listed first, so it
+     * wins whenever the client's most preferred acceptable type covers it. As in Spring MVC, higher q weights come
+     * first, then concrete types before wildcards
+     *
+     * @param accept header value, or null
+     * @return JSON, CBOR or Smile - JSON if none is acceptable, which Spring MVC answers 406 anyway
+     */
+    static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue)
+                .reversed()
+                .thenComparingInt(type -> type.isWildcardType() ? 2 : type.isWildcardSubtype() ? 1 : 0));
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() <= 0) {
+                break;
+            }
+            for (MediaType format : FORMATS) {
+                if (type.isCompatibleWith(format)) {
+                    return format;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires
+     *
+     * @param ifNoneMatch header value - comma-separated ETags or *
+     * @param etag current ETag
+     * @return true if any listed ETag matches
+     */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals("*") || candidate.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -126,12 +828,14 @@ public class EmployeeController {
     }
 
     /**
-     * Create employee JSON
+     * Create employee JSON - CBOR and Smile bodies are accepted and returned too
      *
      * @param request
      * @return
      */
-    @PostMapping(consumes = "application/json", produces = "application/json")
+    @PostMapping(
+            consumes = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
     @ResponseBody
     public ResponseEntity<Employee> createEmployeeJson(@RequestBody EmployeeRequest request) {
         Employee employee = convertToEmployee(request);
@@ -139,6 +843,116 @@ public class EmployeeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEmployee);
     }
 
+    /**
+     * Batch create JSON - items are created, or reported as conflict/invalid, individually. CBOR and Smile bodies
+     * are accepted and returned too.
+     *
+     * @param requests
+     * @return per-item results, in request order
+     */
+    @PostMapping(
+            value = "/batch",
+            consumes = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+            produces = {"application/json", APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    @ResponseBody
+    public ResponseEntity<List<EmployeeCreateResult>> createEmployeesJson(
+            @RequestBody List<EmployeeRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain at least one employee");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch size must not exceed " + MAX_BATCH_SIZE);
+        }
+
+        List<Employee> employees = new ArrayList<>(requests.size());
+        for (EmployeeRequest request : requests) {
+            employees.add(request == null ? null : convertToEmployee(request));
+        }
+        return ResponseEntity.ok(employeeService.createEmployees(employees));
+    }
+
+    /**
+     * Change an employee's salary. Send the employee's ETag as If-Match to apply the change only if the employee has
+     * not been written since it was read; a stale ETag is answered 412.
+     *
+     * @param uuid
+     * @param ifMatch optional ETags of the employee as read
+     * @param request
+     * @return employee as now stored, with its ETag
+     */
+    @PatchMapping(
+            value = "/{uuid}",
+            consumes = {"application/json", "application/merge-patch+json"},
+            produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<Employee> updateEmployeeJson(
+            @PathVariable UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody EmployeePatchRequest request) {
+        if (request == null || request.getSalary() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Salary is required");
+        }
+        return written(employeeService.updateSalary(uuid, request.getSalary(), expectedVersion(uuid, ifMatch)));
+    }
+
+    /**
+     * Terminate an employee's contract - conditional on If-Match like updateEmployeeJson
+     *
+     * @param uuid
+     * @param ifMatch optional ETags of the employee as read
+     * @param date optional contract end, ISO-8601 - now if absent
+     * @return employee as now stored, with its ETag
+     */
+    @PostMapping(value = "/{uuid}/terminate", produces = "application/json")
+    @ResponseBody
+    public ResponseEntity<Employee> terminateEmployeeJson(
+            @PathVariable UUID uuid,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestParam(required = false) Instant date) {
+        return written(employeeService.terminateEmployee(uuid, date, expectedVersion(uuid, ifMatch)));
+    }
+
+    /**
+     * Employee as a write left it, tagged with the version it was committed at - not re-read, so a later write
+     * cannot slip in between
+     *
+     * @param employee as returned by the service
+     * @return
+     */
+    private ResponseEntity<Employee> written(Employee employee) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (employee instanceof VersionedEmployee versioned) {
+            response.eTag(etag(versioned.version()));
+        }
+        return response.body(employee);
+    }
+
+    /**
+     * Employee version named by an If-Match header - compared strongly, as If-Match requires
+     *
+     * @param uuid
+     * @param ifMatch header value - comma-separated ETags or *
+     * @return version named by a listed ETag, or -1 if there is no header, it is * or the employee does not exist
+     */
+    private long expectedVersion(UUID uuid, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return -1;
+        }
+        long version = employeeService.getEmployeeVersion(uuid);
+        if (version < 0 || ifMatch.trim().equals("*")) {
+            return -1;
+        }
+        for (String candidate : ifMatch.split(",")) {
+            for (MediaType format : FORMATS) {
+                // Any format's ETag names the same version
+                if (candidate.trim().equals(etag(version, format))) {
+                    return version;
+                }
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "Employee " + uuid + " has changed");
+    }
+
     /**
      * Form submission endpoint
      *
@@ -174,30 +988,30 @@ public class EmployeeController {
      * @return
      */
     Employee convertToEmployee(EmployeeRequest request) {
-        EmployeeImpl employee = new EmployeeImpl();
+        return request.toEmployee();
+    }
 
-        // Required fields
-        employee.setFirstName(request.getFirstName());
-        employee.setEmail(request.getEmail());
+    /**
+     * Response body written to a JSON generator
+     */
+    @FunctionalInterface
+    private interface JsonBody {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
 
-        // Optional fields
-        if (request.getLastName() != null) {
-            employee.setLastName(request.getLastName());
-        }
-        if (request.getJobTitle() != null) {
-            employee.setJobTitle(request.getJobTitle());
-        }
-        if (request.getSalary() != null) {
-            employee.setSalary(request.getSalary());
-        }
-        if (request.getAge() != null) {
-            employee.setAge(request.getAge());
-        }
-        if (request.getContractHireDate() != null) {
-            employee.setContractHireDate(request.getContractHireDate());
+    /**
+     * Fields a PATCH may change
+     */
+    public static class EmployeePatchRequest {
+        private Integer salary;
+
+        public Integer getSalary() {
+            return salary;
         }
 
-        return employee;
+        public void setSalary(Integer salary) {
+            this.salary = salary;
+        }
     }
 
     // ============================
@@ -213,6 +1027,38 @@ public class EmployeeController {
         private Integer age;
         private Instant contractHireDate;
 
+        /**
+         * Creates concrete EmployeeImpl from DTO
+         *
+         * @return
+         */
+        public Employee toEmployee() {
+            EmployeeImpl employee = new EmployeeImpl();
+
+            // Required fields
+            employee.setFirstName(firstName);
+            employee.setEmail(email);
+
+            // Optional fields
+            if (lastName != null) {
+                employee.setLastName(lastName);
+            }
+            if (jobTitle != null) {
+                employee.setJobTitle(jobTitle);
+            }
+            if (salary != null) {
+                employee.setSalary(salary);
+            }
+            if (age != null) {
+                employee.setAge(age);
+            }
+            if (contractHireDate != null) {
+                employee.setContractHireDate(contractHireDate);
+            }
+
+            return employee;
+        }
+
         public String getFirstName() {
             return firstName;
         }
@@ -0,0 +1,121 @@
+package com.challenge.api.controller;
+
+import com.challenge.api.exporter.EmployeeExporter;
+import com.challenge.api.model.EmployeeExport;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Full store exports for nightly jobs - request an export of the current version, then download the finished file
+ */
+@Controller
+@RequestMapping("/api/v1/employee")
+public class EmployeeExportController {
+
+    /**
+     * Request attributes by which Tomcat sends a file straight from the page cache to the socket
+     */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final EmployeeExporter exporter;
+
+    /**
+     * Constructor
+     *
+     * @param exporter
+     */
+    @Autowired
+    public EmployeeExportController(EmployeeExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    /**
+     * Export every employee as of the current store version. The export is written on the exporter's thread, not
+     * the request thread; an unchanged version returns the export already written.
+     *
+     * @param format csv (the default) or binary
+     * @return the export, with its download URL as the Location
+     */
+    @PostMapping(value = "/export", produces = "application/json")
+    @ResponseBody
+    public CompletableFuture<ResponseEntity<EmployeeExport>> createExport(
+            @RequestParam(defaultValue = "csv") String format) {
+        return exporter.export(EmployeeExport.Format.of(format)).thenApply(EmployeeExportController::created);
+    }
+
+    private static ResponseEntity<EmployeeExport> created(EmployeeExport export) {
+        return ResponseEntity.created(URI.create("/api/v1/employee/export/" + export.getName())).body(export);
+    }
+
+    /**
+     * Download a finished export. Where the connector supports it, Tomcat sends the file with sendfile - the kernel
+     * copies it from the page cache to the socket on Tomcat's poller, so neither the heap nor a request thread is
+     * held for the transfer. Otherwise the file is streamed with FileChannel.transferTo on an async thread.
+     *
+     * @param name export file name, as returned when the export was made
+     * @param request
+     * @return
+     * @throws IOException
+     */
+    @GetMapping("/export/{name}")
+    public ResponseEntity<StreamingResponseBody> downloadExport(@PathVariable String name, HttpServletRequest request)
+            throws IOException {
+        Path file = exporter.file(name);
+        long size = Files.size(file);
+        EmployeeExport.Format format = EmployeeExport.Format.of(name.substring(name.lastIndexOf('.') + 1));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .contentLength(size)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(name).build().toString());
+
+        if ("GET".equals(request.getMethod()) && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return response.build();
+        }
+        return response.body(out -> transfer(file, size, out));
+    }
+
+    private static void transfer(Path file, long size, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = 0;
+            while (position < size) {
+                long sent = channel.transferTo(position, size - position, target);
+                if (sent <= 0) {
+                    throw new EOFException("Export " + file.getFileName() + " ended at " + position + " bytes");
+                }
+                position += sent;
+            }
+        }
+    }
+}
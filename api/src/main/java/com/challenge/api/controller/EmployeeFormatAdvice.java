@@ -0,0 +1,59 @@
+package com.challenge.api.controller;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Marks Employee Controller bodies as negotiated on the Accept header, so caches keep the JSON, CBOR and Smile
+ * representations of a URL apart. This is the only place Vary: Accept is set.
+ *
+ * <p>Each format has its own strong ETag - the JSON body's with a -cbor or -smile suffix. The controller picks the
+ * suffix from the Accept header before Spring chooses a converter, so the ETag is matched here to the content type
+ * actually written. A body therefore always carries its own format's ETag, and a client revalidating with it is
+ * answered 304 only for that format.
+ *
+ * <p>Sparse fieldsets are only written as JSON. A request with fields that negotiates CBOR or Smile reaches a
+ * full-representation handler instead of a fields one, so it is refused with 406 rather than answered without its
+ * fields applied.
+ */
+@ControllerAdvice(assignableTypes = EmployeeController.class)
+public class EmployeeFormatAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (EmployeeController.isBinaryFormat(selectedContentType)
+                && UriComponentsBuilder.fromUri(request.getURI())
+                        .build()
+                        .getQueryParams()
+                        .containsKey("fields")) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE, "fields is only supported for JSON");
+        }
+        HttpHeaders headers = response.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String etag = headers.getETag();
+        if (etag != null) {
+            headers.set(HttpHeaders.ETAG, EmployeeController.retag(etag, selectedContentType));
+        }
+        return body;
+    }
+}
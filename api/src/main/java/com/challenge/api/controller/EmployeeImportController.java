@@ -0,0 +1,55 @@
+package com.challenge.api.controller;
+
+import com.challenge.api.importer.EmployeeCsvImporter;
+import com.challenge.api.model.EmployeeImportResult;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * Bulk import endpoint for migrations - one CSV upload instead of a create per employee
+ */
+@Controller
+@RequestMapping("/api/v1/employee")
+public class EmployeeImportController {
+
+    private final EmployeeCsvImporter importer;
+
+    /**
+     * Constructor
+     *
+     * @param importer
+     */
+    @Autowired
+    public EmployeeImportController(EmployeeCsvImporter importer) {
+        this.importer = importer;
+    }
+
+    /**
+     * Import a CSV upload. The body is spooled to a temporary file so it can be memory-mapped and parsed in
+     * parallel chunks; rows are validated and created as by the batch endpoint. See EmployeeCsvImporter for the
+     * file format.
+     *
+     * @param body CSV with a header line
+     * @return counts and the first rejected rows, by line
+     * @throws IOException
+     */
+    @PostMapping(value = "/import", consumes = "text/csv", produces = "application/json")
+    @ResponseBody
+    public EmployeeImportResult importEmployeesCsv(InputStream body) throws IOException {
+        Path file = Files.createTempFile("employee-import-", ".csv");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            return importer.importCsv(file, null);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.challenge.api.dto;
+
+import com.challenge.api.model.Employee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Employee JSON writer for sparse fieldsets - writes the selected properties of each employee straight to a
+ * streaming generator, in the same names, order and formats as the Jackson-serialized Employee.
+ *
+ * <p>Nothing is resolved per employee: the projection is a bit mask fixed when the writer is built, property names
+ * are pre-encoded once, and UUIDs and dates are formatted into a scratch buffer rather than through toString. Strings
+ * and numbers go to the generator's own buffer. A writer holds that scratch buffer, so use one per response.
+ */
+public final class EmployeeJsonWriter {
+
+    /**
+     * Employee JSON properties, in serialization order
+     */
+    public enum Field {
+        UUID("uuid"),
+        FIRST_NAME("firstName"),
+        LAST_NAME("lastName"),
+        FULL_NAME("fullName"),
+        SALARY("salary"),
+        AGE("age"),
+        JOB_TITLE("jobTitle"),
+        EMAIL("email"),
+        CONTRACT_HIRE_DATE("contractHireDate"),
+        CONTRACT_TERMINATION_DATE("contractTerminationDate"),
+        ACTIVE("active");
+
+        private final SerializedString name;
+
+        Field(String name) {
+            this.name = new SerializedString(name);
+        }
+
+        /**
+         * @return JSON property name
+         */
+        public String jsonName() {
+            return name.getValue();
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+    private static final int ALL = (1 << FIELDS.length) - 1;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    /**
+     * Days from 0000-03-01 to 1970-01-01, for the civil-from-days conversion
+     */
+    private static final long DAYS_0000_TO_1970 = 719_468;
+
+    private final int fields;
+    /**
+     * Room for a UUID (36 chars) or an instant up to year 9999 with nanoseconds (30 chars)
+     */
+    private final char[] scratch = new char[36];
+
+    private EmployeeJsonWriter(int fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Writer for every property
+     *
+     * @return writer
+     */
+    public static EmployeeJsonWriter all() {
+        return new EmployeeJsonWriter(ALL);
+    }
+
+    /**
+     * Writer for a fields= parameter
+     *
+     * @param fields comma-separated JSON property names; null or blank selects every property
+     * @return writer
+     */
+    public static EmployeeJsonWriter forFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return all();
+        }
+        int mask = 0;
+        for (String name : fields.split(",")) {
+            Field field = field(name.trim());
+            if (field == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown employee field: " + name.trim());
+            }
+            mask |= 1 << field.ordinal();
+        }
+        return new EmployeeJsonWriter(mask);
+    }
+
+    /**
+     * Write one employee as a JSON object
+     *
+     * @param generator
+     * @param employee
+     * @throws IOException
+     */
+    public void write(JsonGenerator generator, Employee employee) throws IOException {
+        generator.writeStartObject();
+        for (int remaining = fields; remaining != 0; remaining &= remaining - 1) {
+            Field field = FIELDS[Integer.numberOfTrailingZeros(remaining)];
+            generator.writeFieldName(field.name);
+            switch (field) {
+                case UUID -> writeUuid(generator, employee.getUuid());
+                case FIRST_NAME -> generator.writeString(employee.getFirstName());
+                case LAST_NAME -> generator.writeString(employee.getLastName());
+                case FULL_NAME -> generator.writeString(employee.getFullName());
+                case SALARY -> writeInteger(generator, employee.getSalary());
+                case AGE -> writeInteger(generator, employee.getAge());
+                case JOB_TITLE -> generator.writeString(employee.getJobTitle());
+                case EMAIL -> generator.writeString(employee.getEmail());
+                case CONTRACT_HIRE_DATE -> writeInstant(generator, employee.getContractHireDate());
+                case CONTRACT_TERMINATION_DATE -> writeInstant(generator, employee.getContractTerminationDate());
+                case ACTIVE -> generator.writeBoolean(employee.getContractTerminationDate() == null);
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write employees as a JSON array
+     *
+     * @param generator
+     * @param employees
+     * @throws IOException
+     */
+    public void writeArray(JsonGenerator generator, Iterable<? extends Employee> employees) throws IOException {
+        generator.writeStartArray();
+        for (Employee employee : employees) {
+            write(generator, employee);
+        }
+        generator.writeEndArray();
+    }
+
+    private static Field field(String name) {
+        for (Field field : FIELDS) {
+            if (field.jsonName().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    private void writeUuid(JsonGenerator generator, UUID uuid) throws IOException {
+        if (uuid == null) {
+            generator.writeNull();
+            return;
+        }
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        hex(msb >>> 32, 8, 0);
+        scratch[8] = '-';
+        hex(msb >>> 16, 4, 9);
+        scratch[13] = '-';
+        hex(msb, 4, 14);
+        scratch[18] = '-';
+        hex(lsb >>> 48, 4, 19);
+        scratch[23] = '-';
+        hex(lsb, 12, 24);
+        generator.writeString(scratch, 0, 36);
+    }
+
+    /**
+     * Write an instant as ISO-8601 in UTC, matching Instant.toString - fractions in groups of three digits, trailing
+     * zero groups dropped
+     */
+    private void writeInstant(JsonGenerator generator, Instant instant) throws IOException {
+        if (instant == null) {
+            generator.writeNull();
+            return;
+        }
+        long epochDay = Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(instant.getEpochSecond(), SECONDS_PER_DAY);
+
+        // Civil date from days since 0000-03-01, in 400-year eras
+        long days = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(days, 146_097);
+        long dayOfEra = days - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        int month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            // Signed and five-digit years are rare enough to leave to the JDK
+            generator.writeString(instant.toString());
+            return;
+        }
+
+        decimal((int) year, 4, 0);
+        scratch[4] = '-';
+        decimal(month, 2, 5);
+        scratch[7] = '-';
+        decimal(day, 2, 8);
+        scratch[10] = 'T';
+        decimal(secondOfDay / 3600, 2, 11);
+        scratch[13] = ':';
+        decimal(secondOfDay / 60 % 60, 2, 14);
+        scratch[16] = ':';
+        decimal(secondOfDay % 60, 2, 17);
+        int length = 19;
+        int nanos = instant.getNano();
+        if (nanos > 0) {
+            scratch[length++] = '.';
+            if (nanos % 1_000_000 == 0) {
+                decimal(nanos / 1_000_000, 3, length);
+                length += 3;
+            } else if (nanos % 1000 == 0) {
+                decimal(nanos / 1000, 6, length);
+                length += 6;
+            } else {
+                decimal(nanos, 9, length);
+                length += 9;
+            }
+        }
+        scratch[length++] = 'Z';
+        generator.writeString(scratch, 0, length);
+    }
+
+    private void hex(long value, int digits, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            scratch[i] = Character.forDigit((int) (value & 0xF), 16);
+            value >>>= 4;
+        }
+    }
+
+    private void decimal(int value, int digits, int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            scratch[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.challenge.api.exporter;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeExport;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeSnapshotExpiredException;
+import com.challenge.api.persistence.EmployeeSnapshotFile;
+import com.challenge.api.service.EmployeeService;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Full exports of the employee store for nightly jobs, written to files so they can be downloaded without walking
+ * the store or encoding anything per request.
+ *
+ * <p>An export walks one store snapshot, so it holds every employee as of a single version however many writes land
+ * while it is written. Files are named for the format and version, written to a temporary file and atomically
+ * renamed, so an export that exists under its final name is complete. Asking again while the version is unchanged
+ * returns the finished file. Exports are written one at a time on a background thread; the current and previous
+ * export of each format are kept, so a download of the previous one is not cut short by a newer export.
+ *
+ * <p>CSV exports hold the columns the CSV importer reads, so an export can be imported elsewhere as it is. Binary
+ * exports are in the store's snapshot format and can be read back with EmployeeSnapshotFile.load.
+ */
+@Component
+public class EmployeeExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeExporter.class);
+
+    private static final Pattern EXPORT_NAME = Pattern.compile("employees-(\\d{20})\\.(csv|bin)");
+    static final String CSV_HEADER =
+            "uuid,firstName,lastName,salary,age,jobTitle,email,contractHireDate,contractTerminationDate\n";
+    private static final int WRITE_BUFFER_CHARS = 64 * 1024;
+    /**
+     * Snapshots an export is attempted from before it gives up
+     */
+    private static final int EXPORT_ATTEMPTS = 3;
+
+    private final EmployeeService employeeService;
+    private final Path directory;
+    private final ExecutorService executor;
+    /**
+     * Latest finished export of each format
+     */
+    private final Map<EmployeeExport.Format, EmployeeExport> latest = new ConcurrentHashMap<>();
+    /**
+     * Export of each format replaced by the latest one, kept for downloads already under way
+     */
+    private final Map<EmployeeExport.Format, EmployeeExport> previous = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param employeeService
+     * @param directory directory holding export files
+     */
+    @Autowired
+    public EmployeeExporter(
+            EmployeeService employeeService, @Value("${employee.export.directory:exports}") String directory) {
+        this.employeeService = employeeService;
+        this.directory = Path.of(directory);
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "employee-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Export the store as of its current version, or return the finished export if the version is unchanged
+     *
+     * @param format file format
+     * @return future completed once the export file is complete
+     */
+    public CompletableFuture<EmployeeExport> export(EmployeeExport.Format format) {
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return exportSnapshot(format);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                executor);
+    }
+
+    /**
+     * @param name export file name
+     * @return the export file
+     * @throws ResponseStatusException 404 if no such export exists
+     */
+    public Path file(String name) {
+        Matcher matcher = EXPORT_NAME.matcher(name);
+        Path file = matcher.matches() ? directory.resolve(name) : null;
+        if (file == null || !Files.isRegularFile(file)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Export not found");
+        }
+        return file;
+    }
+
+    /**
+     * Stop taking exports - one being written is left to finish
+     */
+    @PreDestroy
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Export the latest snapshot, taking a newer one if an employee is updated so often during the write that the
+     * snapshot expires
+     */
+    private EmployeeExport exportSnapshot(EmployeeExport.Format format) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return exportSnapshot(format, employeeService.snapshot());
+            } catch (EmployeeSnapshotExpiredException e) {
+                if (attempt == EXPORT_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private EmployeeExport exportSnapshot(EmployeeExport.Format format, EmployeeSnapshot snapshot)
+            throws IOException {
+        EmployeeExport current = latest.get(format);
+        if (current != null
+                && current.getVersion() == snapshot.getVersion()
+                && Files.isRegularFile(directory.resolve(current.getName()))) {
+            return current;
+        }
+
+        long started = System.nanoTime();
+        String name = String.format("employees-%020d.%s", snapshot.getVersion(), format.getExtension());
+        Path target = directory.resolve(name);
+        Files.createDirectories(directory);
+        long count;
+        try (Stream<Employee> employees = snapshot.stream()) {
+            count = switch (format) {
+                case CSV -> writeCsv(target, employees.iterator());
+                case BINARY -> EmployeeSnapshotFile.write(target, employees.iterator());
+            };
+        } catch (EmployeeSnapshotExpiredException e) {
+            Files.deleteIfExists(target.resolveSibling(target.getFileName() + ".tmp"));
+            throw e;
+        }
+        EmployeeExport export = new EmployeeExport(name, format, snapshot.getVersion(), count, Files.size(target));
+
+        if (current != null && !current.getName().equals(name)) {
+            previous.put(format, current);
+        }
+        latest.put(format, export);
+        deleteStale(format);
+        log.info(
+                "Export {} of {} employees written in {} ms",
+                name,
+                count,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return export;
+    }
+
+    /**
+     * Write employees as CSV to a temporary file and rename it into place
+     *
+     * @return number of employees written
+     */
+    private static long writeCsv(Path target, Iterator<Employee> employees) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(
+                temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8), WRITE_BUFFER_CHARS);
+            out.write(CSV_HEADER);
+            while (employees.hasNext()) {
+                Employee employee = employees.next();
+                field(out, employee.getUuid() == null ? null : employee.getUuid().toString());
+                out.write(',');
+                field(out, employee.getFirstName());
+                out.write(',');
+                field(out, employee.getLastName());
+                out.write(',');
+                field(out, employee.getSalary());
+                out.write(',');
+                field(out, employee.getAge());
+                out.write(',');
+                field(out, employee.getJobTitle());
+                out.write(',');
+                field(out, employee.getEmail());
+                out.write(',');
+                field(out, employee.getContractHireDate());
+                out.write(',');
+                field(out, employee.getContractTerminationDate());
+                out.write('\n');
+                count++;
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    private static void field(Writer out, Integer value) throws IOException {
+        if (value != null) {
+            out.write(Integer.toString(value));
+        }
+    }
+
+    private static void field(Writer out, Instant value) throws IOException {
+        if (value != null) {
+            out.write(value.toString());
+        }
+    }
+
+    /**
+     * Write a text field, quoted only if it holds a separator, a quote or a line break
+     */
+    private static void field(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * Delete exports of a format other than its latest and previous one, including any left by an earlier run
+     */
+    private void deleteStale(EmployeeExport.Format format) throws IOException {
+        EmployeeExport keep = previous.get(format);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                Matcher matcher = EXPORT_NAME.matcher(name);
+                if (matcher.matches()
+                        && matcher.group(2).equals(format.getExtension())
+                        && !name.equals(latest.get(format).getName())
+                        && (keep == null || !name.equals(keep.getName()))) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,614 @@
+package com.challenge.api.importer;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeeImportRejection;
+import com.challenge.api.model.EmployeeImportResult;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.service.EmployeeService;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Bulk employee import from CSV files, for migrations too large to create employee by employee.
+ *
+ * <p>The file is memory-mapped in chunks of about a megabyte, cut at line breaks between rows, and chunks are parsed on
+ * a worker per core. Finding a cut means counting quotes from the start of the chunk, so the calling thread reads the
+ * file once while the workers parse. Each worker creates its rows through the service's batch create, so rows are
+ * validated by the same rules as a single create and duplicates - within the file or against the store - are rejected
+ * as conflicts. At most two chunks per worker are in flight and results are taken in file order, so memory stays flat
+ * however large the file, and rejections are reported in order with their line numbers.
+ *
+ * <p>The first line is a header naming the columns, in any order: uuid, firstName, lastName, salary, age, jobTitle,
+ * email, contractHireDate and contractTerminationDate (case, underscores and hyphens ignored). Other columns, such as
+ * fullName or active, are skipped. Fields may be quoted, with "" for a quote inside, and quoted fields may span lines -
+ * as the exporter writes names holding line breaks. Empty fields are absent values; dates are ISO-8601 instants or
+ * plain dates, taken as midnight UTC.
+ */
+@Component
+public class EmployeeCsvImporter {
+
+    /**
+     * Bytes mapped and parsed per task, rounded up to the end of a line
+     */
+    static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+    /**
+     * Rows per batch create
+     */
+    static final int BATCH_SIZE = 1000;
+    /**
+     * Rejections kept in the import result - every rejection still goes to the report
+     */
+    static final int MAX_KEPT_REJECTIONS = 1000;
+
+    private static final int SCAN_BLOCK = 8 * 1024;
+    /**
+     * Bytes a quoted field may run past a chunk's target end before the quote is taken as unterminated
+     */
+    private static final int MAX_ROW_BYTES = DEFAULT_CHUNK_BYTES;
+
+    /**
+     * Importable columns, by their normalized header name
+     */
+    private enum Column {
+        UUID("uuid"),
+        FIRST_NAME("firstname"),
+        LAST_NAME("lastname"),
+        SALARY("salary"),
+        AGE("age"),
+        JOB_TITLE("jobtitle"),
+        EMAIL("email"),
+        CONTRACT_HIRE_DATE("contracthiredate"),
+        CONTRACT_TERMINATION_DATE("contractterminationdate");
+
+        private final String header;
+
+        Column(String header) {
+            this.header = header;
+        }
+    }
+
+    private final EmployeeService employeeService;
+    private final int chunkBytes;
+    private final int parallelism;
+
+    /**
+     * Constructor
+     *
+     * @param employeeService
+     */
+    @Autowired
+    public EmployeeCsvImporter(EmployeeService employeeService) {
+        this(employeeService, DEFAULT_CHUNK_BYTES, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param employeeService
+     * @param chunkBytes bytes parsed per task
+     * @param parallelism worker threads
+     */
+    EmployeeCsvImporter(EmployeeService employeeService, int chunkBytes, int parallelism) {
+        this.employeeService = employeeService;
+        this.chunkBytes = chunkBytes;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Import every row of a CSV file
+     *
+     * @param file UTF-8 CSV with a header line
+     * @param report receives every rejected row, in file order, on the calling thread - may be null
+     * @return counts and the first rejections
+     * @throws IOException if the file cannot be read
+     */
+    public EmployeeImportResult importCsv(Path file, Consumer<EmployeeImportRejection> report) throws IOException {
+        long started = System.nanoTime();
+        Tally tally = new Tally(report);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long headerEnd = rowEnd(channel, 0, 0, size);
+            Header columns = Header.of(header(channel, headerEnd));
+
+            ExecutorService workers = Executors.newFixedThreadPool(parallelism);
+            try {
+                Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+                for (long start = headerEnd; start < size; ) {
+                    long chunkStart = start;
+                    long chunkEnd = rowEnd(channel, start, Math.min(size, start + chunkBytes) - 1, size);
+                    if (inFlight.size() == 2 * parallelism) {
+                        tally.add(await(inFlight.poll()));
+                    }
+                    inFlight.add(workers.submit(() -> importChunk(channel, chunkStart, chunkEnd, columns)));
+                    start = chunkEnd;
+                }
+                while (!inFlight.isEmpty()) {
+                    tally.add(await(inFlight.poll()));
+                }
+            } finally {
+                // Only chunks still running after a failure are interrupted - on success every task is done
+                workers.shutdownNow();
+            }
+        }
+        return tally.result((System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Parse one chunk and create its rows in batches
+     *
+     * @param channel
+     * @param start first byte, at the start of a row
+     * @param end byte after the chunk's last row break, or end of file
+     * @param columns header of the file
+     * @return counts and rejections, with lines relative to the chunk
+     * @throws IOException
+     */
+    private ChunkResult importChunk(FileChannel channel, long start, long end, Header columns) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        LineParser parser = new LineParser(buffer);
+        ChunkResult result = new ChunkResult();
+        Batch batch = new Batch();
+
+        int line = 0;
+        for (int from = 0; from < buffer.limit(); ) {
+            int newline = parser.indexOfRowEnd(from);
+            int to = newline > from && buffer.get(newline - 1) == '\r' ? newline - 1 : newline;
+            int next = newline + 1;
+            if (to > from) {
+                result.rows++;
+                try {
+                    batch.add(toEmployee(parser.fields(from, to), columns), line, from, to);
+                } catch (IllegalArgumentException e) {
+                    result.reject(line, EmployeeCreateResult.Status.INVALID, e.getMessage(), parser.text(from, to));
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    create(batch, parser, result);
+                }
+            }
+            line += 1 + parser.rowLineBreaks;
+            from = next;
+        }
+        create(batch, parser, result);
+        result.lines = line;
+        // Rows rejected by the service are recorded after rows that failed to parse
+        result.rejections.sort(Comparator.comparingLong(EmployeeImportRejection::getLine));
+        return result;
+    }
+
+    /**
+     * Create a batch through the service, recording the rows it turns away, and empty the batch
+     */
+    private void create(Batch batch, LineParser parser, ChunkResult result) {
+        if (batch.size() == 0) {
+            return;
+        }
+        for (EmployeeCreateResult created : employeeService.createEmployees(batch.employees)) {
+            int i = created.getIndex();
+            if (created.getStatus() == EmployeeCreateResult.Status.CREATED) {
+                result.created++;
+            } else {
+                String row = parser.text(batch.starts[i], batch.ends[i]);
+                result.reject(batch.lines[i], created.getStatus(), created.getMessage(), row);
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * @param fields parsed row
+     * @param columns header of the file
+     * @return employee, not yet validated
+     * @throws IllegalArgumentException if the row has the wrong number of fields or a field does not parse
+     */
+    private static Employee toEmployee(List<String> fields, Header columns) {
+        if (fields.size() != columns.width) {
+            throw new IllegalArgumentException("Expected " + columns.width + " fields, found " + fields.size());
+        }
+        EmployeeImpl employee = new EmployeeImpl();
+        for (Column column : Column.values()) {
+            int position = columns.positions[column.ordinal()];
+            String value = position < 0 ? null : fields.get(position);
+            if (value == null) {
+                continue;
+            }
+            switch (column) {
+                case UUID -> employee.setUuid(parseUuid(value));
+                case FIRST_NAME -> employee.setFirstName(value);
+                case LAST_NAME -> employee.setLastName(value);
+                case SALARY -> employee.setSalary(parseInteger("salary", value));
+                case AGE -> employee.setAge(parseInteger("age", value));
+                case JOB_TITLE -> employee.setJobTitle(value);
+                case EMAIL -> employee.setEmail(value);
+                case CONTRACT_HIRE_DATE -> employee.setContractHireDate(parseDate("contractHireDate", value));
+                case CONTRACT_TERMINATION_DATE -> employee.setContractTerminationDate(
+                        parseDate("contractTerminationDate", value));
+            }
+        }
+        return employee;
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid uuid: " + value);
+        }
+    }
+
+    private static Integer parseInteger(String name, String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static Instant parseDate(String name, String value) {
+        String text = value.trim();
+        try {
+            return text.length() == 10
+                    ? LocalDate.parse(text).atStartOfDay(ZoneOffset.UTC).toInstant()
+                    : Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /**
+     * @return fields of the header line, without a leading byte order mark
+     */
+    private static List<String> header(FileChannel channel, long headerEnd) throws IOException {
+        if (headerEnd == 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV file is empty");
+        }
+        if (headerEnd > DEFAULT_CHUNK_BYTES) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header line is too long");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) headerEnd);
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // Positional reads until the header is in
+        }
+        buffer.flip();
+        int from = buffer.limit() >= 3
+                        && buffer.get(0) == (byte) 0xEF
+                        && buffer.get(1) == (byte) 0xBB
+                        && buffer.get(2) == (byte) 0xBF
+                ? 3
+                : 0;
+        int to = buffer.limit();
+        while (to > from && (buffer.get(to - 1) == '\n' || buffer.get(to - 1) == '\r')) {
+            to--;
+        }
+        try {
+            return new ArrayList<>(new LineParser(buffer).fields(from, to));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid CSV header: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Find where a chunk may be cut. Quotes are counted from the start of its first row, so a line break inside a
+     * quoted field is never taken as the end of a row. If a quote is still open MAX_ROW_BYTES past target it is taken
+     * as unterminated and the chunk is cut at the first line break after target - the parser rejects that row alone.
+     *
+     * @param channel
+     * @param from start of a row
+     * @param target position to cut at or after
+     * @param size file size
+     * @return position after the first row break at or after target, or size if there is none
+     */
+    private static long rowEnd(FileChannel channel, long from, long target, long size) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate(SCAN_BLOCK);
+        boolean quoted = false;
+        long firstBreak = -1;
+        for (long position = from; position < size; position += block.limit()) {
+            block.clear();
+            if (channel.read(block, position) < 0) {
+                break;
+            }
+            block.flip();
+            for (int i = 0; i < block.limit(); i++) {
+                byte b = block.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n' && position + i >= target) {
+                    if (!quoted) {
+                        return position + i + 1;
+                    }
+                    if (firstBreak < 0) {
+                        firstBreak = position + i + 1;
+                    }
+                }
+            }
+            if (firstBreak >= 0 && position + block.limit() - firstBreak > MAX_ROW_BYTES) {
+                return firstBreak;
+            }
+        }
+        return size;
+    }
+
+    private static ChunkResult await(Future<ChunkResult> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Import failed", e.getCause());
+        }
+    }
+
+    /**
+     * Where each importable column sits in a row
+     */
+    private static final class Header {
+        /**
+         * Field position of each Column, -1 if absent
+         */
+        private final int[] positions;
+        /**
+         * Fields in every row
+         */
+        private final int width;
+
+        private Header(int[] positions, int width) {
+            this.positions = positions;
+            this.width = width;
+        }
+
+        /**
+         * @param names header line fields
+         * @return column positions
+         */
+        private static Header of(List<String> names) {
+            int[] positions = new int[Column.values().length];
+            Arrays.fill(positions, -1);
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i) == null
+                        ? ""
+                        : names.get(i).trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+                for (Column column : Column.values()) {
+                    if (column.header.equals(name)) {
+                        if (positions[column.ordinal()] >= 0) {
+                            throw new ResponseStatusException(
+                                    HttpStatus.BAD_REQUEST, "CSV header names " + names.get(i) + " more than once");
+                        }
+                        positions[column.ordinal()] = i;
+                    }
+                }
+            }
+            if (positions[Column.FIRST_NAME.ordinal()] < 0 || positions[Column.EMAIL.ordinal()] < 0) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "CSV header must include firstName and email columns");
+            }
+            return new Header(positions, names.size());
+        }
+    }
+
+    /**
+     * Fields of CSV lines in a buffer, decoded as UTF-8. One parser per thread - it reuses its field buffer.
+     */
+    private static final class LineParser {
+        private final ByteBuffer buffer;
+        private final List<String> fields = new ArrayList<>();
+        private byte[] field = new byte[256];
+        private int length;
+        /**
+         * Line breaks inside quoted fields of the row last found by indexOfRowEnd
+         */
+        private int rowLineBreaks;
+
+        private LineParser(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        /**
+         * A line break inside a quoted field belongs to the row. If the row's last quote is never closed, the row
+         * ends at its first line break instead, so one stray quote costs one line rather than the rest of the chunk.
+         *
+         * @param from first byte of the row
+         * @return index of the line break ending the row, or the buffer's limit
+         */
+        private int indexOfRowEnd(int from) {
+            int limit = buffer.limit();
+            boolean quoted = false;
+            int firstBreak = -1;
+            rowLineBreaks = 0;
+            for (int i = from; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                } else if (b == '\n') {
+                    if (!quoted) {
+                        return i;
+                    }
+                    if (firstBreak < 0) {
+                        firstBreak = i;
+                    }
+                    rowLineBreaks++;
+                }
+            }
+            if (quoted && firstBreak >= 0) {
+                rowLineBreaks = 0;
+                return firstBreak;
+            }
+            return limit;
+        }
+
+        /**
+         * @param from first byte of the row
+         * @param to end of the row, before its line break
+         * @return fields, empty unquoted fields as null - valid until the next call
+         * @throws IllegalArgumentException if a quoted field is malformed
+         */
+        private List<String> fields(int from, int to) {
+            fields.clear();
+            int i = from;
+            while (true) {
+                length = 0;
+                boolean quoted = i < to && buffer.get(i) == '"';
+                if (quoted) {
+                    i++;
+                    while (true) {
+                        if (i >= to) {
+                            throw new IllegalArgumentException("Unterminated quoted field");
+                        }
+                        byte b = buffer.get(i++);
+                        if (b != '"') {
+                            append(b);
+                        } else if (i < to && buffer.get(i) == '"') {
+                            append(b);
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (i < to && buffer.get(i) != ',') {
+                        throw new IllegalArgumentException("Unexpected text after quoted field " + (fields.size() + 1));
+                    }
+                } else {
+                    while (i < to && buffer.get(i) != ',') {
+                        append(buffer.get(i++));
+                    }
+                }
+                fields.add(quoted || length > 0 ? new String(field, 0, length, StandardCharsets.UTF_8) : null);
+                if (i >= to) {
+                    return fields;
+                }
+                i++;
+            }
+        }
+
+        /**
+         * @return the row as text, for reports
+         */
+        private String text(int from, int to) {
+            byte[] bytes = new byte[to - from];
+            buffer.get(from, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private void append(byte b) {
+            if (length == field.length) {
+                field = Arrays.copyOf(field, length * 2);
+            }
+            field[length++] = b;
+        }
+    }
+
+    /**
+     * Rows waiting for a batch create, with where each sits in the chunk
+     */
+    private static final class Batch {
+        private final List<Employee> employees = new ArrayList<>(BATCH_SIZE);
+        private final int[] lines = new int[BATCH_SIZE];
+        private final int[] starts = new int[BATCH_SIZE];
+        private final int[] ends = new int[BATCH_SIZE];
+
+        private void add(Employee employee, int line, int start, int end) {
+            lines[employees.size()] = line;
+            starts[employees.size()] = start;
+            ends[employees.size()] = end;
+            employees.add(employee);
+        }
+
+        private int size() {
+            return employees.size();
+        }
+
+        private void clear() {
+            employees.clear();
+        }
+    }
+
+    /**
+     * One chunk's counts and rejections, lines counted from 0 at the chunk's first line
+     */
+    private static final class ChunkResult {
+        private int lines;
+        private int rows;
+        private int created;
+        private final List<EmployeeImportRejection> rejections = new ArrayList<>();
+
+        private void reject(int line, EmployeeCreateResult.Status status, String message, String row) {
+            rejections.add(new EmployeeImportRejection(line, status, message, row));
+        }
+    }
+
+    /**
+     * Running totals over chunks taken in file order
+     */
+    private static final class Tally {
+        private final Consumer<EmployeeImportRejection> report;
+        private final List<EmployeeImportRejection> kept = new ArrayList<>();
+        /**
+         * Lines before the next chunk - the header is line 1
+         */
+        private long lineBase = 1;
+        private long rows;
+        private long created;
+        private long rejected;
+
+        private Tally(Consumer<EmployeeImportRejection> report) {
+            this.report = report;
+        }
+
+        private void add(ChunkResult chunk) {
+            for (EmployeeImportRejection relative : chunk.rejections) {
+                EmployeeImportRejection rejection = new EmployeeImportRejection(
+                        lineBase + relative.getLine() + 1,
+                        relative.getStatus(),
+                        relative.getMessage(),
+                        relative.getRow());
+                if (kept.size() < MAX_KEPT_REJECTIONS) {
+                    kept.add(rejection);
+                }
+                if (report != null) {
+                    report.accept(rejection);
+                }
+            }
+            lineBase += chunk.lines;
+            rows += chunk.rows;
+            created += chunk.created;
+            rejected += chunk.rejections.size();
+        }
+
+        private EmployeeImportResult result(long elapsedMillis) {
+            return new EmployeeImportResult(rows, created, rejected, elapsedMillis, List.copyOf(kept));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.challenge.api.importer;
+
+import com.challenge.api.model.EmployeeImportRejection;
+import com.challenge.api.model.EmployeeImportResult;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup bulk import - imports the CSV files named by --import=&lt;file&gt; as the application starts, once the store
+ * has recovered. Every rejected row is written to a CSV report - &lt;file&gt;.rejected.csv unless --import-report
+ * names another - with its line, status and reason followed by the row itself.
+ */
+@Component
+public class EmployeeImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportRunner.class);
+
+    static final String IMPORT_OPTION = "import";
+    static final String REPORT_OPTION = "import-report";
+
+    private final EmployeeCsvImporter importer;
+
+    /**
+     * Constructor
+     *
+     * @param importer
+     */
+    @Autowired
+    public EmployeeImportRunner(EmployeeCsvImporter importer) {
+        this.importer = importer;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> files = args.getOptionValues(IMPORT_OPTION);
+        if (files == null) {
+            return;
+        }
+        List<String> reports = args.getOptionValues(REPORT_OPTION);
+        for (int i = 0; i < files.size(); i++) {
+            Path file = Path.of(files.get(i));
+            Path report = reports != null && i < reports.size()
+                    ? Path.of(reports.get(i))
+                    : file.resolveSibling(file.getFileName() + ".rejected.csv");
+            EmployeeImportResult result = importCsv(file, report);
+            log.info(
+                    "Imported {}: {} rows, {} created, {} rejected in {} ms{}",
+                    file,
+                    result.getRows(),
+                    result.getCreated(),
+                    result.getRejected(),
+                    result.getElapsedMillis(),
+                    result.getRejected() > 0 ? " - rejected rows in " + report : "");
+        }
+    }
+
+    /**
+     * Import a file, writing its rejections report
+     *
+     * @param file
+     * @param report
+     * @return
+     * @throws IOException
+     */
+    EmployeeImportResult importCsv(Path file, Path report) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write("line,status,message,row\n");
+            return importer.importCsv(file, rejection -> write(writer, rejection));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void write(BufferedWriter writer, EmployeeImportRejection rejection) {
+        try {
+            writer.write(Long.toString(rejection.getLine()));
+            writer.write(',');
+            writer.write(rejection.getStatus().name());
+            writer.write(',');
+            writer.write(quote(rejection.getMessage()));
+            writer.write(',');
+            writer.write(quote(rejection.getRow()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param field
+     * @return field as a quoted CSV field, with quotes inside doubled
+     */
+    private static String quote(String field) {
+        return field == null ? "" : "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,34 @@
+package com.challenge.api.metrics;
+
+import com.challenge.api.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps whichever Employee Service backend is active in an {@link InstrumentedEmployeeService}, so both backends
+ * are measured the same way without either depending on Micrometer.
+ */
+@Component
+public class EmployeeServiceMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> registry;
+
+    /**
+     * Constructor
+     *
+     * @param registry resolved only once a service bean is wrapped, so the registry is not created early
+     */
+    public EmployeeServiceMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof EmployeeService service && !(bean instanceof InstrumentedEmployeeService)) {
+            return new InstrumentedEmployeeService(service, registry.getObject());
+        }
+        return bean;
+    }
+}
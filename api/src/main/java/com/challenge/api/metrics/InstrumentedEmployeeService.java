@@ -0,0 +1,308 @@
+package com.challenge.api.metrics;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.service.EmployeeChangeFeed;
+import com.challenge.api.service.EmployeeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Employee Service decorator that times every employee operation and reports store and index sizes.
+ *
+ * <p>Meters:
+ * <ul>
+ *   <li>employee.service - timer per operation and outcome (success, invalid, not_found, conflict, client_error,
+ *   error), so its count is also the per-outcome call count
+ *   <li>employee.create.batch.items - batch create items per result status
+ *   <li>employee.store.size and employee.index.size - gauges, read only when scraped
+ * </ul>
+ *
+ * <p>Built for the hot path: each call costs two clock reads and one timer update. Timers are resolved through an
+ * array indexed by operation and outcome, never by tag lookup, and registered on first use so outcomes that never
+ * happen publish no series. Version lookups are O(1) and called on every conditional read, so they pass straight
+ * through untimed.
+ */
+public class InstrumentedEmployeeService implements EmployeeService {
+
+    private static final String TIMER = "employee.service";
+
+    private static final int OUTCOMES = Outcome.values().length;
+
+    private final EmployeeService delegate;
+    private final MeterRegistry registry;
+    private final AtomicReferenceArray<Timer> timers =
+            new AtomicReferenceArray<>(Operation.values().length * OUTCOMES);
+    private final Map<EmployeeCreateResult.Status, Counter> batchItems =
+            new EnumMap<>(EmployeeCreateResult.Status.class);
+
+    /**
+     * Constructor
+     *
+     * @param delegate service to instrument
+     * @param registry meter registry the timers, counters and gauges are registered with
+     */
+    public InstrumentedEmployeeService(EmployeeService delegate, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.registry = registry;
+
+        for (EmployeeCreateResult.Status status : EmployeeCreateResult.Status.values()) {
+            batchItems.put(
+                    status,
+                    Counter.builder("employee.create.batch.items")
+                            .description("Batch create items by result")
+                            .tag("status", tagValue(status.name()))
+                            .register(registry));
+        }
+
+        Gauge.builder("employee.store.size", delegate, service -> service.getStatistics().getHeadcount())
+                .description("Employees in the store")
+                .strongReference(true)
+                .register(registry);
+        for (String index : delegate.getIndexSizes().keySet()) {
+            Gauge.builder("employee.index.size", delegate, service -> service.getIndexSizes().getOrDefault(index, 0L))
+                    .description("Entries in an employee lookup index")
+                    .tag("index", index)
+                    .strongReference(true)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public EmployeeSnapshot snapshot() {
+        return delegate.snapshot();
+    }
+
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public long getEmployeeVersion(UUID uuid) {
+        return delegate.getEmployeeVersion(uuid);
+    }
+
+    @Override
+    public EmployeeChangeFeed getChangeFeed() {
+        return delegate.getChangeFeed();
+    }
+
+    @Override
+    public EmployeeStatistics getStatistics() {
+        return timed(Operation.GET_STATISTICS, delegate::getStatistics);
+    }
+
+    @Override
+    public Map<String, Long> getIndexSizes() {
+        return delegate.getIndexSizes();
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return timed(Operation.GET_ALL_EMPLOYEES, delegate::getAllEmployees);
+    }
+
+    /**
+     * Not timed - the stream is consumed after this returns, so only the caller can time the walk
+     */
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return delegate.streamEmployees();
+    }
+
+    @Override
+    public Employee getEmployeeByUuid(UUID uuid) {
+        return timed(Operation.GET_EMPLOYEE_BY_UUID, () -> delegate.getEmployeeByUuid(uuid));
+    }
+
+    @Override
+    public EmployeePage getEmployeesPage(UUID cursor, int limit) {
+        return timed(Operation.GET_EMPLOYEES_PAGE, () -> delegate.getEmployeesPage(cursor, limit));
+    }
+
+    @Override
+    public Employee createEmployee(Employee employee) {
+        return timed(Operation.CREATE_EMPLOYEE, () -> delegate.createEmployee(employee));
+    }
+
+    /**
+     * Timed from the call until the future completes, so the time includes waiting for the journal
+     */
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(Employee employee) {
+        long started = System.nanoTime();
+        CompletableFuture<Employee> created;
+        try {
+            created = delegate.createEmployeeAsync(employee);
+        } catch (RuntimeException e) {
+            record(Operation.CREATE_EMPLOYEE_ASYNC, Outcome.of(e), started);
+            throw e;
+        }
+        return created.whenComplete((result, failure) -> record(
+                Operation.CREATE_EMPLOYEE_ASYNC, failure == null ? Outcome.SUCCESS : Outcome.of(failure), started));
+    }
+
+    @Override
+    public List<EmployeeCreateResult> createEmployees(List<Employee> employees) {
+        List<EmployeeCreateResult> results =
+                timed(Operation.CREATE_EMPLOYEES, () -> delegate.createEmployees(employees));
+        for (EmployeeCreateResult result : results) {
+            batchItems.get(result.getStatus()).increment();
+        }
+        return results;
+    }
+
+    @Override
+    public Employee updateSalary(UUID uuid, Integer salary, long expectedVersion) {
+        return timed(Operation.UPDATE_SALARY, () -> delegate.updateSalary(uuid, salary, expectedVersion));
+    }
+
+    @Override
+    public Employee terminateEmployee(UUID uuid, Instant terminationDate, long expectedVersion) {
+        return timed(
+                Operation.TERMINATE_EMPLOYEE, () -> delegate.terminateEmployee(uuid, terminationDate, expectedVersion));
+    }
+
+    @Override
+    public List<Employee> searchEmployees(String prefix, int limit) {
+        return timed(Operation.SEARCH_EMPLOYEES, () -> delegate.searchEmployees(prefix, limit));
+    }
+
+    @Override
+    public List<Employee> findEmployeesInRange(EmployeeRangeQuery query) {
+        return timed(Operation.FIND_EMPLOYEES_IN_RANGE, () -> delegate.findEmployeesInRange(query));
+    }
+
+    @Override
+    public List<Employee> getActiveEmployees() {
+        return timed(Operation.GET_ACTIVE_EMPLOYEES, delegate::getActiveEmployees);
+    }
+
+    @Override
+    public List<Employee> getTerminatedEmployees() {
+        return timed(Operation.GET_TERMINATED_EMPLOYEES, delegate::getTerminatedEmployees);
+    }
+
+    @Override
+    public List<Employee> getEmployeesByJobTitle(String jobTitle) {
+        return timed(Operation.GET_EMPLOYEES_BY_JOB_TITLE, () -> delegate.getEmployeesByJobTitle(jobTitle));
+    }
+
+    private <T> T timed(Operation operation, Supplier<T> call) {
+        long started = System.nanoTime();
+        Outcome outcome = Outcome.ERROR;
+        try {
+            T result = call.get();
+            outcome = Outcome.SUCCESS;
+            return result;
+        } catch (ResponseStatusException e) {
+            outcome = Outcome.of(e.getStatusCode());
+            throw e;
+        } finally {
+            record(operation, outcome, started);
+        }
+    }
+
+    private void record(Operation operation, Outcome outcome, long started) {
+        timer(operation, outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(Operation operation, Outcome outcome) {
+        int slot = operation.ordinal() * OUTCOMES + outcome.ordinal();
+        Timer timer = timers.get(slot);
+        if (timer == null) {
+            // Registration is idempotent, so racing threads end up with the same timer
+            timer = Timer.builder(TIMER)
+                    .description("Employee service calls")
+                    .tag("operation", operation.tag)
+                    .tag("outcome", tagValue(outcome.name()))
+                    .register(registry);
+            timers.set(slot, timer);
+        }
+        return timer;
+    }
+
+    private static String tagValue(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Timed operations, tagged with the service method name
+     */
+    private enum Operation {
+        GET_STATISTICS("getStatistics"),
+        GET_ALL_EMPLOYEES("getAllEmployees"),
+        GET_EMPLOYEE_BY_UUID("getEmployeeByUuid"),
+        GET_EMPLOYEES_PAGE("getEmployeesPage"),
+        CREATE_EMPLOYEE("createEmployee"),
+        CREATE_EMPLOYEE_ASYNC("createEmployeeAsync"),
+        CREATE_EMPLOYEES("createEmployees"),
+        UPDATE_SALARY("updateSalary"),
+        TERMINATE_EMPLOYEE("terminateEmployee"),
+        SEARCH_EMPLOYEES("searchEmployees"),
+        FIND_EMPLOYEES_IN_RANGE("findEmployeesInRange"),
+        GET_ACTIVE_EMPLOYEES("getActiveEmployees"),
+        GET_TERMINATED_EMPLOYEES("getTerminatedEmployees"),
+        GET_EMPLOYEES_BY_JOB_TITLE("getEmployeesByJobTitle");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * How a call ended, from the status of the ResponseStatusException it threw or failed its future with
+     */
+    private enum Outcome {
+        SUCCESS,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT,
+        CLIENT_ERROR,
+        ERROR;
+
+        private static Outcome of(HttpStatusCode status) {
+            if (status.value() == HttpStatus.BAD_REQUEST.value()) {
+                return INVALID;
+            }
+            if (status.value() == HttpStatus.NOT_FOUND.value()) {
+                return NOT_FOUND;
+            }
+            // A failed If-Match is a write conflict too, detected against the version the client read
+            if (status.value() == HttpStatus.CONFLICT.value()
+                    || status.value() == HttpStatus.PRECONDITION_FAILED.value()) {
+                return CONFLICT;
+            }
+            return status.is4xxClientError() ? CLIENT_ERROR : ERROR;
+        }
+
+        private static Outcome of(Throwable failure) {
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            return cause instanceof ResponseStatusException e ? of(e.getStatusCode()) : ERROR;
+        }
+    }
+}
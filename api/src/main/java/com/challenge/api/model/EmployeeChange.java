@@ -0,0 +1,63 @@
+package com.challenge.api.model;
+
+/**
+ * One entry of the employee change feed
+ */
+public class EmployeeChange {
+
+    /**
+     * Kind of change
+     */
+    public enum Type {
+        CREATED,
+        TERMINATED
+    }
+
+    /**
+     * Position in the change feed - consecutive, starting at 1
+     */
+    private final long sequence;
+    /**
+     * Kind of change
+     */
+    private final Type type;
+    /**
+     * Store version the change was committed at
+     */
+    private final long version;
+    /**
+     * Employee as of the change
+     */
+    private final Employee employee;
+
+    /**
+     * Constructor
+     *
+     * @param sequence
+     * @param type
+     * @param version
+     * @param employee
+     */
+    public EmployeeChange(long sequence, Type type, long version, Employee employee) {
+        this.sequence = sequence;
+        this.type = type;
+        this.version = version;
+        this.employee = employee;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Employee getEmployee() {
+        return employee;
+    }
+}
@@ -0,0 +1,66 @@
+package com.challenge.api.model;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one item in a batch create
+ */
+public class EmployeeCreateResult {
+
+    /**
+     * Per-item status
+     */
+    public enum Status {
+        CREATED,
+        CONFLICT,
+        INVALID
+    }
+
+    /**
+     * Position of the item in the submitted batch
+     */
+    private final int index;
+    /**
+     * Item status
+     */
+    private final Status status;
+    /**
+     * UUID of the created or conflicting employee, if known
+     */
+    private final UUID uuid;
+    /**
+     * Reason the item was rejected, null if created
+     */
+    private final String message;
+
+    /**
+     * Constructor
+     *
+     * @param index
+     * @param status
+     * @param uuid
+     * @param message
+     */
+    public EmployeeCreateResult(int index, Status status, UUID uuid, String message) {
+        this.index = index;
+        this.status = status;
+        this.uuid = uuid;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
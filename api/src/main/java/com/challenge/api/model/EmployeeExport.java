@@ -0,0 +1,114 @@
+package com.challenge.api.model;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Finished export of the employee store - one file holding every employee as of one store version
+ */
+public class EmployeeExport {
+
+    /**
+     * Export file format
+     */
+    public enum Format {
+        /**
+         * CSV with the importable columns, so an export can be imported elsewhere as it is
+         */
+        CSV("csv", "text/csv"),
+        /**
+         * Store snapshot format - header with count and CRC32C, then length-prefixed binary employees
+         */
+        BINARY("bin", "application/octet-stream");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * @param name format name or file extension, any case
+         * @return format
+         * @throws ResponseStatusException 400 if the format is unknown
+         */
+        public static Format of(String name) {
+            for (Format format : values()) {
+                if (format.name().equalsIgnoreCase(name) || format.extension.equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Unknown export format: " + name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * File name, unique per format and store version
+     */
+    private final String name;
+    /**
+     * File format
+     */
+    private final Format format;
+    /**
+     * Store version the export holds
+     */
+    private final long version;
+    /**
+     * Employees written
+     */
+    private final long employees;
+    /**
+     * File size
+     */
+    private final long bytes;
+
+    /**
+     * Constructor
+     *
+     * @param name
+     * @param format
+     * @param version
+     * @param employees
+     * @param bytes
+     */
+    public EmployeeExport(String name, Format format, long version, long employees, long bytes) {
+        this.name = name;
+        this.format = format;
+        this.version = version;
+        this.employees = employees;
+        this.bytes = bytes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getEmployees() {
+        return employees;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+}
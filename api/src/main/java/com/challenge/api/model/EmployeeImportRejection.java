@@ -0,0 +1,55 @@
+package com.challenge.api.model;
+
+/**
+ * A CSV row left out of a bulk import
+ */
+public class EmployeeImportRejection {
+
+    /**
+     * 1-based line of the row in the file, counting the header as line 1
+     */
+    private final long line;
+    /**
+     * INVALID for rows that do not parse or fail validation, CONFLICT for duplicate UUIDs or emails
+     */
+    private final EmployeeCreateResult.Status status;
+    /**
+     * Reason the row was rejected
+     */
+    private final String message;
+    /**
+     * The row as it appears in the file
+     */
+    private final String row;
+
+    /**
+     * Constructor
+     *
+     * @param line
+     * @param status
+     * @param message
+     * @param row
+     */
+    public EmployeeImportRejection(long line, EmployeeCreateResult.Status status, String message, String row) {
+        this.line = line;
+        this.status = status;
+        this.message = message;
+        this.row = row;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public EmployeeCreateResult.Status getStatus() {
+        return status;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getRow() {
+        return row;
+    }
+}
@@ -0,0 +1,68 @@
+package com.challenge.api.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk CSV import
+ */
+public class EmployeeImportResult {
+
+    /**
+     * Data rows read, blank lines excluded
+     */
+    private final long rows;
+    /**
+     * Employees created
+     */
+    private final long created;
+    /**
+     * Rows rejected as invalid or conflicting
+     */
+    private final long rejected;
+    /**
+     * Wall-clock time of the import
+     */
+    private final long elapsedMillis;
+    /**
+     * The first rejections in file order, up to a fixed number - the full list goes to the import's report
+     */
+    private final List<EmployeeImportRejection> rejections;
+
+    /**
+     * Constructor
+     *
+     * @param rows
+     * @param created
+     * @param rejected
+     * @param elapsedMillis
+     * @param rejections
+     */
+    public EmployeeImportResult(
+            long rows, long created, long rejected, long elapsedMillis, List<EmployeeImportRejection> rejections) {
+        this.rows = rows;
+        this.created = created;
+        this.rejected = rejected;
+        this.elapsedMillis = elapsedMillis;
+        this.rejections = rejections;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public List<EmployeeImportRejection> getRejections() {
+        return rejections;
+    }
+}
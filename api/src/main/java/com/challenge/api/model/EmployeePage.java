@@ -0,0 +1,38 @@
+package com.challenge.api.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of a UUID-ordered walk over the employee store
+ */
+public class EmployeePage {
+
+    /**
+     * Employees on this page, in UUID order
+     */
+    private final List<Employee> employees;
+    /**
+     * UUID to resume after, or null on the last page
+     */
+    private final UUID nextCursor;
+
+    /**
+     * Constructor
+     *
+     * @param employees
+     * @param nextCursor
+     */
+    public EmployeePage(List<Employee> employees, UUID nextCursor) {
+        this.employees = employees;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public UUID getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,97 @@
+package com.challenge.api.model;
+
+import java.time.Instant;
+
+/**
+ * Inclusive ranges over salary, age and contract hire date. Any bound may be null for an open end; an employee
+ * matches when it falls within every range that has at least one bound, and employees missing a ranged field never
+ * match.
+ */
+public class EmployeeRangeQuery {
+
+    private final Integer minSalary;
+    private final Integer maxSalary;
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final Instant hiredFrom;
+    private final Instant hiredTo;
+
+    /**
+     * Constructor
+     *
+     * @param minSalary
+     * @param maxSalary
+     * @param minAge
+     * @param maxAge
+     * @param hiredFrom
+     * @param hiredTo
+     */
+    public EmployeeRangeQuery(
+            Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge, Instant hiredFrom, Instant hiredTo) {
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.hiredFrom = hiredFrom;
+        this.hiredTo = hiredTo;
+    }
+
+    public Integer getMinSalary() {
+        return minSalary;
+    }
+
+    public Integer getMaxSalary() {
+        return maxSalary;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public Instant getHiredFrom() {
+        return hiredFrom;
+    }
+
+    public Instant getHiredTo() {
+        return hiredTo;
+    }
+
+    public boolean hasSalaryRange() {
+        return minSalary != null || maxSalary != null;
+    }
+
+    public boolean hasAgeRange() {
+        return minAge != null || maxAge != null;
+    }
+
+    public boolean hasHireDateRange() {
+        return hiredFrom != null || hiredTo != null;
+    }
+
+    /**
+     * @return true if no range has a bound
+     */
+    public boolean isEmpty() {
+        return !hasSalaryRange() && !hasAgeRange() && !hasHireDateRange();
+    }
+
+    /**
+     * @param employee
+     * @return true if the employee falls within every bounded range
+     */
+    public boolean matches(Employee employee) {
+        return (!hasSalaryRange() || within(employee.getSalary(), minSalary, maxSalary))
+                && (!hasAgeRange() || within(employee.getAge(), minAge, maxAge))
+                && (!hasHireDateRange() || within(employee.getContractHireDate(), hiredFrom, hiredTo));
+    }
+
+    private static <T extends Comparable<? super T>> boolean within(T value, T from, T to) {
+        return value != null
+                && (from == null || value.compareTo(from) >= 0)
+                && (to == null || value.compareTo(to) <= 0);
+    }
+}
@@ -0,0 +1,44 @@
+package com.challenge.api.model;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Read-only view of the employee store as of one committed version. Walking it never blocks writers and never
+ * observes a write committed after the snapshot was taken.
+ */
+public class EmployeeSnapshot {
+
+    /**
+     * Store version the snapshot is pinned to
+     */
+    private final long version;
+    /**
+     * Walks the employees visible at the version
+     */
+    private final Supplier<Stream<Employee>> employees;
+
+    /**
+     * Constructor
+     *
+     * @param version
+     * @param employees
+     */
+    public EmployeeSnapshot(long version, Supplier<Stream<Employee>> employees) {
+        this.version = version;
+        this.employees = employees;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Lazily walk the snapshot - every walk sees the same employees
+     *
+     * @return stream of employees
+     */
+    public Stream<Employee> stream() {
+        return employees.get();
+    }
+}
@@ -0,0 +1,21 @@
+package com.challenge.api.model;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown by a read pinned to a store version whose records have since been dropped - the employee was updated more
+ * than {@link com.challenge.api.model.impl.EmployeeRecord#RETAINED_VERSIONS} times during the read. The read cannot
+ * be answered consistently, so it is retried at a newer version or reported as 503.
+ */
+public class EmployeeSnapshotExpiredException extends ResponseStatusException {
+
+    /**
+     * Constructor
+     *
+     * @param readVersion store version the reader is pinned to
+     */
+    public EmployeeSnapshotExpiredException(long readVersion) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Snapshot at version " + readVersion + " expired, retry the request");
+    }
+}
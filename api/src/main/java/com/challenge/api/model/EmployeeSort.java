@@ -0,0 +1,177 @@
+package com.challenge.api.model;
+
+import com.challenge.api.model.impl.EmployeeImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Sort orders for paged employee listings. Employees missing the sorted field come last in either direction, and
+ * ties are broken by UUID, so every employee has exactly one position and pages never overlap.
+ *
+ * <p>Pages are keyset pages: a cursor holds the sort key and UUID of the last row shown, and the next page is the
+ * first employees ordered after that position. Pages never skip or repeat rows when employees before the cursor are
+ * created, changed or removed in between.
+ */
+public enum EmployeeSort {
+    NAME(
+            descending -> by(Employee::getLastName, String.CASE_INSENSITIVE_ORDER, descending)
+                    .thenComparing(by(Employee::getFirstName, String.CASE_INSENSITIVE_ORDER, descending)),
+            new Key(Employee::getLastName, Employee::setLastName),
+            new Key(Employee::getFirstName, Employee::setFirstName)),
+    EMAIL(
+            descending -> by(Employee::getEmail, String.CASE_INSENSITIVE_ORDER, descending),
+            new Key(Employee::getEmail, Employee::setEmail)),
+    JOB_TITLE(
+            descending -> by(Employee::getJobTitle, String.CASE_INSENSITIVE_ORDER, descending),
+            new Key(Employee::getJobTitle, Employee::setJobTitle)),
+    SALARY(
+            descending -> by(Employee::getSalary, Comparator.naturalOrder(), descending),
+            new Key(Employee::getSalary, (employee, value) -> employee.setSalary(Integer.valueOf(value)))),
+    AGE(
+            descending -> by(Employee::getAge, Comparator.naturalOrder(), descending),
+            new Key(Employee::getAge, (employee, value) -> employee.setAge(Integer.valueOf(value)))),
+    HIRE_DATE(
+            descending -> by(Employee::getContractHireDate, Comparator.naturalOrder(), descending),
+            new Key(
+                    Employee::getContractHireDate,
+                    (employee, value) -> employee.setContractHireDate(Instant.parse(value))));
+
+    private final Comparator<Employee> ascending;
+    private final Comparator<Employee> descending;
+    /**
+     * Fields the order compares, in order - what a cursor holds besides the UUID
+     */
+    private final Key[] keys;
+
+    EmployeeSort(Function<Boolean, Comparator<Employee>> order, Key... keys) {
+        this.ascending = order.apply(false).thenComparing(Employee::getUuid);
+        this.descending = order.apply(true).thenComparing(Employee::getUuid);
+        this.keys = keys;
+    }
+
+    /**
+     * @param name sort name, case-insensitive, with - or _ between words (job-title, hire_date)
+     * @return sort order, or null if there is none by that name
+     */
+    public static EmployeeSort of(String name) {
+        String key = name.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        for (EmployeeSort sort : values()) {
+            if (sort.name().equals(key)) {
+                return sort;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param descending
+     * @return comparator for this order
+     */
+    public Comparator<Employee> comparator(boolean descending) {
+        return descending ? this.descending : ascending;
+    }
+
+    /**
+     * Select one page of employees in this order without sorting them all - O(n log limit) time and O(limit) memory
+     * wherever the page is, since only employees after the cursor are kept
+     *
+     * @param employees to select from, consumed once
+     * @param descending
+     * @param after position to resume after, from {@link #after(String)}, or null for the first page
+     * @param limit most employees to return
+     * @return page of employees, in order
+     */
+    public List<Employee> select(Stream<Employee> employees, boolean descending, Employee after, int limit) {
+        Comparator<Employee> order = comparator(descending);
+        // Max-heap of the first limit employees after the cursor seen so far - its head is the next to drop
+        PriorityQueue<Employee> first = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+        employees.forEach(employee -> {
+            if (after != null && order.compare(employee, after) <= 0) {
+                return;
+            }
+            if (first.size() < limit) {
+                first.add(employee);
+            } else if (order.compare(employee, first.peek()) < 0) {
+                first.poll();
+                first.add(employee);
+            }
+        });
+
+        List<Employee> page = new ArrayList<>(first);
+        page.sort(order);
+        return page;
+    }
+
+    /**
+     * @param last last employee of a page
+     * @return URL-safe cursor holding the employee's sort key and UUID
+     */
+    public String cursor(Employee last) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(last.getUuid().getMostSignificantBits());
+            out.writeLong(last.getUuid().getLeastSignificantBits());
+            for (Key key : keys) {
+                Object value = key.field().apply(last);
+                out.writeBoolean(value != null);
+                if (value != null) {
+                    out.writeUTF(value.toString());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * @param cursor cursor from {@link #cursor(Employee)} for this order
+     * @return employee holding just the cursor's sort key and UUID, to compare employees against
+     * @throws ResponseStatusException 400 if the cursor is malformed or was made for another order
+     */
+    public Employee after(String cursor) {
+        try (DataInputStream in =
+                new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            Employee position = new EmployeeImpl();
+            position.setUuid(new UUID(in.readLong(), in.readLong()));
+            for (Key key : keys) {
+                if (in.readBoolean()) {
+                    key.position().accept(position, in.readUTF());
+                }
+            }
+            if (in.read() != -1) {
+                throw new IOException("Trailing bytes");
+            }
+            return position;
+        } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sort cursor");
+        }
+    }
+
+    private static <T> Comparator<Employee> by(Function<Employee, T> field, Comparator<T> order, boolean descending) {
+        return Comparator.comparing(field, Comparator.nullsLast(descending ? order.reversed() : order));
+    }
+
+    /**
+     * Sorted field, as read from an employee and written back from its cursor text
+     */
+    private record Key(Function<Employee, ?> field, BiConsumer<Employee, String> position) {}
+}
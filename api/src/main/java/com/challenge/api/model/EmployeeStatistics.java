@@ -0,0 +1,157 @@
+package com.challenge.api.model;
+
+import java.util.Map;
+
+/**
+ * Workforce aggregates - headcount, salary figures and a per-job-title breakdown
+ */
+public class EmployeeStatistics {
+
+    /**
+     * All stored employees, active or terminated
+     */
+    private final long headcount;
+    /**
+     * Employees without a contract termination date
+     */
+    private final long activeCount;
+    /**
+     * Salary figures over employees with a salary
+     */
+    private final Salary salary;
+    /**
+     * Breakdown by job title, keyed by the first spelling seen - titles are grouped case-insensitively
+     */
+    private final Map<String, JobTitle> jobTitles;
+
+    /**
+     * Constructor
+     *
+     * @param headcount
+     * @param activeCount
+     * @param salary
+     * @param jobTitles
+     */
+    public EmployeeStatistics(long headcount, long activeCount, Salary salary, Map<String, JobTitle> jobTitles) {
+        this.headcount = headcount;
+        this.activeCount = activeCount;
+        this.salary = salary;
+        this.jobTitles = jobTitles;
+    }
+
+    public long getHeadcount() {
+        return headcount;
+    }
+
+    public long getActiveCount() {
+        return activeCount;
+    }
+
+    public long getTerminatedCount() {
+        return headcount - activeCount;
+    }
+
+    public Salary getSalary() {
+        return salary;
+    }
+
+    public Map<String, JobTitle> getJobTitles() {
+        return jobTitles;
+    }
+
+    /**
+     * Salary aggregates. Percentiles come from a log-linear histogram and are within 1/64 (about 1.6%) of the exact
+     * value; every other figure is exact.
+     */
+    public static class Salary {
+
+        private final long count;
+        private final long sum;
+        private final Integer min;
+        private final Integer max;
+        private final Map<String, Long> percentiles;
+
+        /**
+         * Constructor
+         *
+         * @param count employees with a salary
+         * @param sum
+         * @param min null if no employee has a salary
+         * @param max null if no employee has a salary
+         * @param percentiles keyed p50, p90, ...
+         */
+        public Salary(long count, long sum, Integer min, Integer max, Map<String, Long> percentiles) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.percentiles = percentiles;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public Integer getMin() {
+            return min;
+        }
+
+        public Integer getMax() {
+            return max;
+        }
+
+        public Double getAverage() {
+            return count == 0 ? null : (double) sum / count;
+        }
+
+        public Map<String, Long> getPercentiles() {
+            return percentiles;
+        }
+    }
+
+    /**
+     * Aggregates for one job title
+     */
+    public static class JobTitle {
+
+        private final long headcount;
+        private final long activeCount;
+        private final long salaryCount;
+        private final long salarySum;
+
+        /**
+         * Constructor
+         *
+         * @param headcount
+         * @param activeCount
+         * @param salaryCount employees with a salary
+         * @param salarySum
+         */
+        public JobTitle(long headcount, long activeCount, long salaryCount, long salarySum) {
+            this.headcount = headcount;
+            this.activeCount = activeCount;
+            this.salaryCount = salaryCount;
+            this.salarySum = salarySum;
+        }
+
+        public long getHeadcount() {
+            return headcount;
+        }
+
+        public long getActiveCount() {
+            return activeCount;
+        }
+
+        public long getSalarySum() {
+            return salarySum;
+        }
+
+        public Double getSalaryAverage() {
+            return salaryCount == 0 ? null : (double) salarySum / salaryCount;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.challenge.api.model;
+
+/**
+ * Employee as held by a store that versions its writes - the version a client sends back as an ETag
+ */
+public interface VersionedEmployee extends Employee {
+
+    /**
+     * @return store version this state of the employee was committed at
+     */
+    long version();
+}
@@ -0,0 +1,265 @@
+package com.challenge.api.model.impl;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeSnapshotExpiredException;
+import com.challenge.api.model.VersionedEmployee;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned Employee as held by the employee store.
+ *
+ * <p>Every write to an employee installs a new record carrying the store version it was committed at, linked to the
+ * record it replaces. A reader holding a store version walks the chain to the newest record at or below it, so it
+ * never observes a later write. All fields, including the full name, are fixed at construction - reads never write.
+ *
+ * <p>A chain keeps at most {@link #RETAINED_VERSIONS} records. A reader pinned further back than that - a long walk
+ * overlapping many updates of one employee - cannot be answered consistently, so it fails with
+ * {@link EmployeeSnapshotExpiredException} rather than seeing a newer record.
+ */
+public final class EmployeeRecord implements VersionedEmployee {
+
+    /**
+     * Records kept per employee, counting the newest
+     */
+    public static final int RETAINED_VERSIONS = 8;
+
+    private final UUID uuid;
+    private final String firstName;
+    private final String lastName;
+    private final String fullName;
+    private final Integer salary;
+    private final Integer age;
+    private final String jobTitle;
+    private final String email;
+    private final Instant contractHireDate;
+    private final Instant contractTerminationDate;
+
+    /**
+     * Store version this record was committed at
+     */
+    private final long version;
+    /**
+     * Whether this is the employee's first version - no older record ever existed
+     */
+    private final boolean first;
+    /**
+     * Record this one replaced, or null for the first version or once older records are dropped
+     */
+    private volatile EmployeeRecord previous;
+
+    /**
+     * Constructor - copies every field of the source employee, and drops records of the chain beyond
+     * RETAINED_VERSIONS
+     *
+     * @param source employee to copy
+     * @param version store version the record is committed at
+     * @param previous record it replaces, or null
+     */
+    public EmployeeRecord(Employee source, long version, EmployeeRecord previous) {
+        this.uuid = source.getUuid();
+        this.firstName = source.getFirstName();
+        this.lastName = source.getLastName();
+        this.salary = source.getSalary();
+        this.age = source.getAge();
+        this.jobTitle = source.getJobTitle();
+        this.email = source.getEmail();
+        this.contractHireDate = source.getContractHireDate();
+        this.contractTerminationDate = source.getContractTerminationDate();
+        this.fullName = fullName(firstName, lastName);
+        this.version = version;
+        this.first = previous == null;
+        this.previous = previous;
+
+        EmployeeRecord oldest = previous;
+        for (int kept = 2; oldest != null && kept < RETAINED_VERSIONS; kept++) {
+            oldest = oldest.previous;
+        }
+        if (oldest != null) {
+            oldest.previous = null;
+        }
+    }
+
+    /**
+     * @return store version this record was committed at
+     */
+    @Override
+    public long version() {
+        return version;
+    }
+
+    /**
+     * @return record this one replaced, or null for the first version or once older records are dropped
+     */
+    public EmployeeRecord previous() {
+        return previous;
+    }
+
+    /**
+     * Newest version of this employee visible to a reader
+     *
+     * @param readVersion store version the reader is pinned to
+     * @return record committed at or below readVersion, or null if the employee did not exist yet
+     * @throws EmployeeSnapshotExpiredException if the record visible at readVersion was dropped
+     */
+    public EmployeeRecord visibleAt(long readVersion) {
+        EmployeeRecord record = this;
+        while (record.version > readVersion) {
+            EmployeeRecord older = record.previous;
+            if (older == null) {
+                if (record.first) {
+                    return null;
+                }
+                throw new EmployeeSnapshotExpiredException(readVersion);
+            }
+            record = older;
+        }
+        return record;
+    }
+
+    @Override
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    @Override
+    public String getFirstName() {
+        return firstName;
+    }
+
+    @Override
+    public String getLastName() {
+        return lastName;
+    }
+
+    @Override
+    public String getFullName() {
+        return fullName;
+    }
+
+    @Override
+    public Integer getSalary() {
+        return salary;
+    }
+
+    @Override
+    public Integer getAge() {
+        return age;
+    }
+
+    @Override
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    @Override
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public Instant getContractHireDate() {
+        return contractHireDate;
+    }
+
+    /**
+     * Nullable.
+     * @return null, if Employee has not been terminated.
+     */
+    @Override
+    public Instant getContractTerminationDate() {
+        return contractTerminationDate;
+    }
+
+    /**
+     * Determines if the employee is currently active.
+     * An employee is considered active if they have no termination date.
+     */
+    public boolean isActive() {
+        return contractTerminationDate == null;
+    }
+
+    @Override
+    public void setUuid(UUID uuid) {
+        throw immutable();
+    }
+
+    @Override
+    public void setFirstName(String name) {
+        throw immutable();
+    }
+
+    @Override
+    public void setLastName(String name) {
+        throw immutable();
+    }
+
+    @Override
+    public void setFullName(String name) {
+        throw immutable();
+    }
+
+    @Override
+    public void setSalary(Integer salary) {
+        throw immutable();
+    }
+
+    @Override
+    public void setAge(Integer age) {
+        throw immutable();
+    }
+
+    @Override
+    public void setJobTitle(String jobTitle) {
+        throw immutable();
+    }
+
+    @Override
+    public void setEmail(String email) {
+        throw immutable();
+    }
+
+    @Override
+    public void setContractHireDate(Instant date) {
+        throw immutable();
+    }
+
+    @Override
+    public void setContractTerminationDate(Instant date) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Stored employee records are immutable");
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName != null && lastName != null) {
+            return firstName + " " + lastName;
+        }
+        return firstName != null ? firstName : lastName;
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeRecord{" + "uuid="
+                + uuid + ", version="
+                + version + ", fullName='"
+                + fullName + '\'' + ", jobTitle='"
+                + jobTitle + '\'' + ", email='"
+                + email + '\'' + '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeRecord record = (EmployeeRecord) o;
+        return version == record.version && uuid.equals(record.uuid);
+    }
+
+    @Override
+    public int hashCode() {
+        return uuid.hashCode() * 31 + Long.hashCode(version);
+    }
+}
@@ -0,0 +1,19 @@
+package com.challenge.api.persistence;
+
+/**
+ * How far a create must get before the service acknowledges it
+ */
+public enum Durability {
+    /**
+     * In-memory only - nothing is written, every restart starts empty
+     */
+    NONE,
+    /**
+     * Logged and fsynced in the background every sync interval - a crash may lose the last interval of creates
+     */
+    ASYNC,
+    /**
+     * Acknowledged only after the journal is fsynced - concurrent creates share one fsync (group commit)
+     */
+    SYNC
+}
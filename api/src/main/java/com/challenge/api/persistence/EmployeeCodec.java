@@ -0,0 +1,135 @@
+package com.challenge.api.persistence;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of an Employee, shared by the journal and snapshots.
+ *
+ * <p>Layout: UUID (two longs), a presence bitmask for the nullable non-string fields, first name, last name, job
+ * title and email as length-prefixed UTF-8 (length -1 for null), then whichever of salary, age, hire date and
+ * termination date are present. Instants keep full precision as epoch seconds plus nanos. The full name is derived
+ * on decode.
+ */
+public final class EmployeeCodec {
+
+    private static final int HAS_SALARY = 1;
+    private static final int HAS_AGE = 1 << 1;
+    private static final int HAS_HIRE_DATE = 1 << 2;
+    private static final int HAS_TERMINATION_DATE = 1 << 3;
+
+    private EmployeeCodec() {}
+
+    /**
+     * Encode an employee
+     *
+     * @param employee with UUID set
+     * @return buffer ready to read, positioned at the start of the encoding
+     */
+    public static ByteBuffer encode(Employee employee) {
+        byte[] firstName = utf8(employee.getFirstName());
+        byte[] lastName = utf8(employee.getLastName());
+        byte[] jobTitle = utf8(employee.getJobTitle());
+        byte[] email = utf8(employee.getEmail());
+
+        int flags = 0;
+        int size = Long.BYTES * 2 + 1;
+        size += stringSize(firstName) + stringSize(lastName) + stringSize(jobTitle) + stringSize(email);
+        if (employee.getSalary() != null) {
+            flags |= HAS_SALARY;
+            size += Integer.BYTES;
+        }
+        if (employee.getAge() != null) {
+            flags |= HAS_AGE;
+            size += Integer.BYTES;
+        }
+        if (employee.getContractHireDate() != null) {
+            flags |= HAS_HIRE_DATE;
+            size += Long.BYTES + Integer.BYTES;
+        }
+        if (employee.getContractTerminationDate() != null) {
+            flags |= HAS_TERMINATION_DATE;
+            size += Long.BYTES + Integer.BYTES;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putLong(employee.getUuid().getMostSignificantBits());
+        buffer.putLong(employee.getUuid().getLeastSignificantBits());
+        buffer.put((byte) flags);
+        putString(buffer, firstName);
+        putString(buffer, lastName);
+        putString(buffer, jobTitle);
+        putString(buffer, email);
+        if (employee.getSalary() != null) {
+            buffer.putInt(employee.getSalary());
+        }
+        if (employee.getAge() != null) {
+            buffer.putInt(employee.getAge());
+        }
+        putInstant(buffer, employee.getContractHireDate());
+        putInstant(buffer, employee.getContractTerminationDate());
+        return buffer.flip();
+    }
+
+    /**
+     * Decode an employee, advancing the buffer past it
+     *
+     * @param buffer positioned at the start of an encoding
+     * @return decoded employee
+     */
+    public static Employee decode(ByteBuffer buffer) {
+        UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+        int flags = buffer.get();
+        String firstName = getString(buffer);
+        String lastName = getString(buffer);
+        String jobTitle = getString(buffer);
+        String email = getString(buffer);
+        Integer salary = (flags & HAS_SALARY) != 0 ? buffer.getInt() : null;
+        Integer age = (flags & HAS_AGE) != 0 ? buffer.getInt() : null;
+        Instant hireDate = (flags & HAS_HIRE_DATE) != 0 ? getInstant(buffer) : null;
+        Instant terminationDate = (flags & HAS_TERMINATION_DATE) != 0 ? getInstant(buffer) : null;
+        return new EmployeeImpl(uuid, firstName, lastName, salary, age, jobTitle, email, hireDate, terminationDate);
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int stringSize(byte[] value) {
+        return Integer.BYTES + (value == null ? 0 : value.length);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static void putInstant(ByteBuffer buffer, Instant value) {
+        if (value != null) {
+            buffer.putLong(value.getEpochSecond());
+            buffer.putInt(value.getNano());
+        }
+    }
+
+    private static Instant getInstant(ByteBuffer buffer) {
+        return Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    }
+}
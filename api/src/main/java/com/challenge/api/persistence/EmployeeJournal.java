@@ -0,0 +1,332 @@
+package com.challenge.api.persistence;
+
+import com.challenge.api.model.Employee;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of employee writes, split into numbered segment files.
+ *
+ * <p>Each record is framed as [payload length][CRC32C of payload][payload]. Appends are queued and written by a
+ * single flusher thread, which drains everything queued since its last write into one gathering write. Under SYNC
+ * durability every batch is followed by one fsync, so concurrent writers share its cost (group commit); under ASYNC
+ * the flusher fsyncs at most once per sync interval and appends return immediately.
+ */
+public class EmployeeJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeJournal.class);
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d{20})\\.log");
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_BATCH = 4096;
+    /**
+     * Segments roll over at this size, which also keeps each one mappable in a single buffer on replay
+     */
+    static final long MAX_SEGMENT_BYTES = 256L * 1024 * 1024;
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+    private static final PendingWrite SHUTDOWN = new PendingWrite(null, null);
+
+    private final Path directory;
+    private final Durability durability;
+    private final long syncIntervalNanos;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final ReentrantLock channelLock = new ReentrantLock();
+    private final Thread flusher;
+
+    private FileChannel channel;
+    private long segment;
+    private volatile IOException failure;
+
+    /**
+     * Open a new segment after the given one and start the flusher
+     *
+     * @param directory journal directory
+     * @param lastSegment highest existing segment number, -1 if none
+     * @param durability ASYNC or SYNC
+     * @param syncInterval longest time between fsyncs under ASYNC
+     * @throws IOException if the segment cannot be created
+     */
+    public EmployeeJournal(Path directory, long lastSegment, Durability durability, Duration syncInterval)
+            throws IOException {
+        this.directory = directory;
+        this.durability = durability;
+        this.syncIntervalNanos = syncInterval.toNanos();
+        this.segment = lastSegment + 1;
+        this.channel = openSegment(segment);
+        this.flusher = new Thread(this::flushLoop, "employee-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Queue an employee record for writing
+     *
+     * @param employee
+     * @return future completed once the record is durable under SYNC, or already completed under ASYNC
+     */
+    public CompletableFuture<Void> append(Employee employee) {
+        IOException failed = failure;
+        if (failed != null) {
+            return CompletableFuture.failedFuture(failed);
+        }
+
+        ByteBuffer payload = EmployeeCodec.encode(employee);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.remaining());
+        record.putInt(payload.remaining()).putInt((int) crc.getValue()).put(payload).flip();
+
+        if (durability == Durability.SYNC) {
+            CompletableFuture<Void> durable = new CompletableFuture<>();
+            queue.add(new PendingWrite(record, durable));
+            return durable;
+        }
+        queue.add(new PendingWrite(record, null));
+        return COMPLETED;
+    }
+
+    /**
+     * Fsync and close the current segment, and direct all later writes to a new one
+     *
+     * @return number of the new segment - every record in lower segments was written before this call returned
+     * @throws IOException if the new segment cannot be created
+     */
+    public long rotate() throws IOException {
+        channelLock.lock();
+        try {
+            rollSegment();
+            return segment;
+        } finally {
+            channelLock.unlock();
+        }
+    }
+
+    /**
+     * Delete segments numbered below the given one
+     *
+     * @param segment first segment to keep
+     * @throws IOException
+     */
+    public void deleteSegmentsBefore(long segment) throws IOException {
+        for (long existing : listSegments(directory)) {
+            if (existing < segment) {
+                Files.deleteIfExists(segmentPath(directory, existing));
+            }
+        }
+    }
+
+    /**
+     * Drain queued writes, fsync and close
+     */
+    @Override
+    public void close() throws IOException {
+        queue.add(SHUTDOWN);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channelLock.lock();
+        try {
+            channel.force(false);
+            channel.close();
+        } finally {
+            channelLock.unlock();
+        }
+    }
+
+    /**
+     * Replay every intact record in the given segment and above, in write order. A torn or corrupt record ends
+     * replay of its segment - only the tail of the segment being written at a crash can be affected.
+     *
+     * @param directory journal directory
+     * @param fromSegment first segment to replay
+     * @param consumer receives each decoded employee
+     * @return highest segment number found, -1 if none
+     * @throws IOException
+     */
+    public static long replay(Path directory, long fromSegment, Consumer<Employee> consumer) throws IOException {
+        List<Long> segments = listSegments(directory);
+        for (long segment : segments) {
+            if (segment >= fromSegment) {
+                replaySegment(segmentPath(directory, segment), consumer);
+            }
+        }
+        return segments.isEmpty() ? -1 : segments.get(segments.size() - 1);
+    }
+
+    /**
+     * @param directory journal directory
+     * @return existing segment numbers, ascending
+     * @throws IOException
+     */
+    static List<Long> listSegments(Path directory) throws IOException {
+        List<Long> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    segments.add(Long.parseLong(matcher.group(1)));
+                }
+            });
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static void replaySegment(Path file, Consumer<Employee> consumer) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            CRC32C crc = new CRC32C();
+            while (buffer.remaining() >= HEADER_BYTES) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    log.warn("Journal {} ends with a torn record at offset {}", file, start);
+                    return;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Journal {} has a corrupt record at offset {}", file, start);
+                    return;
+                }
+                consumer.accept(EmployeeCodec.decode(payload));
+                buffer.position(buffer.position() + length);
+            }
+        }
+    }
+
+    private static Path segmentPath(Path directory, long segment) {
+        return directory.resolve(String.format("journal-%020d.log", segment));
+    }
+
+    private FileChannel openSegment(long segment) throws IOException {
+        return FileChannel.open(
+                segmentPath(directory, segment),
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Caller holds channelLock
+     */
+    private void rollSegment() throws IOException {
+        channel.force(false);
+        channel.close();
+        segment++;
+        channel = openSegment(segment);
+    }
+
+    private void flushLoop() {
+        List<PendingWrite> batch = new ArrayList<>();
+        long pollNanos = Math.max(syncIntervalNanos, TimeUnit.MILLISECONDS.toNanos(1));
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        boolean running = true;
+
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+            if (batch.remove(SHUTDOWN)) {
+                running = false;
+            }
+
+            try {
+                channelLock.lock();
+                try {
+                    if (!batch.isEmpty()) {
+                        write(batch);
+                        dirty = true;
+                    }
+                    boolean syncDue =
+                            durability == Durability.SYNC || System.nanoTime() - lastSync >= syncIntervalNanos;
+                    if (dirty && syncDue) {
+                        channel.force(false);
+                        lastSync = System.nanoTime();
+                        dirty = false;
+                    }
+                    if (channel.size() >= MAX_SEGMENT_BYTES) {
+                        rollSegment();
+                    }
+                } finally {
+                    channelLock.unlock();
+                }
+                for (PendingWrite write : batch) {
+                    if (write.durable != null) {
+                        write.durable.complete(null);
+                    }
+                }
+            } catch (IOException e) {
+                log.error("Employee journal write failed - further writes will be rejected", e);
+                failure = e;
+                for (PendingWrite write : batch) {
+                    if (write.durable != null) {
+                        write.durable.completeExceptionally(e);
+                    }
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    private void write(List<PendingWrite> batch) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        long remaining = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = batch.get(i).record;
+            remaining += buffers[i].remaining();
+        }
+        while (remaining > 0) {
+            remaining -= channel.write(buffers);
+        }
+    }
+
+    /**
+     * Queued record, with the future to complete once it is durable (SYNC only)
+     */
+    private static final class PendingWrite {
+        private final ByteBuffer record;
+        private final CompletableFuture<Void> durable;
+
+        private PendingWrite(ByteBuffer record, CompletableFuture<Void> durable) {
+            this.record = record;
+            this.durable = durable;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.challenge.api.persistence;
+
+import com.challenge.api.model.Employee;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Durable storage for the employee store: a write-ahead journal plus periodic snapshots.
+ *
+ * <p>Lifecycle: the owning service calls {@link #recover} once to rebuild its state, then {@link #start} to open the
+ * journal and schedule snapshots, then {@link #append} for every write. With durability NONE every call is a no-op.
+ */
+@Component
+public class EmployeePersistence {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeePersistence.class);
+
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
+
+    private final PersistenceProperties properties;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final LongAdder appends = new LongAdder();
+
+    private long lastSegment = -1;
+    private volatile EmployeeJournal journal;
+    private Supplier<Stream<Employee>> snapshotSource;
+    private ScheduledExecutorService snapshotScheduler;
+    private volatile long appendsAtLastSnapshot;
+
+    /**
+     * Constructor
+     *
+     * @param properties
+     */
+    @Autowired
+    public EmployeePersistence(PersistenceProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Persistence that keeps nothing - for in-memory use
+     *
+     * @return disabled persistence
+     */
+    public static EmployeePersistence disabled() {
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(Durability.NONE);
+        return new EmployeePersistence(properties);
+    }
+
+    public boolean isEnabled() {
+        return properties.getDurability() != Durability.NONE;
+    }
+
+    /**
+     * Load the newest snapshot, then replay the journal written after it. Replay may hand back employees already
+     * loaded from the snapshot, and later versions of them, so the consumer must keep the last version it is handed
+     * for each UUID.
+     *
+     * @param consumer receives each recovered employee, in write order
+     */
+    public void recover(Consumer<Employee> consumer) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Files.createDirectories(properties.getDirectory());
+            long started = System.nanoTime();
+
+            OptionalLong snapshot = EmployeeSnapshotFile.latest(properties.getDirectory());
+            long loaded = 0;
+            if (snapshot.isPresent()) {
+                loaded = EmployeeSnapshotFile.load(properties.getDirectory(), snapshot.getAsLong(), consumer);
+            }
+            long[] replayed = {0};
+            long replayedSegment = EmployeeJournal.replay(
+                    properties.getDirectory(), snapshot.orElse(0), consumer.andThen(e -> replayed[0]++));
+            // New writes must land in a segment the snapshot does not cover, even if its journal is gone
+            lastSegment = Math.max(replayedSegment, snapshot.orElse(0) - 1);
+
+            log.info(
+                    "Recovered {} employees from snapshot and {} journal records in {} ms",
+                    loaded,
+                    replayed[0],
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Employee store recovery failed", e);
+        }
+    }
+
+    /**
+     * Open the journal and schedule snapshots
+     *
+     * @param source walks the latest version of every stored employee when a snapshot is taken
+     */
+    public void start(Supplier<Stream<Employee>> source) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            this.snapshotSource = source;
+            this.journal = new EmployeeJournal(
+                    properties.getDirectory(), lastSegment, properties.getDurability(), properties.getSyncInterval());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Employee journal could not be opened", e);
+        }
+
+        long interval = properties.getSnapshotInterval().toMillis();
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "employee-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Journal a write
+     *
+     * @param employee
+     * @return future completed once the write is as durable as configured
+     */
+    public CompletableFuture<Void> append(Employee employee) {
+        EmployeeJournal current = journal;
+        if (current == null) {
+            return COMPLETED;
+        }
+        appends.increment();
+        return current.append(employee);
+    }
+
+    /**
+     * Write a snapshot of the store and drop the journal segments and snapshots it supersedes. The journal is
+     * rotated first, so every record in the older segments is already in the store when it is walked; writes that
+     * land during the walk go to the new segment and are replayed on top of the snapshot.
+     *
+     * @throws IOException
+     */
+    public void snapshot() throws IOException {
+        EmployeeJournal current = journal;
+        if (current == null) {
+            return;
+        }
+        snapshotLock.lock();
+        try {
+            long started = System.nanoTime();
+            long appendsBefore = appends.sum();
+            long segment = current.rotate();
+            long count;
+            try (Stream<Employee> employees = snapshotSource.get()) {
+                count = EmployeeSnapshotFile.write(properties.getDirectory(), segment, employees.iterator());
+            }
+            current.deleteSegmentsBefore(segment);
+            EmployeeSnapshotFile.deleteBefore(properties.getDirectory(), segment);
+            appendsAtLastSnapshot = appendsBefore;
+            log.info(
+                    "Snapshot of {} employees written in {} ms",
+                    count,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * Take a final snapshot, so the next start has no journal to replay, and close the journal
+     */
+    @PreDestroy
+    public void close() {
+        if (journal == null) {
+            return;
+        }
+        // Let an in-flight snapshot finish - interrupting it would close its file channel
+        snapshotScheduler.shutdown();
+        try {
+            if (appends.sum() != appendsAtLastSnapshot) {
+                snapshot();
+            }
+        } catch (IOException e) {
+            log.warn("Final snapshot failed - the journal will be replayed on next start", e);
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.error("Employee journal did not close cleanly", e);
+        }
+        journal = null;
+    }
+
+    private void scheduledSnapshot() {
+        if (appends.sum() == appendsAtLastSnapshot) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Scheduled snapshot failed", e);
+        }
+    }
+}
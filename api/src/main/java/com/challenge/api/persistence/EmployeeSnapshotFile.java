@@ -0,0 +1,226 @@
+package com.challenge.api.persistence;
+
+import com.challenge.api.model.Employee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary snapshot of the employee store.
+ *
+ * <p>A snapshot named for journal segment N holds every employee written to segments below N, so recovery loads it
+ * and replays segments N and above. Layout: magic, format version, employee count and CRC32C of the body, followed
+ * by [length][EmployeeCodec payload] per employee. Snapshots are written to a temporary file and atomically renamed,
+ * so a snapshot that exists under its final name is complete.
+ */
+public final class EmployeeSnapshotFile {
+
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d{20})\\.bin");
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES * 2;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+    /**
+     * Largest region mapped at once on load
+     */
+    private static final long MAP_WINDOW_BYTES = 1L << 30;
+
+    private EmployeeSnapshotFile() {}
+
+    /**
+     * Write a snapshot covering journal segments below the given one
+     *
+     * @param directory snapshot directory
+     * @param segment first journal segment not covered by the snapshot
+     * @param employees employees to write
+     * @return number of employees written
+     * @throws IOException
+     */
+    public static long write(Path directory, long segment, Iterator<Employee> employees) throws IOException {
+        return write(snapshotPath(directory, segment), employees);
+    }
+
+    /**
+     * Write employees in the snapshot format to any file, such as an export
+     *
+     * @param target file to write, replaced atomically once complete
+     * @param employees employees to write
+     * @return number of employees written
+     * @throws IOException
+     */
+    public static long write(Path target, Iterator<Employee> employees) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long count = 0;
+        CRC32C crc = new CRC32C();
+
+        try (FileChannel out = FileChannel.open(
+                temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            out.position(HEADER_BYTES);
+            while (employees.hasNext()) {
+                ByteBuffer payload = EmployeeCodec.encode(employees.next());
+                int recordBytes = Integer.BYTES + payload.remaining();
+                if (buffer.remaining() < recordBytes) {
+                    drain(out, buffer, crc);
+                }
+                if (buffer.remaining() < recordBytes) {
+                    // Oversized record - write it on its own
+                    ByteBuffer record = ByteBuffer.allocate(recordBytes);
+                    record.putInt(payload.remaining()).put(payload).flip();
+                    crc.update(record.duplicate());
+                    writeFully(out, record);
+                } else {
+                    buffer.putInt(payload.remaining()).put(payload);
+                }
+                count++;
+            }
+            drain(out, buffer, crc);
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(count).putLong(crc.getValue()).flip();
+            out.position(0);
+            writeFully(out, header);
+            out.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return count;
+    }
+
+    /**
+     * Memory-map a snapshot and decode every employee in it
+     *
+     * @param directory snapshot directory
+     * @param segment snapshot to load
+     * @param consumer receives each decoded employee
+     * @return number of employees loaded
+     * @throws IOException if the snapshot cannot be read or fails its integrity check
+     */
+    public static long load(Path directory, long segment, Consumer<Employee> consumer) throws IOException {
+        return load(snapshotPath(directory, segment), consumer);
+    }
+
+    /**
+     * Memory-map a file in the snapshot format, such as an export, and decode every employee in it
+     *
+     * @param file file to load
+     * @param consumer receives each decoded employee
+     * @return number of employees loaded
+     * @throws IOException if the file cannot be read or fails its integrity check
+     */
+    public static long load(Path file, Consumer<Employee> consumer) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Snapshot " + file + " is truncated");
+            }
+            ByteBuffer header = in.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Snapshot " + file + " has an unknown format");
+            }
+            long expectedCount = header.getLong();
+            long expectedCrc = header.getLong();
+
+            CRC32C crc = new CRC32C();
+            long count = 0;
+            long position = HEADER_BYTES;
+            while (position < size) {
+                // Map a window starting at the next record, decoding every record that fits in it
+                ByteBuffer window = in.map(
+                        FileChannel.MapMode.READ_ONLY, position, Math.min(MAP_WINDOW_BYTES, size - position));
+                int consumed = 0;
+                while (window.remaining() >= Integer.BYTES) {
+                    int length = window.getInt(window.position());
+                    if (length < 0 || Integer.BYTES + length > window.remaining()) {
+                        break;
+                    }
+                    crc.update(window.slice(window.position(), Integer.BYTES + length));
+                    window.position(window.position() + Integer.BYTES);
+                    consumer.accept(EmployeeCodec.decode(window.slice(window.position(), length)));
+                    window.position(window.position() + length);
+                    consumed = window.position();
+                    count++;
+                }
+                if (consumed == 0) {
+                    throw new IOException("Snapshot " + file + " is corrupt at offset " + position);
+                }
+                position += consumed;
+            }
+
+            if (count != expectedCount || crc.getValue() != expectedCrc) {
+                throw new IOException("Snapshot " + file + " failed its integrity check");
+            }
+            return count;
+        }
+    }
+
+    /**
+     * @param directory snapshot directory
+     * @return segment number of the newest snapshot, if any
+     * @throws IOException
+     */
+    public static OptionalLong latest(Path directory) throws IOException {
+        OptionalLong latest = OptionalLong.empty();
+        if (!Files.isDirectory(directory)) {
+            return latest;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SNAPSHOT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    long segment = Long.parseLong(matcher.group(1));
+                    if (latest.isEmpty() || segment > latest.getAsLong()) {
+                        latest = OptionalLong.of(segment);
+                    }
+                }
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Delete snapshots older than the given one
+     *
+     * @param directory snapshot directory
+     * @param segment snapshot to keep
+     * @throws IOException
+     */
+    public static void deleteBefore(Path directory, long segment) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SNAPSHOT_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(1)) < segment) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static Path snapshotPath(Path directory, long segment) {
+        return directory.resolve(String.format("snapshot-%020d.bin", segment));
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        writeFully(out, buffer);
+        buffer.clear();
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+}
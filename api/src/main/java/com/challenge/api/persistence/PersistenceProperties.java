@@ -0,0 +1,61 @@
+package com.challenge.api.persistence;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Employee store persistence settings (employee.persistence.*)
+ */
+@ConfigurationProperties(prefix = "employee.persistence")
+public class PersistenceProperties {
+
+    /**
+     * Durability level
+     */
+    private Durability durability = Durability.SYNC;
+    /**
+     * Directory holding journal segments and snapshots
+     */
+    private Path directory = Path.of("data");
+    /**
+     * Time between snapshots
+     */
+    private Duration snapshotInterval = Duration.ofMinutes(10);
+    /**
+     * Longest time an ASYNC write can sit in the OS cache before it is fsynced
+     */
+    private Duration syncInterval = Duration.ofMillis(200);
+
+    public Durability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(Durability durability) {
+        this.durability = durability;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    public void setSnapshotInterval(Duration snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public Duration getSyncInterval() {
+        return syncInterval;
+    }
+
+    public void setSyncInterval(Duration syncInterval) {
+        this.syncInterval = syncInterval;
+    }
+}
@@ -0,0 +1,157 @@
+package com.challenge.api.service;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeChange;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free feed of employee creations and terminations, for subscribers that follow the store instead of
+ * re-reading it.
+ *
+ * <p>Changes are numbered by a consecutive sequence and kept in a ring of fixed capacity. Publishing claims the next
+ * sequence and overwrites the oldest slot - it never waits for subscribers, so a slow subscriber cannot stall a
+ * writer. A subscriber that falls more than a ring behind finds its next change overwritten and must resync from the
+ * store. Sequences restart whenever the feed is created, so the feed carries an epoch that subscribers resume with.
+ */
+public final class EmployeeChangeFeed {
+
+    /**
+     * Changes kept when no capacity is given
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private static final CompletableFuture<Void> PUBLISHED = CompletableFuture.completedFuture(null);
+
+    private final long epoch = System.currentTimeMillis();
+    private final int mask;
+    private final AtomicReferenceArray<EmployeeChange> slots;
+    /**
+     * Latest claimed sequence - its slot may still be being written
+     */
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * Completed on the next publish, if any subscriber is waiting for one
+     */
+    private final AtomicReference<CompletableFuture<Void>> waiting = new AtomicReference<>();
+
+    /**
+     * Constructor - feed of the default capacity
+     */
+    public EmployeeChangeFeed() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param capacity changes kept, a power of two
+     */
+    public EmployeeChangeFeed(int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Change feed capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return time the feed was created, in epoch milliseconds - identifies its sequence numbers
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * @return changes kept
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * @return latest sequence published or being published, 0 before the first change
+     */
+    public long getSequence() {
+        return sequence.get();
+    }
+
+    /**
+     * Append a change, overwriting the oldest one once the feed is full - O(1), never blocks
+     *
+     * @param type
+     * @param employee employee as of the change
+     * @param version store version the change was committed at
+     * @return sequence of the change
+     */
+    public long publish(EmployeeChange.Type type, Employee employee, long version) {
+        long next = sequence.incrementAndGet();
+        slots.set(index(next), new EmployeeChange(next, type, version, employee));
+        if (waiting.get() != null) {
+            CompletableFuture<Void> waiters = waiting.getAndSet(null);
+            if (waiters != null) {
+                waiters.complete(null);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Changes published after a sequence, in sequence order
+     *
+     * @param after last sequence the caller has seen, 0 for none
+     * @param max most changes to return
+     * @return changes - empty if there are none yet, null if changes after the sequence have been overwritten or the
+     *     sequence is ahead of the feed, so the caller must resync
+     */
+    public List<EmployeeChange> readAfter(long after, int max) {
+        long latest = sequence.get();
+        if (after < 0 || after > latest || latest - after > slots.length()) {
+            return null;
+        }
+        List<EmployeeChange> changes = new ArrayList<>((int) Math.min(max, latest - after));
+        for (long next = after + 1; next <= latest && changes.size() < max; next++) {
+            EmployeeChange change = slots.get(index(next));
+            if (change == null || change.getSequence() < next) {
+                // Claimed but not yet written - later changes wait for it, so order is kept
+                break;
+            }
+            if (change.getSequence() > next) {
+                // Overwritten while reading
+                return null;
+            }
+            changes.add(change);
+        }
+        return changes;
+    }
+
+    /**
+     * Wait for the change after a sequence. Waiters share one future per publish - block on it with get rather
+     * than attach dependent actions, which would run on the publishing writer.
+     *
+     * @param after last sequence the caller has seen
+     * @return future completed once the change after the sequence is readable, or it has been overwritten
+     */
+    public CompletableFuture<Void> awaitAfter(long after) {
+        while (true) {
+            CompletableFuture<Void> next = waiting.get();
+            if (next == null) {
+                next = new CompletableFuture<>();
+                if (!waiting.compareAndSet(null, next)) {
+                    continue;
+                }
+            }
+            // Checked after registering, so a publish between the check and the wait is not missed
+            EmployeeChange change = slots.get(index(after + 1));
+            return change != null && change.getSequence() > after ? PUBLISHED : next;
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+}
@@ -1,8 +1,17 @@
 package com.challenge.api.service;
 
 import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeStatistics;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Employee Service interface
@@ -10,12 +19,66 @@ import java.util.UUID;
 public interface EmployeeService {
 
     /**
-     * Get all employees in system
+     * Pin a consistent, read-only view of the store at its latest committed version. A backend that keeps a bounded
+     * history may fail a long walk with {@link com.challenge.api.model.EmployeeSnapshotExpiredException} rather than
+     * return employees newer than the snapshot.
+     *
+     * @return snapshot of all employees
+     */
+    EmployeeSnapshot snapshot();
+
+    /**
+     * Current store version - O(1). Changes whenever any employee is written, so an unchanged version means every
+     * read of the store would return the same result.
+     *
+     * @return store version
+     */
+    long getVersion();
+
+    /**
+     * Version of an employee's latest write - O(1), without materializing the employee
+     *
+     * @param uuid
+     * @return employee version, or -1 if there is no such employee
+     */
+    long getEmployeeVersion(UUID uuid);
+
+    /**
+     * Feed of employee creations and terminations, published as they are committed
+     *
+     * @return change feed
+     */
+    EmployeeChangeFeed getChangeFeed();
+
+    /**
+     * Workforce aggregates - headcount, salary figures and per-job-title breakdown. Maintained as employees are
+     * written, so reading them does not scan the store.
+     *
+     * @return statistics
+     */
+    EmployeeStatistics getStatistics();
+
+    /**
+     * Entries held by each lookup index - O(1) per index, for monitoring
+     *
+     * @return entry count by index name
+     */
+    Map<String, Long> getIndexSizes();
+
+    /**
+     * Get all employees in system, as of one consistent version
      *
      * @return list of all employees
      */
     List<Employee> getAllEmployees();
 
+    /**
+     * Lazily walk all employees in system as of one consistent version, without materializing a list
+     *
+     * @return stream of all employees
+     */
+    Stream<Employee> streamEmployees();
+
     /**
      * Get employee by their UUID
      *
@@ -24,6 +87,16 @@ public interface EmployeeService {
      */
     Employee getEmployeeByUuid(UUID uuid);
 
+    /**
+     * Get one page of employees in a stable order - UUID order for the default backend. Pages are keyed on the last
+     * UUID seen rather than an offset, so employees created mid-walk never shift or repeat entries on later pages.
+     *
+     * @param cursor UUID to resume after, or null to start from the beginning
+     * @param limit maximum page size, at least 1
+     * @return page of employees with the cursor for the next page
+     */
+    EmployeePage getEmployeesPage(UUID cursor, int limit);
+
     /**
      * Create new employee in system
      *
@@ -31,4 +104,84 @@ public interface EmployeeService {
      * @return Employee added
      */
     Employee createEmployee(Employee employee);
+
+    /**
+     * Create new employee in system without blocking on persistence. Validation and conflicts are decided before
+     * this returns; the future completes once the write is as durable as configured. Implementations may still wait
+     * briefly for concurrent in-memory commits before returning.
+     *
+     * @param employee
+     * @return Employee added, or a future failed with the ResponseStatusException createEmployee would throw
+     */
+    CompletableFuture<Employee> createEmployeeAsync(Employee employee);
+
+    /**
+     * Create a batch of employees. Items are accepted or rejected individually; a rejected item never fails the
+     * rest of the batch.
+     *
+     * @param employees
+     * @return per-item results, in batch order
+     */
+    List<EmployeeCreateResult> createEmployees(List<Employee> employees);
+
+    /**
+     * Change an employee's salary. With an expected version the change is conditional: it fails with 412 if the
+     * employee has been written since that version was read.
+     *
+     * @param uuid
+     * @param salary new salary, not negative
+     * @param expectedVersion employee version the change is based on, as from getEmployeeVersion, or -1 for any
+     * @return Employee as updated
+     */
+    Employee updateSalary(UUID uuid, Integer salary, long expectedVersion);
+
+    /**
+     * Terminate an employee's contract - conditional on an expected version like updateSalary. An employee already
+     * terminated is a conflict.
+     *
+     * @param uuid
+     * @param terminationDate contract end, not before the hire date, or null for now
+     * @param expectedVersion employee version the change is based on, as from getEmployeeVersion, or -1 for any
+     * @return Employee as terminated
+     */
+    Employee terminateEmployee(UUID uuid, Instant terminationDate, long expectedVersion);
+
+    /**
+     * Typeahead search - employees whose full name, last name or email starts with the prefix
+     *
+     * @param prefix matched case-insensitively, not blank
+     * @param limit most employees to return, at least 1
+     * @return up to limit matching employees, in matched-term order
+     */
+    List<Employee> searchEmployees(String prefix, int limit);
+
+    /**
+     * Get employees within salary, age and hire date ranges
+     *
+     * @param query at least one bounded range
+     * @return matching employees
+     */
+    List<Employee> findEmployeesInRange(EmployeeRangeQuery query);
+
+    /**
+     * Get employees without a contract termination date
+     *
+     * @return list of active employees
+     */
+    List<Employee> getActiveEmployees();
+
+    /**
+     * Get employees with a contract termination date
+     *
+     * @return list of terminated employees
+     */
+    List<Employee> getTerminatedEmployees();
+
+    /**
+     * Get employees holding a job title
+     *
+     * @param jobTitle matched case-insensitively
+     * @return list of employees with title
+     */
+    List<Employee> getEmployeesByJobTitle(String jobTitle);
 }
@@ -0,0 +1,486 @@
+package com.challenge.api.service.impl;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.service.EmployeeChangeFeed;
+import com.challenge.api.service.EmployeeService;
+import com.challenge.api.service.impl.columnar.ColumnarEmployeeStore;
+import com.challenge.api.service.impl.columnar.EmployeeRowView;
+import com.challenge.api.service.impl.index.PrefixIndex;
+import com.challenge.api.service.impl.stats.WorkforceStatistics;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Employee Service backed by a compact columnar store, selected with employee.store.backend=columnar.
+ *
+ * <p>Trades CPU on read for heap: employees are rows of primitive columns and are handed out as
+ * {@link EmployeeRowView} flyweights, which are read-only. Filtered reads scan the primitive columns rather than
+ * maintaining secondary indexes. In-memory only - employee.persistence does not apply to this backend.
+ *
+ * <p>Rows are append-only and their fields never change once published: an update appends the employee's new state
+ * as a new row, and the old row stays as it was for readers that observed it. The published row count is therefore
+ * the store version - a snapshot is the rows current at the count it observed - and an employee's current row
+ * number versions the employee.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.store.backend", havingValue = "columnar")
+public class ColumnarEmployeeServiceImpl implements EmployeeService {
+
+    /**
+     * Columnar store
+     */
+    private final ColumnarEmployeeStore store;
+
+    /**
+     * Typeahead terms - the one secondary index this backend keeps, since a column scan cannot answer
+     * as-you-type queries fast enough
+     */
+    private final PrefixIndex prefixIndex = new PrefixIndex();
+
+    /**
+     * Aggregates maintained on every write
+     */
+    private final WorkforceStatistics statistics = new WorkforceStatistics();
+
+    /**
+     * Creations and terminations, published as rows are stored
+     */
+    private final EmployeeChangeFeed changeFeed = new EmployeeChangeFeed();
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize initial capacity
+     */
+    public ColumnarEmployeeServiceImpl(@Value("${employee.store.expected-size:1024}") int expectedSize) {
+        this.store = new ColumnarEmployeeStore(expectedSize);
+    }
+
+    /**
+     * Pin the published row count - O(1), no copying
+     *
+     * @return snapshot of all employees
+     */
+    @Override
+    public EmployeeSnapshot snapshot() {
+        int size = store.size();
+        return new EmployeeSnapshot(size, () -> IntStream.range(0, size)
+                .filter(store::isFirstRow)
+                .map(row -> store.rowAt(row, size))
+                .mapToObj(this::view));
+    }
+
+    /**
+     * @return published row count
+     */
+    @Override
+    public long getVersion() {
+        return store.size();
+    }
+
+    /**
+     * @param uuid
+     * @return row count that published the employee's current row, or -1 if absent
+     */
+    @Override
+    public long getEmployeeVersion(UUID uuid) {
+        int row = store.find(uuid);
+        return row < 0 ? -1 : row + 1;
+    }
+
+    /**
+     * @return creations and terminations, each published once its row is
+     */
+    @Override
+    public EmployeeChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * @return aggregates maintained on write - O(1)
+     */
+    @Override
+    public EmployeeStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * @return entries held by the UUID, email and prefix indexes - every employee is in the first two, once
+     */
+    @Override
+    public Map<String, Long> getIndexSizes() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        sizes.put("uuid", statistics.headcount());
+        sizes.put("email", statistics.headcount());
+        sizes.put("prefix", prefixIndex.size());
+        return sizes;
+    }
+
+    /**
+     * Get all employees in the system
+     *
+     * @return List of employees
+     */
+    @Override
+    public List<Employee> getAllEmployees() {
+        return collect(row -> true);
+    }
+
+    /**
+     * Lazily walk all employees in the system, in creation order
+     *
+     * @return stream of employees
+     */
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return snapshot().stream();
+    }
+
+    /**
+     * Get an employee by their UUID
+     *
+     * @param uuid
+     * @return employee with UUID
+     */
+    @Override
+    public Employee getEmployeeByUuid(UUID uuid) {
+        int row = store.find(uuid);
+        if (row < 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found with UUID: " + uuid);
+        }
+        return view(row);
+    }
+
+    /**
+     * Get one page of employees in creation order. The cursor is still the last UUID seen; it is resolved to the
+     * employee's first row, which updates never move, so pages stay stable while employees are created and updated.
+     *
+     * @param cursor UUID to resume after, or null to start from the beginning
+     * @param limit maximum page size
+     * @return page of employees
+     */
+    @Override
+    public EmployeePage getEmployeesPage(UUID cursor, int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page limit must be at least 1");
+        }
+
+        int start = 0;
+        if (cursor != null) {
+            int row = store.find(cursor);
+            if (row < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown cursor: " + cursor);
+            }
+            start = store.firstRow(row) + 1;
+        }
+
+        int size = store.size();
+        List<Employee> employees = new ArrayList<>(Math.min(limit, 1024));
+        boolean hasMore = false;
+        for (int row = start; row < size; row++) {
+            if (!store.isFirstRow(row)) {
+                continue;
+            }
+            if (employees.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            employees.add(view(store.rowAt(row, size)));
+        }
+        UUID nextCursor = hasMore ? employees.get(employees.size() - 1).getUuid() : null;
+        return new EmployeePage(employees, nextCursor);
+    }
+
+    /**
+     * Create new employee in system
+     *
+     * @param employee to add
+     * @return read-only view of the employee added
+     */
+    @Override
+    public Employee createEmployee(Employee employee) {
+        String invalid = EmployeeValidator.validate(employee);
+        if (invalid != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, invalid);
+        }
+
+        EmployeeValidator.applyDefaults(employee);
+
+        String conflict = insert(employee);
+        if (conflict != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, conflict);
+        }
+        return view(store.find(employee.getUuid()));
+    }
+
+    /**
+     * Create new employee in system - the columnar store is in-memory only, so the future is already complete
+     *
+     * @param employee to add
+     * @return completed future of the employee added
+     */
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(Employee employee) {
+        try {
+            return CompletableFuture.completedFuture(createEmployee(employee));
+        } catch (ResponseStatusException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Create a batch of employees in a single pass
+     *
+     * @param employees to add
+     * @return per-item results, in batch order
+     */
+    @Override
+    public List<EmployeeCreateResult> createEmployees(List<Employee> employees) {
+        List<EmployeeCreateResult> results = new ArrayList<>(employees.size());
+        Set<UUID> batchUuids = new HashSet<>();
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            String invalid = employee == null ? "Employee is required" : EmployeeValidator.validate(employee);
+            if (invalid != null) {
+                UUID uuid = employee == null ? null : employee.getUuid();
+                results.add(new EmployeeCreateResult(i, EmployeeCreateResult.Status.INVALID, uuid, invalid));
+                continue;
+            }
+
+            EmployeeValidator.applyDefaults(employee);
+
+            // The store rejects repeated emails itself; repeated UUIDs are reported as in-batch duplicates
+            String conflict = batchUuids.add(employee.getUuid())
+                    ? insert(employee)
+                    : "Employee with UUID " + employee.getUuid() + " appears more than once in batch";
+
+            EmployeeCreateResult.Status status =
+                    conflict == null ? EmployeeCreateResult.Status.CREATED : EmployeeCreateResult.Status.CONFLICT;
+            results.add(new EmployeeCreateResult(i, status, employee.getUuid(), conflict));
+        }
+
+        return results;
+    }
+
+    /**
+     * Change an employee's salary
+     *
+     * @param uuid
+     * @param salary new salary, not negative
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @return read-only view of the employee as updated
+     */
+    @Override
+    public Employee updateSalary(UUID uuid, Integer salary, long expectedVersion) {
+        return update(uuid, expectedVersion, EmployeeUpdates.salary(salary));
+    }
+
+    /**
+     * Terminate an employee's contract
+     *
+     * @param uuid
+     * @param terminationDate contract end, or null for now
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @return read-only view of the employee as terminated
+     */
+    @Override
+    public Employee terminateEmployee(UUID uuid, Instant terminationDate, long expectedVersion) {
+        return update(uuid, expectedVersion, EmployeeUpdates.termination(uuid, terminationDate));
+    }
+
+    /**
+     * Append the changed state of an employee as its new row. A writer that loses to a concurrent update of the same
+     * employee retries on the winner's row, or fails with 412 if it expected the row the winner replaced.
+     *
+     * @param uuid
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @param change derives the new state from the current row, or throws to reject it
+     * @return view of the new row
+     */
+    private Employee update(UUID uuid, long expectedVersion, UnaryOperator<Employee> change) {
+        while (true) {
+            int row = store.find(uuid);
+            if (row < 0) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found with UUID: " + uuid);
+            }
+            if (expectedVersion >= 0 && row + 1 != expectedVersion) {
+                throw new ResponseStatusException(
+                        HttpStatus.PRECONDITION_FAILED,
+                        "Employee " + uuid + " has changed since version " + expectedVersion);
+            }
+
+            Employee current = view(row);
+            int replacement = store.replace(row, change.apply(current));
+            if (replacement < 0) {
+                continue;
+            }
+            Employee updated = view(replacement);
+            statistics.replace(current, updated);
+            if (!store.isTerminated(row) && store.isTerminated(replacement)) {
+                changeFeed.publish(EmployeeChange.Type.TERMINATED, updated, replacement + 1);
+            }
+            return updated;
+        }
+    }
+
+    /**
+     * Typeahead search over the prefix index - O(log n + limit) plus a UUID lookup per match
+     *
+     * @param prefix
+     * @param limit
+     * @return list
+     */
+    @Override
+    public List<Employee> searchEmployees(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search prefix is required");
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search limit must be at least 1");
+        }
+        return resolve(prefixIndex.search(prefix, limit));
+    }
+
+    /**
+     * Range query by column scan - O(n). This backend keeps no sorted indexes, trading query time for heap.
+     *
+     * @param query
+     * @return list, in creation order
+     */
+    @Override
+    public List<Employee> findEmployeesInRange(EmployeeRangeQuery query) {
+        if (query == null || query.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one range bound is required");
+        }
+        return collect(row -> query.matches(view(row)));
+    }
+
+    /**
+     * Get list of current employees - column scan
+     *
+     * @return list
+     */
+    @Override
+    public List<Employee> getActiveEmployees() {
+        return collect(row -> !store.isTerminated(row));
+    }
+
+    /**
+     * Get list of terminated employees - column scan
+     *
+     * @return list
+     */
+    @Override
+    public List<Employee> getTerminatedEmployees() {
+        return collect(store::isTerminated);
+    }
+
+    /**
+     * Get list of employees with specific title - dictionary lookup, then a scan of the title code column
+     *
+     * @param jobTitle
+     * @return list
+     */
+    @Override
+    public List<Employee> getEmployeesByJobTitle(String jobTitle) {
+        if (jobTitle == null) {
+            return new ArrayList<>();
+        }
+        boolean[] codes = store.jobTitleCodes(jobTitle);
+        return collect(row -> {
+            int code = store.jobTitleCode(row);
+            return code >= 0 && code < codes.length && codes[code];
+        });
+    }
+
+    /**
+     * Scan the rows current at the published row count, in creation order
+     *
+     * @param filter tests a current row
+     * @return views of the matching rows
+     */
+    private List<Employee> collect(IntPredicate filter) {
+        int size = store.size();
+        List<Employee> employees = new ArrayList<>();
+        for (int first = 0; first < size; first++) {
+            if (!store.isFirstRow(first)) {
+                continue;
+            }
+            int row = store.rowAt(first, size);
+            if (filter.test(row)) {
+                employees.add(view(row));
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Store an employee and count it in the statistics
+     *
+     * @param employee validated, with defaults applied
+     * @return conflict reason, or null if stored
+     */
+    private String insert(Employee employee) {
+        ColumnarEmployeeStore.Insert outcome = store.insert(employee);
+        if (outcome == ColumnarEmployeeStore.Insert.STORED) {
+            prefixIndex.add(employee);
+            statistics.add(employee);
+            int row = store.find(employee.getUuid());
+            changeFeed.publish(EmployeeChange.Type.CREATED, view(row), row + 1);
+        }
+        return conflictReason(employee, outcome);
+    }
+
+    /**
+     * @param uuids
+     * @return views of the stored employees among the UUIDs
+     */
+    private List<Employee> resolve(List<UUID> uuids) {
+        List<Employee> employees = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            int row = store.find(uuid);
+            if (row >= 0) {
+                employees.add(view(row));
+            }
+        }
+        return employees;
+    }
+
+    private Employee view(int row) {
+        return new EmployeeRowView(store, row);
+    }
+
+    private static String conflictReason(Employee employee, ColumnarEmployeeStore.Insert insert) {
+        switch (insert) {
+            case UUID_CONFLICT:
+                return "Employee with UUID " + employee.getUuid() + " already exists";
+            case EMAIL_CONFLICT:
+                return "Employee with email " + employee.getEmail() + " already exists";
+            default:
+                return null;
+        }
+    }
+}
@@ -1,31 +1,184 @@
 package com.challenge.api.service.impl;
 
 import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeSnapshotExpiredException;
+import com.challenge.api.model.EmployeeStatistics;
 import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.model.impl.EmployeeRecord;
+import com.challenge.api.persistence.EmployeePersistence;
+import com.challenge.api.service.EmployeeChangeFeed;
 import com.challenge.api.service.EmployeeService;
+import com.challenge.api.service.impl.index.ActiveStatusIndex;
+import com.challenge.api.service.impl.index.EmployeeIndex;
+import com.challenge.api.service.impl.index.JobTitleIndex;
+import com.challenge.api.service.impl.index.PrefixIndex;
+import com.challenge.api.service.impl.index.RangeIndex;
+import com.challenge.api.service.impl.stats.WorkforceStatistics;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
- * Employee Service interface implementation
+ * Employee Service interface implementation - the default backend (employee.store.backend=default)
+ *
+ * <p>The store holds immutable {@link EmployeeRecord}s stamped with the store version they were committed at.
+ * Writes are ordered commits. A writer draws the next version from an atomic clock and installs its record with a
+ * compare-and-swap on the employee's store entry - putIfAbsent for a create, replace of the record it read for an
+ * update - so of two racing updates of one employee exactly one wins. It then updates the indexes, hands the record
+ * to the journal and marks its version finished. The published version advances over finished versions strictly in
+ * order, whichever writer finishes the one it waits on.
+ *
+ * <p>No lock is held, but writers wait on each other. Before returning, a writer waits until every version drawn
+ * before its own is finished, so it reads back its own write; and no version is drawn while {@link #COMMIT_WINDOW}
+ * commits are unfinished. A writer stalled between drawing and finishing its version - a GC pause, preemption, a slow
+ * index update - therefore holds back every writer behind it until it finishes. Commits never wait on the journal, so
+ * the wait is normally short; waiters spin, then yield, then park, so a long stall costs them little CPU. The wait is
+ * spent on the caller's thread - an event loop, for the reactive module's creates - and never on the journal's
+ * flusher: a write whose journal write fails is reverted on the common pool.
+ *
+ * <p>Readers take no lock either: they read the published version once and only return records committed at or
+ * below it, so a whole-directory read sees a single consistent version. Index lookups are re-checked against the
+ * records they resolve, since an update's index entries move while readers are pinned on either side of it. A chain
+ * keeps only {@link EmployeeRecord#RETAINED_VERSIONS} records, so a read overlapping more updates of one employee than
+ * that cannot be answered at its version: reads that return a result pin a newer version and start again, up to
+ * {@link #READ_ATTEMPTS} times, and a lazy walk fails with {@link EmployeeSnapshotExpiredException}.
  */
 @Service
+@ConditionalOnProperty(name = "employee.store.backend", havingValue = "default", matchIfMissing = true)
 public class EmployeeServiceImpl implements EmployeeService {
 
+    /**
+     * Commits that may be unfinished at once - a writer further ahead of the oldest unfinished one waits for it
+     */
+    private static final int COMMIT_WINDOW = 1 << 12;
+
+    /**
+     * Longest a waiting writer parks before checking again, once spinning and yielding have not been enough
+     */
+    private static final long PARK_NANOS = 50_000;
+
+    /**
+     * Versions a read is pinned to before it gives up because the records it needs keep being dropped
+     */
+    private static final int READ_ATTEMPTS = 3;
+
     /**
      * Map of Employees
      */
-    private final Map<UUID, Employee> employeeStore = new ConcurrentHashMap<>();
+    private final Map<UUID, EmployeeRecord> employeeStore = new ConcurrentHashMap<>();
 
     /**
-     * Constructor
+     * Store keys in UUID order, for keyset pagination
+     */
+    private final NavigableSet<UUID> uuidOrder = new ConcurrentSkipListSet<>();
+
+    /**
+     * Unique email index - normalized email to owning employee UUID
+     */
+    private final Map<String, UUID> emailIndex = new ConcurrentHashMap<>();
+
+    /**
+     * Job title index
+     */
+    private final JobTitleIndex jobTitleIndex = new JobTitleIndex();
+
+    /**
+     * Active/terminated partition
+     */
+    private final ActiveStatusIndex activeStatusIndex = new ActiveStatusIndex();
+
+    /**
+     * Typeahead terms
+     */
+    private final PrefixIndex prefixIndex = new PrefixIndex();
+
+    /**
+     * Sorted salary, age and hire date indexes, for range queries
+     */
+    private final RangeIndex<Integer> salaryIndex = new RangeIndex<>(Employee::getSalary);
+
+    private final RangeIndex<Integer> ageIndex = new RangeIndex<>(Employee::getAge);
+
+    private final RangeIndex<Instant> hireDateIndex = new RangeIndex<>(Employee::getContractHireDate);
+
+    /**
+     * Workforce aggregates
+     */
+    private final WorkforceStatistics statistics = new WorkforceStatistics();
+
+    /**
+     * Secondary indexes updated on every write
+     */
+    private final List<EmployeeIndex> indexes = List.of(
+            jobTitleIndex, activeStatusIndex, prefixIndex, salaryIndex, ageIndex, hireDateIndex, statistics);
+
+    /**
+     * Latest version drawn by a writer
+     */
+    private final AtomicLong versionClock = new AtomicLong();
+
+    /**
+     * Finished versions, by version modulo the window - a slot holds a version once its commit is finished
+     */
+    private final AtomicLongArray finishedVersions = new AtomicLongArray(COMMIT_WINDOW);
+
+    /**
+     * Latest committed store version - every version at or below it is finished, so its record is fully installed
+     */
+    private final AtomicLong committedVersion = new AtomicLong();
+
+    /**
+     * Creations and terminations, in publication order
+     */
+    private final EmployeeChangeFeed changeFeed = new EmployeeChangeFeed();
+
+    /**
+     * Journal and snapshots
+     */
+    private final EmployeePersistence persistence;
+
+    /**
+     * Constructor - in-memory store seeded with mock data
      */
     public EmployeeServiceImpl() {
-        initializeMockData();
+        this(EmployeePersistence.disabled());
+    }
+
+    /**
+     * Constructor - rebuilds the store from persistence, seeding mock data only if nothing was recovered
+     *
+     * @param persistence
+     */
+    @Autowired
+    public EmployeeServiceImpl(EmployeePersistence persistence) {
+        this.persistence = persistence;
+        persistence.recover(this::restore);
+        persistence.start(this::streamLatest);
+        if (employeeStore.isEmpty()) {
+            initializeMockData();
+        }
     }
 
     /**
@@ -66,9 +219,81 @@ public class EmployeeServiceImpl implements EmployeeService {
         emp3.setContractHireDate(Instant.parse("2018-03-10T00:00:00Z"));
         emp3.setContractTerminationDate(Instant.parse("2022-12-31T00:00:00Z"));
 
-        employeeStore.put(emp1.getUuid(), emp1);
-        employeeStore.put(emp2.getUuid(), emp2);
-        employeeStore.put(emp3.getUuid(), emp3);
+        List<CompletableFuture<EmployeeRecord>> writes = new ArrayList<>(3);
+        for (Employee employee : List.of(emp1, emp2, emp3)) {
+            insert(employee, writes);
+        }
+        awaitDurable(CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)));
+    }
+
+    /**
+     * Pin the latest committed version - O(1), no copying. A walk that overlaps more than RETAINED_VERSIONS updates of
+     * one employee fails with {@link EmployeeSnapshotExpiredException}.
+     *
+     * @return snapshot of all employees
+     */
+    @Override
+    public EmployeeSnapshot snapshot() {
+        return snapshotAt(committedVersion.get());
+    }
+
+    private EmployeeSnapshot snapshotAt(long version) {
+        return new EmployeeSnapshot(version, () -> employeeStore.values().stream()
+                .map(record -> (Employee) record.visibleAt(version))
+                .filter(Objects::nonNull));
+    }
+
+    /**
+     * @return latest committed store version
+     */
+    @Override
+    public long getVersion() {
+        return committedVersion.get();
+    }
+
+    /**
+     * @param uuid
+     * @return store version the employee's visible record was committed at, or -1 if absent
+     */
+    @Override
+    public long getEmployeeVersion(UUID uuid) {
+        EmployeeRecord employee = pinned(version -> visible(uuid, version));
+        return employee == null ? -1 : employee.version();
+    }
+
+    /**
+     * @return creations and terminations - each published once its version is committed and its journal write is
+     *     durable, so it is visible to a subscriber that reads it back and survives a restart. Concurrent writers may
+     *     publish out of version order; each change carries its version.
+     */
+    @Override
+    public EmployeeChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    /**
+     * @return aggregates maintained at write time - O(1) in the number of employees
+     */
+    @Override
+    public EmployeeStatistics getStatistics() {
+        return statistics.snapshot();
+    }
+
+    /**
+     * @return entries held by the UUID, email and secondary indexes
+     */
+    @Override
+    public Map<String, Long> getIndexSizes() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        sizes.put("uuid", (long) employeeStore.size());
+        sizes.put("email", (long) emailIndex.size());
+        sizes.put("jobTitle", jobTitleIndex.size());
+        sizes.put("activeStatus", activeStatusIndex.size());
+        sizes.put("prefix", prefixIndex.size());
+        sizes.put("salary", salaryIndex.size());
+        sizes.put("age", ageIndex.size());
+        sizes.put("hireDate", hireDateIndex.size());
+        return sizes;
     }
 
     /**
@@ -78,7 +303,30 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public List<Employee> getAllEmployees() {
-        return new ArrayList<>(employeeStore.values());
+        return pinned(version -> snapshotAt(version).stream().collect(Collectors.toCollection(ArrayList::new)));
+    }
+
+    /**
+     * Lazily walk all employees in the system as of the version committed when the walk starts. Unlike
+     * {@link #getAllEmployees()}, a walk that overlaps too many updates of one employee is not retried - it fails with
+     * {@link EmployeeSnapshotExpiredException}.
+     *
+     * @return stream of employees
+     */
+    @Override
+    public Stream<Employee> streamEmployees() {
+        return snapshot().stream();
+    }
+
+    /**
+     * Walk the latest record of every employee, including records whose version is not yet published - the
+     * persistence snapshot source. Every record journaled before the walk starts is installed by then, even if its
+     * commit has not finished.
+     *
+     * @return stream of employees
+     */
+    private Stream<Employee> streamLatest() {
+        return employeeStore.values().stream().map(Employee.class::cast);
     }
 
     /**
@@ -89,13 +337,48 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public Employee getEmployeeByUuid(UUID uuid) {
-        Employee employee = employeeStore.get(uuid);
+        EmployeeRecord employee = pinned(version -> visible(uuid, version));
         if (employee == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found with UUID: " + uuid);
         }
         return employee;
     }
 
+    /**
+     * Get one page of employees in UUID order - O(log n + limit)
+     *
+     * @param cursor UUID to resume after, or null to start from the beginning
+     * @param limit maximum page size
+     * @return page of employees
+     */
+    @Override
+    public EmployeePage getEmployeesPage(UUID cursor, int limit) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page limit must be at least 1");
+        }
+
+        return pinned(version -> page(cursor, limit, version));
+    }
+
+    private EmployeePage page(UUID cursor, int limit, long version) {
+        NavigableSet<UUID> keys = cursor == null ? uuidOrder : uuidOrder.tailSet(cursor, false);
+        List<Employee> employees = new ArrayList<>(Math.min(limit, 1024));
+        boolean hasMore = false;
+        for (UUID uuid : keys) {
+            if (employees.size() == limit) {
+                hasMore = true;
+                break;
+            }
+            Employee employee = visible(uuid, version);
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+
+        UUID nextCursor = hasMore ? employees.get(employees.size() - 1).getUuid() : null;
+        return new EmployeePage(employees, nextCursor);
+    }
+
     /**
      * Create new employee in system
      *
@@ -104,56 +387,598 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public Employee createEmployee(Employee employee) {
-        // Validate required fields
-        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "First name is required");
+        return awaitDurable(claim(employee));
+    }
+
+    /**
+     * Create new employee in system, completing once the journal write is durable. No thread waits on the write -
+     * the future completes on the journal's writer, or on the common pool once a failed write is reverted. The
+     * caller still waits, briefly, for commits drawn before this one to finish, as every writer does.
+     *
+     * @param employee to add
+     * @return future of the Employee added to system
+     */
+    @Override
+    public CompletableFuture<Employee> createEmployeeAsync(Employee employee) {
+        CompletableFuture<EmployeeRecord> write;
+        try {
+            write = claim(employee);
+        } catch (ResponseStatusException e) {
+            return CompletableFuture.failedFuture(e);
         }
+        return write.handle((created, failure) -> {
+            if (failure != null) {
+                throw notPersisted(failure);
+            }
+            return created;
+        });
+    }
 
-        if (employee.getEmail() == null || employee.getEmail().trim().isEmpty()) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Email is required");
+    /**
+     * Validate an employee and insert it into the store and indexes
+     *
+     * @param employee to add
+     * @return journal write of the employee, completing with the record committed
+     */
+    private CompletableFuture<EmployeeRecord> claim(Employee employee) {
+        String invalid = EmployeeValidator.validate(employee);
+        if (invalid != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, invalid);
         }
 
-        // Generate UUID if not provided
-        if (employee.getUuid() == null) {
-            employee.setUuid(UUID.randomUUID());
+        EmployeeValidator.applyDefaults(employee);
+
+        List<CompletableFuture<EmployeeRecord>> writes = new ArrayList<>(1);
+        String conflict = insert(employee, writes);
+        if (conflict != null) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, conflict);
         }
+        return writes.get(0);
+    }
 
-        // Set hire date if not provided
-        if (employee.getContractHireDate() == null) {
-            employee.setContractHireDate(Instant.now());
+    /**
+     * Create a batch of employees in a single pass. Each item is validated and claimed on its own, so invalid or
+     * conflicting items - including duplicates within the batch - are reported without failing the rest.
+     *
+     * @param employees to add
+     * @return per-item results, in batch order
+     */
+    @Override
+    public List<EmployeeCreateResult> createEmployees(List<Employee> employees) {
+        List<EmployeeCreateResult> results = new ArrayList<>(employees.size());
+        Set<String> batchEmails = new HashSet<>();
+        Set<UUID> batchUuids = new HashSet<>();
+        List<CompletableFuture<EmployeeRecord>> writes = new ArrayList<>();
+
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            String invalid = employee == null ? "Employee is required" : EmployeeValidator.validate(employee);
+            if (invalid != null) {
+                UUID uuid = employee == null ? null : employee.getUuid();
+                results.add(new EmployeeCreateResult(i, EmployeeCreateResult.Status.INVALID, uuid, invalid));
+                continue;
+            }
+
+            EmployeeValidator.applyDefaults(employee);
+
+            String conflict;
+            if (!batchUuids.add(employee.getUuid())) {
+                conflict = "Employee with UUID " + employee.getUuid() + " appears more than once in batch";
+            } else if (!batchEmails.add(EmployeeValidator.normalizeEmail(employee.getEmail()))) {
+                conflict = "Employee with email " + employee.getEmail() + " appears more than once in batch";
+            } else {
+                conflict = insert(employee, writes);
+            }
+
+            EmployeeCreateResult.Status status =
+                    conflict == null ? EmployeeCreateResult.Status.CREATED : EmployeeCreateResult.Status.CONFLICT;
+            results.add(new EmployeeCreateResult(i, status, employee.getUuid(), conflict));
         }
 
-        // Check if UUID already exists
+        // One wait for the whole batch - the journal commits it in as few fsyncs as it can
+        awaitDurable(CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)));
+        return results;
+    }
+
+    /**
+     * Change an employee's salary
+     *
+     * @param uuid
+     * @param salary new salary, not negative
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @return Employee as updated
+     */
+    @Override
+    public Employee updateSalary(UUID uuid, Integer salary, long expectedVersion) {
+        return update(uuid, expectedVersion, EmployeeUpdates.salary(salary));
+    }
+
+    /**
+     * Terminate an employee's contract
+     *
+     * @param uuid
+     * @param terminationDate contract end, or null for now
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @return Employee as terminated
+     */
+    @Override
+    public Employee terminateEmployee(UUID uuid, Instant terminationDate, long expectedVersion) {
+        return update(uuid, expectedVersion, EmployeeUpdates.termination(uuid, terminationDate));
+    }
+
+    /**
+     * Replace an employee's record and wait until the change is durable
+     *
+     * @param uuid
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @param change derives the new state from the current record, or throws to reject it
+     * @return the new record
+     */
+    private Employee update(UUID uuid, long expectedVersion, UnaryOperator<Employee> change) {
+        List<CompletableFuture<EmployeeRecord>> writes = new ArrayList<>(1);
+        replace(uuid, expectedVersion, change, writes);
+        return awaitDurable(writes.get(0));
+    }
+
+    /**
+     * Claims the employee's email in the unique index, then commits an immutable record of it at the next store
+     * version. The email claim and the store entry are both atomic putIfAbsents, so concurrent creates with the same
+     * email or UUID cannot both succeed.
+     *
+     * @param employee to store, with UUID and email set
+     * @param writes receives the journal write of the record, completing with the record - null for recovered
+     *     employees, which are neither journaled nor published to the change feed. The creation is published once
+     *     the write completes, and removed again at a new version if it fails.
+     * @return conflict reason, or null if stored
+     */
+    private String insert(Employee employee, List<CompletableFuture<EmployeeRecord>> writes) {
+        // Fast-fail on UUID conflict before claiming the email
         if (employeeStore.containsKey(employee.getUuid())) {
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT, "Employee with UUID " + employee.getUuid() + " already exists");
+            return "Employee with UUID " + employee.getUuid() + " already exists";
         }
 
-        // Check if email already exists
-        boolean emailExists =
-                employeeStore.values().stream().anyMatch(e -> e.getEmail().equalsIgnoreCase(employee.getEmail()));
+        String emailKey = EmployeeValidator.normalizeEmail(employee.getEmail());
+        if (emailIndex.putIfAbsent(emailKey, employee.getUuid()) != null) {
+            return "Employee with email " + employee.getEmail() + " already exists";
+        }
 
-        if (emailExists) {
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT, "Employee with email " + employee.getEmail() + " already exists");
+        long version = beginCommit();
+        EmployeeRecord record;
+        CompletableFuture<Void> write;
+        try {
+            record = new EmployeeRecord(employee, version, null);
+            if (employeeStore.putIfAbsent(record.getUuid(), record) != null) {
+                // Release the email claim so the address stays available
+                emailIndex.remove(emailKey, record.getUuid());
+                return "Employee with UUID " + record.getUuid() + " already exists";
+            }
+            write = install(record, emailKey, writes != null);
+        } finally {
+            // Finish last - readers pinned to this version find the record and all its index entries. A failed
+            // commit is finished too, or every later version would wait on it forever.
+            finishCommit(version);
+        }
+        if (write != null) {
+            awaitCommitted(version);
+            writes.add(afterWrite(
+                    write,
+                    record,
+                    () -> changeFeed.publish(EmployeeChange.Type.CREATED, record, version),
+                    () -> revertInsert(record, emailKey)));
         }
+        return null;
+    }
 
-        // Save employee
-        employeeStore.put(employee.getUuid(), employee);
+    /**
+     * Index a record already in the store and journal it. If either step throws, the record, its index entries and
+     * its email claim are removed again before the exception propagates, so the uncommitted version installs nothing.
+     *
+     * @param record stored at its UUID
+     * @param emailKey normalized email claimed for it
+     * @param journal whether to journal the record - false for recovered employees
+     * @return journal write of the record, or null if not journaled
+     */
+    private CompletableFuture<Void> install(EmployeeRecord record, String emailKey, boolean journal) {
+        int indexed = 0;
+        try {
+            uuidOrder.add(record.getUuid());
+            for (EmployeeIndex index : indexes) {
+                index.add(record);
+                indexed++;
+            }
+            return journal ? persistence.append(record) : null;
+        } catch (RuntimeException e) {
+            for (int i = indexed - 1; i >= 0; i--) {
+                indexes.get(i).remove(record);
+            }
+            uuidOrder.remove(record.getUuid());
+            employeeStore.remove(record.getUuid(), record);
+            emailIndex.remove(emailKey, record.getUuid());
+            throw e;
+        }
+    }
 
-        return employee;
+    /**
+     * Commits a changed copy of an employee at the next store version by compare-and-swap of its store entry. A
+     * writer that loses the swap to a concurrent update retries on the winner's record, or fails with 412 if it
+     * expected the version the winner replaced.
+     *
+     * <p>An update builds only on a record whose version is committed. The next update of the same employee
+     * therefore starts after this one's index changes and journal write, so both are applied in version order.
+     *
+     * @param uuid
+     * @param expectedVersion employee version the change is based on, or -1 for any
+     * @param change derives the new state from the current record, or throws to reject it
+     * @param writes receives the journal write of the record, completing with the record - null for recovered
+     *     employees, which are neither journaled nor published to the change feed. A termination is published once
+     *     the write completes, and the replaced state is restored at a new version if it fails.
+     * @return the new record, committed
+     */
+    private EmployeeRecord replace(
+            UUID uuid,
+            long expectedVersion,
+            UnaryOperator<Employee> change,
+            List<CompletableFuture<EmployeeRecord>> writes) {
+        for (int attempt = 0; ; attempt++) {
+            EmployeeRecord current = employeeStore.get(uuid);
+            if (current == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Employee not found with UUID: " + uuid);
+            }
+            if (expectedVersion >= 0 && current.version() != expectedVersion) {
+                throw new ResponseStatusException(
+                        HttpStatus.PRECONDITION_FAILED,
+                        "Employee " + uuid + " has changed since version " + expectedVersion);
+            }
+            if (current.version() > committedVersion.get()) {
+                // The previous write of this employee is still finishing
+                backOff(attempt);
+                continue;
+            }
+
+            Employee updated = change.apply(current);
+            long version = beginCommit();
+            EmployeeRecord record;
+            CompletableFuture<Void> write;
+            try {
+                record = new EmployeeRecord(updated, version, current);
+                if (!employeeStore.replace(uuid, current, record)) {
+                    continue;
+                }
+                write = reindex(current, record, writes != null);
+            } finally {
+                finishCommit(version);
+            }
+            awaitCommitted(version);
+            if (write != null) {
+                boolean terminated = current.isActive() && !record.isActive();
+                writes.add(afterWrite(
+                        write,
+                        record,
+                        () -> {
+                            if (terminated) {
+                                changeFeed.publish(EmployeeChange.Type.TERMINATED, record, version);
+                            }
+                        },
+                        () -> revertReplace(current, record)));
+            }
+            return record;
+        }
     }
 
-    // Additional helper methods
+    /**
+     * Follow a record's journal write. Success is handled on the thread completing the write - the journal's flusher -
+     * since publishing never waits. A revert draws a version and may wait on other commits, so it runs on the common
+     * pool instead and never holds up the flusher's next fsync.
+     *
+     * @param write journal write of the record
+     * @param record committed record
+     * @param published run once the write is durable
+     * @param revert run if the write fails, before the failure propagates
+     * @return write completing with the record, or failing as the journal write did once reverted
+     */
+    private static CompletableFuture<EmployeeRecord> afterWrite(
+            CompletableFuture<Void> write, EmployeeRecord record, Runnable published, Runnable revert) {
+        CompletableFuture<EmployeeRecord> done = new CompletableFuture<>();
+        write.whenComplete((ignored, failure) -> {
+            if (failure == null) {
+                try {
+                    published.run();
+                    done.complete(record);
+                } catch (RuntimeException e) {
+                    done.completeExceptionally(e);
+                }
+                return;
+            }
+            ForkJoinPool.commonPool().execute(() -> {
+                try {
+                    revert.run();
+                } finally {
+                    done.completeExceptionally(failure);
+                }
+            });
+        });
+        return done;
+    }
+
+    /**
+     * Re-index a record that replaced another in the store and journal it. If either step throws, the index entries
+     * and the store entry are put back to the replaced record before the exception propagates.
+     *
+     * @param previous record replaced
+     * @param record record replacing it, stored at its UUID
+     * @param journal whether to journal the record - false for recovered employees
+     * @return journal write of the record, or null if not journaled
+     */
+    private CompletableFuture<Void> reindex(EmployeeRecord previous, EmployeeRecord record, boolean journal) {
+        int reindexed = 0;
+        try {
+            for (EmployeeIndex index : indexes) {
+                index.replace(previous, record);
+                reindexed++;
+            }
+            return journal ? persistence.append(record) : null;
+        } catch (RuntimeException e) {
+            for (int i = reindexed - 1; i >= 0; i--) {
+                indexes.get(i).replace(record, previous);
+            }
+            employeeStore.replace(record.getUuid(), record, previous);
+            throw e;
+        }
+    }
+
+    /**
+     * Remove a created employee whose journal write failed, at a new store version, so it is not served, indexed or
+     * holding its email when the restart that would lose it comes. An employee already updated on top of the record
+     * is left in place - the update's journal record holds every field and restores the employee on recovery.
+     *
+     * @param record as created
+     * @param emailKey normalized email claimed for it
+     */
+    private void revertInsert(EmployeeRecord record, String emailKey) {
+        long version = beginCommit();
+        try {
+            if (employeeStore.remove(record.getUuid(), record)) {
+                for (EmployeeIndex index : indexes) {
+                    index.remove(record);
+                }
+                uuidOrder.remove(record.getUuid());
+                emailIndex.remove(emailKey, record.getUuid());
+            }
+        } finally {
+            finishCommit(version);
+        }
+    }
+
+    /**
+     * Restore the state an update replaced once the update's journal write failed, as a new record at a new store
+     * version. As for a failed create, an update already made on top of it is left in place.
+     *
+     * @param previous record the update replaced
+     * @param record record of the failed update
+     */
+    private void revertReplace(EmployeeRecord previous, EmployeeRecord record) {
+        long version = beginCommit();
+        try {
+            EmployeeRecord restored = new EmployeeRecord(previous, version, record);
+            if (employeeStore.replace(record.getUuid(), record, restored)) {
+                for (EmployeeIndex index : indexes) {
+                    index.replace(record, restored);
+                }
+            }
+        } finally {
+            finishCommit(version);
+        }
+    }
+
+    /**
+     * Draw the next store version - waits only while the window of unfinished commits is full
+     *
+     * @return version to commit at
+     */
+    private long beginCommit() {
+        long version = versionClock.incrementAndGet();
+        for (int attempt = 0; version - committedVersion.get() > COMMIT_WINDOW; attempt++) {
+            backOff(attempt);
+        }
+        return version;
+    }
+
+    /**
+     * Mark a version finished, whether or not its commit installed a record, then advance the committed version
+     * over every finished version that follows it. Whichever writer finishes the version the others wait on
+     * publishes theirs too.
+     *
+     * @param version
+     */
+    private void finishCommit(long version) {
+        finishedVersions.set(slot(version), version);
+        while (true) {
+            long committed = committedVersion.get();
+            long next = committed + 1;
+            if (finishedVersions.get(slot(next)) != next) {
+                return;
+            }
+            committedVersion.compareAndSet(committed, next);
+        }
+    }
+
+    /**
+     * Wait until a finished version is committed, so the writer reads back its own write - only as long as the
+     * commits drawn before it take to finish
+     *
+     * @param version
+     */
+    private void awaitCommitted(long version) {
+        for (int attempt = 0; committedVersion.get() < version; attempt++) {
+            backOff(attempt);
+        }
+    }
+
+    private static int slot(long version) {
+        return (int) (version & (COMMIT_WINDOW - 1));
+    }
+
+    /**
+     * Spin briefly, then yield, then park, so a waiting writer lets the one it waits on run and stops burning CPU
+     * when that writer is stalled
+     *
+     * @param attempt waits so far
+     */
+    private static void backOff(int attempt) {
+        if (attempt < 64) {
+            Thread.onSpinWait();
+        } else if (attempt < 128) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * Run a read pinned to the latest committed version, pinning again if a record it needs was dropped first
+     *
+     * @param read reads the store as of the version it is given
+     * @return result of the first attempt that completes
+     * @throws EmployeeSnapshotExpiredException if every attempt overlapped too many updates of one employee
+     */
+    private <T> T pinned(LongFunction<T> read) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return read.apply(committedVersion.get());
+            } catch (EmployeeSnapshotExpiredException e) {
+                if (attempt == READ_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param uuid
+     * @param version store version the reader is pinned to
+     * @return record visible at the version, or null
+     * @throws EmployeeSnapshotExpiredException if that record was dropped
+     */
+    private EmployeeRecord visible(UUID uuid, long version) {
+        EmployeeRecord head = employeeStore.get(uuid);
+        return head == null ? null : head.visibleAt(version);
+    }
+
+    /**
+     * Re-insert a recovered employee. Journal replay can repeat employees already loaded from a snapshot, or hand
+     * back later versions of them, so a recovered employee replaces the one already held.
+     *
+     * @param employee
+     */
+    private void restore(Employee employee) {
+        if (employeeStore.containsKey(employee.getUuid())) {
+            replace(employee.getUuid(), -1, current -> employee, null);
+        } else {
+            insert(employee, null);
+        }
+    }
+
+    /**
+     * Block until a journal write is as durable as configured
+     *
+     * @param write
+     * @return what the write completed with
+     */
+    private static <T> T awaitDurable(CompletableFuture<T> write) {
+        try {
+            return write.join();
+        } catch (CompletionException e) {
+            throw notPersisted(e);
+        }
+    }
+
+    /**
+     * Error for a journal write that failed
+     *
+     * @param failure as thrown by the write, possibly wrapped in a CompletionException
+     * @return 503 exception
+     */
+    private static ResponseStatusException notPersisted(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Employee could not be persisted", cause);
+    }
+
+    /**
+     * Typeahead search over the prefix index - O(log n + limit)
+     *
+     * @param prefix
+     * @param limit
+     * @return list
+     */
+    @Override
+    public List<Employee> searchEmployees(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search prefix is required");
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search limit must be at least 1");
+        }
+        return resolve(prefixIndex.search(prefix, limit), employee -> true);
+    }
+
+    /**
+     * Range query over the sorted indexes. The bounded ranges are walked in lockstep to find the smallest, which is
+     * the only one read in full; its employees are then checked against the other ranges - O(log n + r x k) for r
+     * ranges whose smallest holds k employees.
+     *
+     * @param query
+     * @return list, in order of the smallest range's field
+     */
+    @Override
+    public List<Employee> findEmployeesInRange(EmployeeRangeQuery query) {
+        if (query == null || query.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At least one range bound is required");
+        }
+
+        List<Iterator<UUID>> ranges = new ArrayList<>(3);
+        if (query.hasSalaryRange()) {
+            ranges.add(salaryIndex.range(query.getMinSalary(), query.getMaxSalary()));
+        }
+        if (query.hasAgeRange()) {
+            ranges.add(ageIndex.range(query.getMinAge(), query.getMaxAge()));
+        }
+        if (query.hasHireDateRange()) {
+            ranges.add(hireDateIndex.range(query.getHiredFrom(), query.getHiredTo()));
+        }
+
+        List<UUID> candidates = RangeIndex.smallest(ranges);
+        return pinned(version -> {
+            List<Employee> employees = new ArrayList<>(candidates.size());
+        // An update moving an employee within the range is briefly indexed under both values
+            Set<UUID> seen = new HashSet<>();
+            for (UUID uuid : candidates) {
+                Employee employee = visible(uuid, version);
+                if (employee != null && query.matches(employee) && seen.add(uuid)) {
+                    employees.add(employee);
+                }
+            }
+            return employees;
+        });
+    }
 
     /**
      * Get list of current employees
+     *
      * @return list
      */
+    @Override
     public List<Employee> getActiveEmployees() {
-        return employeeStore.values().stream()
-                .filter(e -> e.getContractTerminationDate() == null)
-                .toList();
+        return resolve(activeStatusIndex.active(), employee -> employee.getContractTerminationDate() == null);
+    }
+
+    /**
+     * Get list of terminated employees
+     *
+     * @return list
+     */
+    @Override
+    public List<Employee> getTerminatedEmployees() {
+        return resolve(activeStatusIndex.terminated(), employee -> employee.getContractTerminationDate() != null);
     }
 
     /**
@@ -162,9 +987,29 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @param jobTitle
      * @return list
      */
+    @Override
     public List<Employee> getEmployeesByJobTitle(String jobTitle) {
-        return employeeStore.values().stream()
-                .filter(e -> e.getJobTitle() != null && e.getJobTitle().equalsIgnoreCase(jobTitle))
-                .toList();
+        return resolve(jobTitleIndex.get(jobTitle), employee -> JobTitleIndex.holds(employee, jobTitle));
+    }
+
+    /**
+     * Look up indexed UUIDs in the store as of one version - O(result size). The index may already hold an update's
+     * entries that the version does not see, so each employee is re-checked.
+     *
+     * @param uuids
+     * @param matches whether the employee, as of the version, belongs in the result
+     * @return list
+     */
+    private List<Employee> resolve(Collection<UUID> uuids, Predicate<Employee> matches) {
+        return pinned(version -> {
+            List<Employee> employees = new ArrayList<>(uuids.size());
+            for (UUID uuid : uuids) {
+                Employee employee = visible(uuid, version);
+                if (employee != null && matches.test(employee)) {
+                    employees.add(employee);
+                }
+            }
+            return employees;
+        });
     }
 }
@@ -0,0 +1,71 @@
+package com.challenge.api.service.impl;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Update rules shared by every EmployeeService backend. Each change derives an employee's new state from its current
+ * one, or throws the ResponseStatusException that rejects it.
+ */
+public final class EmployeeUpdates {
+
+    private EmployeeUpdates() {}
+
+    /**
+     * @param salary new salary - rejected here, before any lookup, if null or negative
+     * @return change to the salary
+     */
+    public static UnaryOperator<Employee> salary(Integer salary) {
+        if (salary == null || salary < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Salary must not be negative");
+        }
+        return current -> {
+            Employee updated = copy(current);
+            updated.setSalary(salary);
+            return updated;
+        };
+    }
+
+    /**
+     * @param uuid employee terminated, for the error message
+     * @param terminationDate contract end, or null for now
+     * @return change that terminates an active employee - 409 if already terminated, 400 if before the hire date
+     */
+    public static UnaryOperator<Employee> termination(UUID uuid, Instant terminationDate) {
+        Instant date = terminationDate == null ? Instant.now() : terminationDate;
+        return current -> {
+            if (current.getContractTerminationDate() != null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Employee " + uuid + " is already terminated");
+            }
+            if (current.getContractHireDate() != null && date.isBefore(current.getContractHireDate())) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "Termination date must not be before the hire date");
+            }
+            Employee updated = copy(current);
+            updated.setContractTerminationDate(date);
+            return updated;
+        };
+    }
+
+    /**
+     * @param employee
+     * @return mutable copy of every field
+     */
+    private static Employee copy(Employee employee) {
+        return new EmployeeImpl(
+                employee.getUuid(),
+                employee.getFirstName(),
+                employee.getLastName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getJobTitle(),
+                employee.getEmail(),
+                employee.getContractHireDate(),
+                employee.getContractTerminationDate());
+    }
+}
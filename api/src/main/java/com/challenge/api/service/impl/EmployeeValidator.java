@@ -0,0 +1,57 @@
+package com.challenge.api.service.impl;
+
+import com.challenge.api.model.Employee;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Create rules shared by every EmployeeService backend
+ */
+public final class EmployeeValidator {
+
+    private EmployeeValidator() {}
+
+    /**
+     * Check required fields
+     *
+     * @param employee
+     * @return reason the employee is invalid, or null if valid
+     */
+    public static String validate(Employee employee) {
+        if (employee.getFirstName() == null || employee.getFirstName().trim().isEmpty()) {
+            return "First name is required";
+        }
+
+        if (employee.getEmail() == null || employee.getEmail().trim().isEmpty()) {
+            return "Email is required";
+        }
+
+        return null;
+    }
+
+    /**
+     * Generate UUID and set hire date if not provided
+     *
+     * @param employee
+     */
+    public static void applyDefaults(Employee employee) {
+        if (employee.getUuid() == null) {
+            employee.setUuid(UUID.randomUUID());
+        }
+
+        if (employee.getContractHireDate() == null) {
+            employee.setContractHireDate(Instant.now());
+        }
+    }
+
+    /**
+     * Email uniqueness key - trimmed and case-folded
+     *
+     * @param email
+     * @return normalized email
+     */
+    public static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
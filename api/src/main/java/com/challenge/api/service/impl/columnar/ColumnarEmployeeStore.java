@@ -0,0 +1,382 @@
+package com.challenge.api.service.impl.columnar;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.service.impl.EmployeeValidator;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntPredicate;
+
+/**
+ * Append-only, column-oriented employee storage.
+ *
+ * <p>Each employee is a row number into primitive column arrays: UUID as two longs, salary and age as ints, dates
+ * as epoch millis, names and job title as {@link StringDictionary} codes, and email as UTF-8 bytes in a shared
+ * arena. UUIDs and normalized emails are indexed by {@link RowIndex}, which keeps only a hash and a row per key and
+ * checks candidates against the columns, so neither index holds keys of its own.
+ *
+ * <p>Rows are copy-on-write. An update appends the employee's new state as a new row, records the new row as the
+ * replacement of the old one and points the UUID index at it; the old row is left as it was. A reader that observed
+ * row count n sees, for each employee, the row that was current when the count was n: the employee's first row,
+ * followed along its replacements while they are below n. Every row remembers the employee's first row, so
+ * employees keep their creation order however often they are updated. Emails never change, so the email index stays
+ * on the first row.
+ *
+ * <p>Writers are serialized by a lock. A row is written in full, and its predecessor marked replaced, before the row
+ * count is published, and columns grow by copying into new arrays before the new arrays are published, so readers
+ * never need the lock - any row below the count they observed is complete in whichever arrays they see, and a
+ * replacement at or above that count is ignored.
+ *
+ * <p>Limits of the encoding: {@link Integer#MIN_VALUE} salary/age and {@link Long#MIN_VALUE} dates are reserved as
+ * null, dates keep millisecond precision, and the email arena is capped at 2 GB.
+ */
+public final class ColumnarEmployeeStore {
+
+    private static final int NULL_INT = Integer.MIN_VALUE;
+    private static final long NULL_LONG = Long.MIN_VALUE;
+    /**
+     * Replacement of a row not yet replaced - no row can replace row 0, which is always an employee's first
+     */
+    private static final int NOT_REPLACED = 0;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final RowIndex uuidIndex;
+    private final RowIndex emailIndex;
+    private final StringDictionary names = new StringDictionary();
+    private final StringDictionary jobTitles = new StringDictionary();
+
+    private volatile Columns columns;
+    private volatile byte[] emailArena;
+    private volatile int rowCount;
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize initial capacity hint
+     */
+    public ColumnarEmployeeStore(int expectedSize) {
+        int capacity = Math.max(16, expectedSize);
+        this.columns = new Columns(capacity);
+        this.emailArena = new byte[capacity * 24];
+        this.uuidIndex = new RowIndex(capacity);
+        this.emailIndex = new RowIndex(capacity);
+    }
+
+    /**
+     * Outcome of an insert
+     */
+    public enum Insert {
+        STORED,
+        UUID_CONFLICT,
+        EMAIL_CONFLICT
+    }
+
+    /**
+     * Append an employee unless its UUID or email is already stored
+     *
+     * @param employee with UUID and email set
+     * @return outcome
+     */
+    public Insert insert(Employee employee) {
+        UUID uuid = employee.getUuid();
+        String emailKey = EmployeeValidator.normalizeEmail(employee.getEmail());
+        IntPredicate hasUuid = row -> hasUuid(row, uuid);
+        IntPredicate hasEmail = row -> emailKey.equals(EmployeeValidator.normalizeEmail(email(row)));
+
+        writeLock.lock();
+        try {
+            if (uuidIndex.get(uuid.hashCode(), hasUuid) >= 0) {
+                return Insert.UUID_CONFLICT;
+            }
+            if (emailIndex.get(emailKey.hashCode(), hasEmail) >= 0) {
+                return Insert.EMAIL_CONFLICT;
+            }
+
+            int row = rowCount;
+            writeRow(row, employee, row);
+
+            // Publish the row before indexing it, so index hits always see a complete row
+            rowCount = row + 1;
+            uuidIndex.putIfAbsent(uuid.hashCode(), hasUuid, row);
+            emailIndex.putIfAbsent(emailKey.hashCode(), hasEmail, row);
+            return Insert.STORED;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Append a new state of a stored employee as a new row and make it the employee's current row, unless the
+     * employee was updated since the caller read it
+     *
+     * @param row employee's current row, as read by the caller
+     * @param updated new state, with the same UUID and email
+     * @return the new row, or -1 if row is no longer the employee's current row
+     */
+    public int replace(int row, Employee updated) {
+        UUID uuid = updated.getUuid();
+        IntPredicate hasUuid = candidate -> hasUuid(candidate, uuid);
+
+        writeLock.lock();
+        try {
+            if (uuidIndex.get(uuid.hashCode(), hasUuid) != row) {
+                return -1;
+            }
+
+            int replacement = rowCount;
+            writeRow(replacement, updated, columns.origin[row]);
+            columns.replacedBy[row] = replacement;
+
+            // As for an insert - publish before re-pointing the index
+            rowCount = replacement + 1;
+            uuidIndex.replace(uuid.hashCode(), hasUuid, replacement);
+            return replacement;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @param uuid
+     * @return row of the employee, or -1 if absent
+     */
+    public int find(UUID uuid) {
+        return uuidIndex.get(uuid.hashCode(), row -> hasUuid(row, uuid));
+    }
+
+    /**
+     * @return number of published rows - every row below it is complete
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * @param row
+     * @return true if the row is its employee's first - each employee has exactly one
+     */
+    public boolean isFirstRow(int row) {
+        return columns.origin[row] == row;
+    }
+
+    /**
+     * @param row
+     * @return the employee's first row
+     */
+    public int firstRow(int row) {
+        return columns.origin[row];
+    }
+
+    /**
+     * @param firstRow an employee's first row
+     * @param size row count the reader observed
+     * @return the employee's row that was current when the row count was size
+     */
+    public int rowAt(int firstRow, int size) {
+        Columns c = columns;
+        int row = firstRow;
+        for (int next = c.replacedBy[row]; next != NOT_REPLACED && next < size; next = c.replacedBy[row]) {
+            row = next;
+        }
+        return row;
+    }
+
+    public UUID uuid(int row) {
+        Columns c = columns;
+        return new UUID(c.uuidHi[row], c.uuidLo[row]);
+    }
+
+    public String firstName(int row) {
+        return names.decode(columns.firstName[row]);
+    }
+
+    public String lastName(int row) {
+        return names.decode(columns.lastName[row]);
+    }
+
+    public String jobTitle(int row) {
+        return jobTitles.decode(columns.jobTitle[row]);
+    }
+
+    public int jobTitleCode(int row) {
+        return columns.jobTitle[row];
+    }
+
+    public Integer salary(int row) {
+        int salary = columns.salary[row];
+        return salary == NULL_INT ? null : salary;
+    }
+
+    public Integer age(int row) {
+        int age = columns.age[row];
+        return age == NULL_INT ? null : age;
+    }
+
+    public Instant contractHireDate(int row) {
+        return toInstant(columns.hireDate[row]);
+    }
+
+    public Instant contractTerminationDate(int row) {
+        return toInstant(columns.terminationDate[row]);
+    }
+
+    public boolean isTerminated(int row) {
+        return columns.terminationDate[row] != NULL_LONG;
+    }
+
+    public String email(int row) {
+        int[] emailEnd = columns.emailEnd;
+        int start = row == 0 ? 0 : emailEnd[row - 1];
+        return new String(emailArena, start, emailEnd[row] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param jobTitle
+     * @return job title codes matching ignoring case, indexed by code
+     */
+    public boolean[] jobTitleCodes(String jobTitle) {
+        return jobTitles.matchIgnoreCase(jobTitle);
+    }
+
+    /**
+     * Write every column of a row, growing the columns if needed - caller holds writeLock
+     *
+     * @param row next unpublished row
+     * @param employee
+     * @param origin the employee's first row
+     */
+    private void writeRow(int row, Employee employee, int origin) {
+        Columns current = columns;
+        if (row == current.capacity()) {
+            current = current.grow();
+            columns = current;
+        }
+        UUID uuid = employee.getUuid();
+        current.uuidHi[row] = uuid.getMostSignificantBits();
+        current.uuidLo[row] = uuid.getLeastSignificantBits();
+        current.firstName[row] = names.encode(employee.getFirstName());
+        current.lastName[row] = names.encode(employee.getLastName());
+        current.jobTitle[row] = jobTitles.encode(employee.getJobTitle());
+        current.salary[row] = employee.getSalary() == null ? NULL_INT : employee.getSalary();
+        current.age[row] = employee.getAge() == null ? NULL_INT : employee.getAge();
+        current.hireDate[row] = toMillis(employee.getContractHireDate());
+        current.terminationDate[row] = toMillis(employee.getContractTerminationDate());
+        current.emailEnd[row] = appendEmail(row, employee.getEmail());
+        current.origin[row] = origin;
+    }
+
+    /**
+     * Caller holds writeLock
+     *
+     * @return arena offset just past the email
+     */
+    private int appendEmail(int row, String email) {
+        byte[] bytes = email.getBytes(StandardCharsets.UTF_8);
+        int start = row == 0 ? 0 : columns.emailEnd[row - 1];
+        byte[] arena = emailArena;
+        if (start + bytes.length > arena.length) {
+            long grown = Math.max((long) arena.length << 1, (long) start + bytes.length);
+            arena = Arrays.copyOf(arena, (int) Math.min(grown, Integer.MAX_VALUE - 8));
+            emailArena = arena;
+        }
+        System.arraycopy(bytes, 0, arena, start, bytes.length);
+        return start + bytes.length;
+    }
+
+    private static long toMillis(Instant instant) {
+        return instant == null ? NULL_LONG : instant.toEpochMilli();
+    }
+
+    private static Instant toInstant(long millis) {
+        return millis == NULL_LONG ? null : Instant.ofEpochMilli(millis);
+    }
+
+    private boolean hasUuid(int row, UUID uuid) {
+        Columns c = columns;
+        return c.uuidHi[row] == uuid.getMostSignificantBits() && c.uuidLo[row] == uuid.getLeastSignificantBits();
+    }
+
+    /**
+     * One generation of column arrays - replaced as a whole when the store grows
+     */
+    private static final class Columns {
+        private final long[] uuidHi;
+        private final long[] uuidLo;
+        private final int[] firstName;
+        private final int[] lastName;
+        private final int[] jobTitle;
+        private final int[] salary;
+        private final int[] age;
+        private final long[] hireDate;
+        private final long[] terminationDate;
+        private final int[] emailEnd;
+        private final int[] origin;
+        private final int[] replacedBy;
+
+        private Columns(int capacity) {
+            this(
+                    new long[capacity],
+                    new long[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new long[capacity],
+                    new long[capacity],
+                    new int[capacity],
+                    new int[capacity],
+                    new int[capacity]);
+        }
+
+        private Columns(
+                long[] uuidHi,
+                long[] uuidLo,
+                int[] firstName,
+                int[] lastName,
+                int[] jobTitle,
+                int[] salary,
+                int[] age,
+                long[] hireDate,
+                long[] terminationDate,
+                int[] emailEnd,
+                int[] origin,
+                int[] replacedBy) {
+            this.uuidHi = uuidHi;
+            this.uuidLo = uuidLo;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.jobTitle = jobTitle;
+            this.salary = salary;
+            this.age = age;
+            this.hireDate = hireDate;
+            this.terminationDate = terminationDate;
+            this.emailEnd = emailEnd;
+            this.origin = origin;
+            this.replacedBy = replacedBy;
+        }
+
+        private int capacity() {
+            return uuidHi.length;
+        }
+
+        private Columns grow() {
+            int capacity = capacity() + (capacity() >> 1);
+            return new Columns(
+                    Arrays.copyOf(uuidHi, capacity),
+                    Arrays.copyOf(uuidLo, capacity),
+                    Arrays.copyOf(firstName, capacity),
+                    Arrays.copyOf(lastName, capacity),
+                    Arrays.copyOf(jobTitle, capacity),
+                    Arrays.copyOf(salary, capacity),
+                    Arrays.copyOf(age, capacity),
+                    Arrays.copyOf(hireDate, capacity),
+                    Arrays.copyOf(terminationDate, capacity),
+                    Arrays.copyOf(emailEnd, capacity),
+                    Arrays.copyOf(origin, capacity),
+                    Arrays.copyOf(replacedBy, capacity));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.challenge.api.service.impl.columnar;
+
+import com.challenge.api.model.VersionedEmployee;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only flyweight Employee over one row of a {@link ColumnarEmployeeStore}. Holds only the store and row
+ * number; every getter decodes from the columns.
+ */
+public final class EmployeeRowView implements VersionedEmployee {
+
+    private final ColumnarEmployeeStore store;
+    private final int row;
+
+    /**
+     * Constructor
+     *
+     * @param store
+     * @param row published row of the store
+     */
+    public EmployeeRowView(ColumnarEmployeeStore store, int row) {
+        this.store = store;
+        this.row = row;
+    }
+
+    /**
+     * @return row count that published this row - rows never change once published, so it versions the employee
+     */
+    @Override
+    public long version() {
+        return row + 1;
+    }
+
+    @Override
+    public UUID getUuid() {
+        return store.uuid(row);
+    }
+
+    @Override
+    public String getFirstName() {
+        return store.firstName(row);
+    }
+
+    @Override
+    public String getLastName() {
+        return store.lastName(row);
+    }
+
+    @Override
+    public String getFullName() {
+        String firstName = getFirstName();
+        String lastName = getLastName();
+        if (firstName != null && lastName != null) {
+            return firstName + " " + lastName;
+        }
+        return firstName != null ? firstName : lastName;
+    }
+
+    @Override
+    public Integer getSalary() {
+        return store.salary(row);
+    }
+
+    @Override
+    public Integer getAge() {
+        return store.age(row);
+    }
+
+    @Override
+    public String getJobTitle() {
+        return store.jobTitle(row);
+    }
+
+    @Override
+    public String getEmail() {
+        return store.email(row);
+    }
+
+    @Override
+    public Instant getContractHireDate() {
+        return store.contractHireDate(row);
+    }
+
+    /**
+     * Nullable.
+     * @return null, if Employee has not been terminated.
+     */
+    @Override
+    public Instant getContractTerminationDate() {
+        return store.contractTerminationDate(row);
+    }
+
+    /**
+     * Determines if the employee is currently active.
+     */
+    public boolean isActive() {
+        return !store.isTerminated(row);
+    }
+
+    @Override
+    public void setUuid(UUID uuid) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setFirstName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setLastName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setFullName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setSalary(Integer salary) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAge(Integer age) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setJobTitle(String jobTitle) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setEmail(String email) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setContractHireDate(Instant date) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setContractTerminationDate(Instant date) {
+        throw readOnly();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Columnar employee views are read-only");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EmployeeRowView view = (EmployeeRowView) o;
+        return getUuid().equals(view.getUuid());
+    }
+
+    @Override
+    public int hashCode() {
+        return getUuid().hashCode();
+    }
+}
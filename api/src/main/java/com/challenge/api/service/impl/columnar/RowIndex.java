@@ -0,0 +1,170 @@
+package com.challenge.api.service.impl.columnar;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntPredicate;
+
+/**
+ * Open-addressing hash index from a key to a row number, with linear probing over two primitive arrays - no
+ * per-entry objects and no copy of the key. Each slot holds the key's 32-bit hash and its row; the caller confirms
+ * a hash match against the row's own columns.
+ *
+ * <p>Writers are serialized by a StampedLock. Readers probe under an optimistic stamp and only fall back to the
+ * read lock if a write raced with them.
+ */
+public final class RowIndex {
+
+    private static final int EMPTY = -1;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private final StampedLock lock = new StampedLock();
+    private Table table;
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize initial capacity hint
+     */
+    public RowIndex(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param hash key hash
+     * @param isKey tests whether a row holds the key
+     * @return row holding the key, or -1 if absent
+     */
+    public int get(int hash, IntPredicate isKey) {
+        long stamp = lock.tryOptimisticRead();
+        try {
+            int row = table.find(hash, isKey);
+            if (lock.validate(stamp)) {
+                return row;
+            }
+        } catch (RuntimeException e) {
+            // Torn read raced with a writer - retry under the read lock
+        }
+        stamp = lock.readLock();
+        try {
+            return table.find(hash, isKey);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Index a row under a key unless the key is already present
+     *
+     * @param hash key hash
+     * @param isKey tests whether a row holds the key
+     * @param row
+     * @return true if added, false if the key was already present
+     */
+    public boolean putIfAbsent(int hash, IntPredicate isKey, int row) {
+        long stamp = lock.writeLock();
+        try {
+            if (table.find(hash, isKey) != EMPTY) {
+                return false;
+            }
+            if (table.size + 1 > table.rows.length * LOAD_FACTOR) {
+                table = table.resize();
+            }
+            table.insert(hash, row);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Point a key already indexed at another row
+     *
+     * @param hash key hash
+     * @param isKey tests whether a row holds the key - must still hold for the row the key is indexed under
+     * @param row
+     * @return true if re-pointed, false if the key was absent
+     */
+    public boolean replace(int hash, IntPredicate isKey, int row) {
+        long stamp = lock.writeLock();
+        try {
+            return table.replace(hash, isKey, row);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int slots = Math.max(16, (int) (expectedSize / LOAD_FACTOR) + 1);
+        return Integer.highestOneBit(slots - 1) << 1;
+    }
+
+    private static final class Table {
+        private final int[] hashes;
+        private final int[] rows;
+        private int size;
+
+        private Table(int capacity) {
+            this.hashes = new int[capacity];
+            this.rows = new int[capacity];
+            Arrays.fill(rows, EMPTY);
+        }
+
+        /**
+         * Bounded probe, so a read torn by a concurrent write cannot loop forever
+         */
+        private int find(int hash, IntPredicate isKey) {
+            int mask = rows.length - 1;
+            int slot = spread(hash) & mask;
+            for (int probes = 0; probes < rows.length; probes++) {
+                int row = rows[slot];
+                if (row == EMPTY) {
+                    return EMPTY;
+                }
+                if (hashes[slot] == hash && isKey.test(row)) {
+                    return row;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return EMPTY;
+        }
+
+        private boolean replace(int hash, IntPredicate isKey, int row) {
+            int mask = rows.length - 1;
+            int slot = spread(hash) & mask;
+            while (rows[slot] != EMPTY) {
+                if (hashes[slot] == hash && isKey.test(rows[slot])) {
+                    rows[slot] = row;
+                    return true;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        private void insert(int hash, int row) {
+            int mask = rows.length - 1;
+            int slot = spread(hash) & mask;
+            while (rows[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            rows[slot] = row;
+            size++;
+        }
+
+        private Table resize() {
+            Table resized = new Table(rows.length << 1);
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] != EMPTY) {
+                    resized.insert(hashes[i], rows[i]);
+                }
+            }
+            return resized;
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
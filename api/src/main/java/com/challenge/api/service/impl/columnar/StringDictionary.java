@@ -0,0 +1,73 @@
+package com.challenge.api.service.impl.columnar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for low-cardinality strings (names, job titles): each distinct value is stored once and rows
+ * hold its int code. Encoding is single-writer - callers serialize it; decoding is lock-free, since codes are only
+ * handed out after their value is published.
+ */
+public final class StringDictionary {
+
+    /**
+     * Code for a null string
+     */
+    public static final int NULL = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private volatile String[] values = new String[64];
+    private volatile int size;
+
+    /**
+     * Get the code for a value, adding it if new. Caller holds the owning store's write lock.
+     *
+     * @param value nullable
+     * @return code
+     */
+    public int encode(String value) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+
+        int next = size;
+        String[] current = values;
+        if (next == current.length) {
+            current = Arrays.copyOf(current, current.length << 1);
+        }
+        current[next] = value;
+        values = current;
+        size = next + 1;
+        codes.put(value, next);
+        return next;
+    }
+
+    /**
+     * @param code
+     * @return value for the code, null for NULL
+     */
+    public String decode(int code) {
+        return code == NULL ? null : values[code];
+    }
+
+    /**
+     * Codes of every value equal to the given one, ignoring case
+     *
+     * @param value
+     * @return flags indexed by code
+     */
+    public boolean[] matchIgnoreCase(String value) {
+        int count = size;
+        String[] current = values;
+        boolean[] matches = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            matches[i] = current[i].equalsIgnoreCase(value);
+        }
+        return matches;
+    }
+}
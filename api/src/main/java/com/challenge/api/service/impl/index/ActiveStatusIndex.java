@@ -0,0 +1,59 @@
+package com.challenge.api.service.impl.index;
+
+import com.challenge.api.model.Employee;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Partition of employees into active and terminated, by contract termination date
+ */
+public class ActiveStatusIndex implements EmployeeIndex {
+
+    private final Set<UUID> active = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> terminated = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void add(Employee employee) {
+        partition(employee).add(employee.getUuid());
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        partition(employee).remove(employee.getUuid());
+    }
+
+    @Override
+    public void replace(Employee previous, Employee current) {
+        Set<UUID> from = partition(previous);
+        Set<UUID> to = partition(current);
+        if (from != to) {
+            to.add(current.getUuid());
+            from.remove(previous.getUuid());
+        }
+    }
+
+    @Override
+    public long size() {
+        return (long) active.size() + terminated.size();
+    }
+
+    /**
+     * @return live, unmodifiable view of active employee UUIDs
+     */
+    public Set<UUID> active() {
+        return Collections.unmodifiableSet(active);
+    }
+
+    /**
+     * @return live, unmodifiable view of terminated employee UUIDs
+     */
+    public Set<UUID> terminated() {
+        return Collections.unmodifiableSet(terminated);
+    }
+
+    private Set<UUID> partition(Employee employee) {
+        return employee.getContractTerminationDate() == null ? active : terminated;
+    }
+}
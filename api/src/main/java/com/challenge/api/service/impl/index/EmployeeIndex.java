@@ -0,0 +1,38 @@
+package com.challenge.api.service.impl.index;
+
+import com.challenge.api.model.Employee;
+
+/**
+ * Secondary index over the employee store, maintained by the service at write time
+ */
+public interface EmployeeIndex {
+
+    /**
+     * Index a newly stored employee
+     *
+     * @param employee
+     */
+    void add(Employee employee);
+
+    /**
+     * Drop an employee from the index
+     *
+     * @param employee
+     */
+    void remove(Employee employee);
+
+    /**
+     * Re-index an employee whose record was replaced. Entries both records share stay in place, and a changed entry
+     * is added before the old one is dropped, so a concurrent lookup finds the employee under its old value, its new
+     * one or both - callers re-check what they read.
+     *
+     * @param previous record replaced
+     * @param current record replacing it
+     */
+    void replace(Employee previous, Employee current);
+
+    /**
+     * @return number of entries held - cheap enough to read on every metrics scrape
+     */
+    long size();
+}
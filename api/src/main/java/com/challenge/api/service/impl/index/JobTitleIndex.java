@@ -0,0 +1,84 @@
+package com.challenge.api.service.impl.index;
+
+import com.challenge.api.model.Employee;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Case-folded job title to employee UUIDs
+ */
+public class JobTitleIndex implements EmployeeIndex {
+
+    private final Map<String, Set<UUID>> index = new ConcurrentHashMap<>();
+    private final LongAdder size = new LongAdder();
+
+    @Override
+    public void add(Employee employee) {
+        if (employee.getJobTitle() == null) {
+            return;
+        }
+        if (index.computeIfAbsent(key(employee.getJobTitle()), k -> ConcurrentHashMap.newKeySet())
+                .add(employee.getUuid())) {
+            size.increment();
+        }
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        if (employee.getJobTitle() == null) {
+            return;
+        }
+        Set<UUID> uuids = index.get(key(employee.getJobTitle()));
+        if (uuids != null && uuids.remove(employee.getUuid())) {
+            size.decrement();
+        }
+    }
+
+    @Override
+    public void replace(Employee previous, Employee current) {
+        String from = previous.getJobTitle() == null ? null : key(previous.getJobTitle());
+        String to = current.getJobTitle() == null ? null : key(current.getJobTitle());
+        if (!Objects.equals(from, to)) {
+            add(current);
+            remove(previous);
+        }
+    }
+
+    @Override
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Get UUIDs of employees holding a job title
+     *
+     * @param jobTitle matched case-insensitively
+     * @return live, unmodifiable view - empty if no employee holds the title
+     */
+    public Set<UUID> get(String jobTitle) {
+        if (jobTitle == null) {
+            return Collections.emptySet();
+        }
+        Set<UUID> uuids = index.get(key(jobTitle));
+        return uuids == null ? Collections.emptySet() : Collections.unmodifiableSet(uuids);
+    }
+
+    /**
+     * @param employee
+     * @param jobTitle
+     * @return true if the employee holds the job title, matched as get matches it
+     */
+    public static boolean holds(Employee employee, String jobTitle) {
+        return employee.getJobTitle() != null && jobTitle != null && key(employee.getJobTitle()).equals(key(jobTitle));
+    }
+
+    private static String key(String jobTitle) {
+        return jobTitle.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,133 @@
+package com.challenge.api.service.impl.index;
+
+import com.challenge.api.model.Employee;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sorted, case-folded search terms for typeahead - full name, last name and email per employee. Full name starts
+ * with the first name, so it also serves first-name prefixes.
+ *
+ * <p>Terms are kept in a concurrent skip list ordered by text then UUID, so a prefix query seeks to the first term
+ * at or after the prefix in O(log n) and reads forward only until it has enough matches - O(log n + limit)
+ * regardless of how many employees match.
+ */
+public class PrefixIndex implements EmployeeIndex {
+
+    private static final UUID LOWEST_UUID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+    private final NavigableSet<Term> terms = new ConcurrentSkipListSet<>();
+    private final LongAdder size = new LongAdder();
+
+    @Override
+    public void add(Employee employee) {
+        for (String text : texts(employee)) {
+            if (terms.add(new Term(text, employee.getUuid()))) {
+                size.increment();
+            }
+        }
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        for (String text : texts(employee)) {
+            if (terms.remove(new Term(text, employee.getUuid()))) {
+                size.decrement();
+            }
+        }
+    }
+
+    @Override
+    public void replace(Employee previous, Employee current) {
+        Set<String> from = texts(previous);
+        Set<String> to = texts(current);
+        for (String text : to) {
+            if (!from.contains(text) && terms.add(new Term(text, current.getUuid()))) {
+                size.increment();
+            }
+        }
+        for (String text : from) {
+            if (!to.contains(text) && terms.remove(new Term(text, previous.getUuid()))) {
+                size.decrement();
+            }
+        }
+    }
+
+    /**
+     * @return number of terms - counted on write, since a skip list counts itself in O(n)
+     */
+    @Override
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Get UUIDs of employees with a term starting with the prefix, in term order
+     *
+     * @param prefix matched case-insensitively, ignoring surrounding whitespace
+     * @param limit most UUIDs to return
+     * @return distinct UUIDs, at most limit
+     */
+    public List<UUID> search(String prefix, int limit) {
+        String key = key(prefix);
+        Set<UUID> matches = new LinkedHashSet<>();
+        for (Term term : terms.tailSet(new Term(key, LOWEST_UUID), true)) {
+            if (matches.size() == limit || !term.text.startsWith(key)) {
+                break;
+            }
+            // An employee can match on more than one term - keep its first
+            matches.add(term.uuid);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private static Set<String> texts(Employee employee) {
+        Set<String> texts = new LinkedHashSet<>(4);
+        for (String text : new String[] {employee.getFullName(), employee.getLastName(), employee.getEmail()}) {
+            if (text != null && !text.isBlank()) {
+                texts.add(key(text));
+            }
+        }
+        return texts;
+    }
+
+    private static String key(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * One searchable term of one employee
+     */
+    private static final class Term implements Comparable<Term> {
+        private final String text;
+        private final UUID uuid;
+
+        private Term(String text, UUID uuid) {
+            this.text = text;
+            this.uuid = uuid;
+        }
+
+        @Override
+        public int compareTo(Term other) {
+            int byText = text.compareTo(other.text);
+            return byText != 0 ? byText : uuid.compareTo(other.uuid);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Term term && text.equals(term.text) && uuid.equals(term.uuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode() * 31 + uuid.hashCode();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.challenge.api.service.impl.index;
+
+import com.challenge.api.model.Employee;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Sorted index of one comparable employee field, for range queries. Entries are (value, UUID) pairs in a concurrent
+ * skip list, so a range seeks to its lower bound in O(log n) and walks only the k entries inside it. Employees
+ * without a value for the field are not indexed.
+ *
+ * @param <K> field type
+ */
+public class RangeIndex<K extends Comparable<? super K>> implements EmployeeIndex {
+
+    private static final UUID LOWEST_UUID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_UUID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final Function<Employee, K> field;
+    private final NavigableSet<Entry<K>> entries = new ConcurrentSkipListSet<>();
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * Constructor
+     *
+     * @param field extracts the indexed value, null if absent
+     */
+    public RangeIndex(Function<Employee, K> field) {
+        this.field = field;
+    }
+
+    @Override
+    public void add(Employee employee) {
+        K value = field.apply(employee);
+        if (value != null) {
+            if (entries.add(new Entry<>(value, employee.getUuid()))) {
+                size.increment();
+            }
+        }
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        K value = field.apply(employee);
+        if (value != null) {
+            if (entries.remove(new Entry<>(value, employee.getUuid()))) {
+                size.decrement();
+            }
+        }
+    }
+
+    @Override
+    public void replace(Employee previous, Employee current) {
+        if (!Objects.equals(field.apply(previous), field.apply(current))) {
+            add(current);
+            remove(previous);
+        }
+    }
+
+    /**
+     * @return number of indexed values - counted on write, since a skip list counts itself in O(n)
+     */
+    @Override
+    public long size() {
+        return size.sum();
+    }
+
+    /**
+     * Lazily walk the UUIDs of employees with a value in range, in value order
+     *
+     * @param from inclusive lower bound, null for none
+     * @param to inclusive upper bound, null for none
+     * @return iterator over the range
+     */
+    public Iterator<UUID> range(K from, K to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            return Collections.emptyIterator();
+        }
+        NavigableSet<Entry<K>> view = entries;
+        if (from != null) {
+            view = view.tailSet(new Entry<>(from, LOWEST_UUID), true);
+        }
+        if (to != null) {
+            view = view.headSet(new Entry<>(to, HIGHEST_UUID), true);
+        }
+        Iterator<Entry<K>> iterator = view.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public UUID next() {
+                return iterator.next().uuid;
+            }
+        };
+    }
+
+    /**
+     * Walk several ranges in lockstep until one runs out, which finds the smallest without counting any range in
+     * full - O(number of ranges x size of the smallest).
+     *
+     * @param ranges at least one
+     * @return every UUID of the smallest range, in its order
+     */
+    public static List<UUID> smallest(List<Iterator<UUID>> ranges) {
+        List<List<UUID>> seen = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            seen.add(new ArrayList<>());
+        }
+        while (true) {
+            for (int i = 0; i < ranges.size(); i++) {
+                Iterator<UUID> range = ranges.get(i);
+                if (!range.hasNext()) {
+                    return seen.get(i);
+                }
+                seen.get(i).add(range.next());
+            }
+        }
+    }
+
+    /**
+     * One indexed value of one employee
+     */
+    private static final class Entry<K extends Comparable<? super K>> implements Comparable<Entry<K>> {
+        private final K value;
+        private final UUID uuid;
+
+        private Entry(K value, UUID uuid) {
+            this.value = value;
+            this.uuid = uuid;
+        }
+
+        @Override
+        public int compareTo(Entry<K> other) {
+            int byValue = value.compareTo(other.value);
+            return byValue != 0 ? byValue : uuid.compareTo(other.uuid);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?> entry && value.equals(entry.value) && uuid.equals(entry.uuid);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode() * 31 + uuid.hashCode();
+        }
+    }
+}
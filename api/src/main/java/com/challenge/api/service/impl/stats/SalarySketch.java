@@ -0,0 +1,76 @@
+package com.challenge.api.service.impl.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size log-linear histogram of salaries for percentile estimates.
+ *
+ * <p>Values below 64 get a bucket each; above that, each power of two is split into 64 equal buckets, so a bucket
+ * never spans more than 1/64 of its lower bound. 1,664 buckets cover every non-negative int, and both recording and
+ * reading a percentile cost the same regardless of how many salaries were recorded. Negative salaries are counted
+ * in bucket 0.
+ */
+public class SalarySketch {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (32 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void add(int salary) {
+        counts.incrementAndGet(bucket(salary));
+    }
+
+    public void remove(int salary) {
+        counts.decrementAndGet(bucket(salary));
+    }
+
+    /**
+     * @param quantile between 0 and 1
+     * @return midpoint of the bucket holding the quantile, or null if the sketch is empty
+     */
+    public Long percentile(double quantile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total <= 0) {
+            return null;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        int last = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (snapshot[i] > 0) {
+                last = i;
+                seen += snapshot[i];
+                if (seen >= rank) {
+                    return midpoint(i);
+                }
+            }
+        }
+        return midpoint(last);
+    }
+
+    static int bucket(int value) {
+        if (value < SUB_BUCKETS) {
+            return Math.max(0, value);
+        }
+        int exponent = 31 - Integer.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + ((value >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long midpoint(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >> 1);
+    }
+}
@@ -0,0 +1,180 @@
+package com.challenge.api.service.impl.stats;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.service.impl.index.EmployeeIndex;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Workforce aggregates maintained at write time, so reading them costs the same however many employees are stored.
+ *
+ * <p>Counts and sums are striped {@link LongAdder}s, so concurrent writers do not contend on a single counter. Each
+ * figure is exact; figures read together may straddle a write that is still in progress. A replace leaves the
+ * headcount alone and moves only the figures that differ between the two records, each uncounted before it is
+ * counted again, so a reader may briefly see an updated employee missing from a figure but never counted twice.
+ * Salary min and max are the
+ * ends of a sorted map of salary to employees earning it, so they shrink when an update or removal takes away the
+ * last employee at either end - O(log d) per write for d distinct salaries.
+ */
+public class WorkforceStatistics implements EmployeeIndex {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+    private static final String[] PERCENTILE_LABELS = {"p50", "p90", "p99"};
+
+    private final LongAdder headcount = new LongAdder();
+    private final LongAdder activeCount = new LongAdder();
+    private final LongAdder salaryCount = new LongAdder();
+    private final LongAdder salarySum = new LongAdder();
+    private final ConcurrentSkipListMap<Integer, Long> salaryCounts = new ConcurrentSkipListMap<>();
+    private final SalarySketch salarySketch = new SalarySketch();
+    private final Map<String, TitleCounters> jobTitles = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(Employee employee) {
+        apply(employee, 1);
+    }
+
+    @Override
+    public void remove(Employee employee) {
+        apply(employee, -1);
+    }
+
+    /**
+     * Moves the figures that differ from the old record to the new one, uncounting before counting - counters have no
+     * shared entries to keep
+     */
+    @Override
+    public void replace(Employee previous, Employee current) {
+        boolean wasActive = isActive(previous);
+        boolean active = isActive(current);
+        if (wasActive != active) {
+            activeCount.add(active ? 1 : -1);
+        }
+        if (!Objects.equals(previous.getSalary(), current.getSalary())) {
+            applySalary(previous.getSalary(), -1);
+            applySalary(current.getSalary(), 1);
+        }
+        if (wasActive != active
+                || !Objects.equals(previous.getSalary(), current.getSalary())
+                || !Objects.equals(titleKey(previous), titleKey(current))) {
+            applyTitle(previous, -1);
+            applyTitle(current, 1);
+        }
+    }
+
+    public long headcount() {
+        return headcount.sum();
+    }
+
+    /**
+     * @return employees counted
+     */
+    @Override
+    public long size() {
+        return headcount();
+    }
+
+    /**
+     * @return current aggregates
+     */
+    public EmployeeStatistics snapshot() {
+        Map<String, Long> percentiles = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            percentiles.put(PERCENTILE_LABELS[i], salarySketch.percentile(PERCENTILES[i]));
+        }
+
+        Map.Entry<Integer, Long> lowest = salaryCounts.firstEntry();
+        Map.Entry<Integer, Long> highest = salaryCounts.lastEntry();
+        EmployeeStatistics.Salary salary = new EmployeeStatistics.Salary(
+                salaryCount.sum(),
+                salarySum.sum(),
+                lowest == null ? null : lowest.getKey(),
+                highest == null ? null : highest.getKey(),
+                percentiles);
+
+        Map<String, EmployeeStatistics.JobTitle> byTitle = new LinkedHashMap<>();
+        for (TitleCounters counters : jobTitles.values()) {
+            long titleHeadcount = counters.headcount.sum();
+            if (titleHeadcount > 0) {
+                byTitle.put(
+                        counters.title,
+                        new EmployeeStatistics.JobTitle(
+                                titleHeadcount,
+                                counters.activeCount.sum(),
+                                counters.salaryCount.sum(),
+                                counters.salarySum.sum()));
+            }
+        }
+
+        return new EmployeeStatistics(headcount.sum(), activeCount.sum(), salary, byTitle);
+    }
+
+    private void apply(Employee employee, int delta) {
+        headcount.add(delta);
+        if (isActive(employee)) {
+            activeCount.add(delta);
+        }
+        applySalary(employee.getSalary(), delta);
+        applyTitle(employee, delta);
+    }
+
+    private void applySalary(Integer salary, int delta) {
+        if (salary == null) {
+            return;
+        }
+        salaryCount.add(delta);
+        salarySum.add((long) delta * salary);
+        // Atomic per salary - the entry is dropped once no employee earns it
+        salaryCounts.merge(salary, (long) delta, (count, change) -> count + change == 0 ? null : count + change);
+        if (delta > 0) {
+            salarySketch.add(salary);
+        } else {
+            salarySketch.remove(salary);
+        }
+    }
+
+    private void applyTitle(Employee employee, int delta) {
+        String key = titleKey(employee);
+        if (key == null) {
+            return;
+        }
+        TitleCounters counters = jobTitles.computeIfAbsent(key, ignored -> new TitleCounters(employee.getJobTitle()));
+        counters.headcount.add(delta);
+        if (isActive(employee)) {
+            counters.activeCount.add(delta);
+        }
+        if (employee.getSalary() != null) {
+            counters.salaryCount.add(delta);
+            counters.salarySum.add((long) delta * employee.getSalary());
+        }
+    }
+
+    private static boolean isActive(Employee employee) {
+        return employee.getContractTerminationDate() == null;
+    }
+
+    private static String titleKey(Employee employee) {
+        return employee.getJobTitle() == null ? null : employee.getJobTitle().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counters for one job title, grouped case-insensitively
+     */
+    private static final class TitleCounters {
+        private final String title;
+        private final LongAdder headcount = new LongAdder();
+        private final LongAdder activeCount = new LongAdder();
+        private final LongAdder salaryCount = new LongAdder();
+        private final LongAdder salarySum = new LongAdder();
+
+        private TitleCounters(String title) {
+            this.title = title;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.challenge.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class EmployeeDirectoryCacheTest {
+
+    @Test
+    void get_WithUnchangedVersion_ShouldEncodeOnceAndShareBytes() throws IOException {
+        // Arrange
+        EmployeeDirectoryCache cache = new EmployeeDirectoryCache(1 << 20);
+        AtomicInteger encodes = new AtomicInteger();
+        EmployeeDirectoryCache.Encoder encoder = out -> {
+            encodes.incrementAndGet();
+            out.write("[{\"uuid\":\"a\"}]".getBytes(StandardCharsets.UTF_8));
+        };
+
+        // Act
+        byte[] first = cache.get(7, encoder);
+        byte[] second = cache.get(7, encoder);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, encodes.get());
+        assertEquals("[{\"uuid\":\"a\"}]", gunzip(first));
+        assertEquals(first.length, cache.size());
+    }
+
+    @Test
+    void get_WithNewVersion_ShouldReplaceEntry() throws IOException {
+        // Arrange
+        EmployeeDirectoryCache cache = new EmployeeDirectoryCache(1 << 20);
+        cache.get(1, out -> out.write('1'));
+
+        // Act
+        byte[] current = cache.get(2, out -> out.write('2'));
+        byte[] stale = cache.get(1, out -> out.write('1'));
+
+        // Assert
+        assertEquals("2", gunzip(current));
+        assertEquals("1", gunzip(stale));
+        assertSame(current, cache.get(2, out -> fail("Version 2 is cached")));
+    }
+
+    @Test
+    void get_WhenLargerThanMaxBytes_ShouldNotRetain() throws IOException {
+        // Arrange
+        EmployeeDirectoryCache cache = new EmployeeDirectoryCache(1);
+        AtomicInteger encodes = new AtomicInteger();
+        EmployeeDirectoryCache.Encoder encoder = out -> {
+            encodes.incrementAndGet();
+            out.write(new byte[1024]);
+        };
+
+        // Act
+        cache.get(3, encoder);
+        cache.get(3, encoder);
+
+        // Assert
+        assertEquals(2, encodes.get());
+        assertEquals(0, cache.size());
+    }
+
+    private static String gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
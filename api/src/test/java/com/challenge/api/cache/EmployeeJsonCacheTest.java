@@ -0,0 +1,40 @@
+package com.challenge.api.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class EmployeeJsonCacheTest {
+
+    @Test
+    void get_WithChangedVersion_ShouldMissAndDropEntry() {
+        // Arrange
+        EmployeeJsonCache cache = new EmployeeJsonCache(16);
+        UUID uuid = UUID.randomUUID();
+        byte[] json = "{}".getBytes();
+        cache.put(uuid, 1, json);
+
+        // Act & Assert
+        assertSame(json, cache.get(uuid, 1));
+        assertNull(cache.get(uuid, 2));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_WhenFull_ShouldSpareRecentlyReadEntry() {
+        // Arrange
+        EmployeeJsonCache cache = new EmployeeJsonCache(2);
+        UUID hot = UUID.randomUUID();
+        cache.put(hot, 1, new byte[0]);
+        cache.put(UUID.randomUUID(), 1, new byte[0]);
+        cache.get(hot, 1);
+
+        // Act
+        cache.put(UUID.randomUUID(), 1, new byte[0]);
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(hot, 1));
+    }
+}
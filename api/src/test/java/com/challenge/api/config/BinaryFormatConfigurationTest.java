@@ -0,0 +1,51 @@
+package com.challenge.api.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class BinaryFormatConfigurationTest {
+
+    private final BinaryFormatConfiguration configuration = new BinaryFormatConfiguration();
+
+    @Test
+    void binaryMappers_ShouldRoundTripEmployeeInFewerBytesThanJson() throws IOException {
+        // Arrange
+        ObjectMapper json = new Jackson2ObjectMapperBuilder().build();
+        ObjectMapper cbor = configuration
+                .cborHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                .getObjectMapper();
+        ObjectMapper smile = configuration
+                .smileHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+                .getObjectMapper();
+        Employee employee = new EmployeeImpl(
+                UUID.randomUUID(),
+                "Ann",
+                "Lee",
+                120_000,
+                30,
+                "Engineer",
+                "ann@example.com",
+                Instant.parse("2020-01-15T00:00:00Z"),
+                null);
+        byte[] jsonBytes = json.writeValueAsBytes(employee);
+
+        for (ObjectMapper binary : List.of(cbor, smile)) {
+            // Act
+            byte[] encoded = binary.writeValueAsBytes(employee);
+            Employee decoded = binary.readValue(encoded, EmployeeImpl.class);
+
+            // Assert
+            assertTrue(encoded.length < jsonBytes.length);
+            assertEquals(json.writeValueAsString(employee), json.writeValueAsString(decoded));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.challenge.api.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.service.EmployeeChangeFeed;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class EmployeeChangeControllerTest {
+
+    @Test
+    void testResumeAfter() {
+        EmployeeChangeFeed feed = new EmployeeChangeFeed(8);
+        feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), 1);
+        feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), 2);
+
+        assertEquals(2, EmployeeChangeController.resumeAfter(feed, null));
+        assertEquals(1, EmployeeChangeController.resumeAfter(feed, "1"));
+        assertEquals(1, EmployeeChangeController.resumeAfter(feed, feed.getEpoch() + "-1"));
+        // An id from before a restart names an earlier feed
+        assertEquals(-1, EmployeeChangeController.resumeAfter(feed, (feed.getEpoch() - 1) + "-1"));
+        assertThrows(ResponseStatusException.class, () -> EmployeeChangeController.resumeAfter(feed, "abc"));
+    }
+}
@@ -2,20 +2,54 @@ package com.challenge.api.controller;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
+import com.challenge.api.cache.EmployeeDirectoryCache;
+import com.challenge.api.cache.EmployeeJsonCache;
 import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeSort;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.model.impl.EmployeeRecord;
 import com.challenge.api.service.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.ui.ConcurrentModel;
+import org.springframework.ui.Model;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeControllerTest {
@@ -23,6 +57,15 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Spy
+    private ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Spy
+    private EmployeeJsonCache jsonCache = new EmployeeJsonCache(16);
+
+    @Spy
+    private EmployeeDirectoryCache directoryCache = new EmployeeDirectoryCache(1 << 20);
+
     @InjectMocks
     private EmployeeController employeeController;
 
@@ -31,10 +74,337 @@ class EmployeeControllerTest {
         when(employeeService.getAllEmployees()).thenReturn(Collections.emptyList());
 
         // Test JSON endpoint
-        List<Employee> response = employeeController.getAllEmployeesJson();
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson(null, null, null, null, null, null);
+
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isEmpty());
+    }
+
+    @Test
+    void testGetAllEmployeesJsonByJobTitle() {
+        Employee mockEmployee = mock(Employee.class);
+        when(employeeService.getEmployeesByJobTitle("Engineer")).thenReturn(List.of(mockEmployee));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson("Engineer", null, null, null, null, null);
+
+        assertEquals(List.of(mockEmployee), response.getBody());
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesJsonByStatus() {
+        Employee mockEmployee = mock(Employee.class);
+        when(employeeService.getTerminatedEmployees()).thenReturn(List.of(mockEmployee));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson(null, false, null, null, null, null);
+
+        assertEquals(List.of(mockEmployee), response.getBody());
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesJsonPage() {
+        UUID cursor = UUID.randomUUID();
+        UUID nextCursor = UUID.randomUUID();
+        Employee mockEmployee = mock(Employee.class);
+        when(employeeService.getEmployeesPage(cursor, 10))
+                .thenReturn(new EmployeePage(List.of(mockEmployee), nextCursor));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson(null, null, 10, cursor, null, null);
+
+        assertEquals(List.of(mockEmployee), response.getBody());
+        assertEquals(nextCursor.toString(), response.getHeaders().getFirst(EmployeeController.NEXT_CURSOR_HEADER));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesJsonByRange() {
+        EmployeeRangeQuery range = new EmployeeRangeQuery(70000, null, null, 40, null, null);
+        Employee engineer = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 80000, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        Employee manager = new EmployeeImpl(
+                UUID.randomUUID(), "Ben", "Ray", 90000, 35, "Manager", "ben@example.com", Instant.EPOCH, null);
+        when(employeeService.findEmployeesInRange(range)).thenReturn(List.of(engineer, manager));
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson("engineer", null, null, null, range, null);
+
+        assertEquals(List.of(engineer), response.getBody());
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesJsonPageWithRange() {
+        EmployeeRangeQuery range = new EmployeeRangeQuery(null, null, 30, null, null, null);
+
+        assertThrows(
+                ResponseStatusException.class,
+                () -> employeeController.getAllEmployeesJson(null, null, 10, null, range, null));
+    }
+
+    @Test
+    void testGetAllEmployeesJsonPageWithInvalidLimit() {
+        assertThrows(
+                ResponseStatusException.class,
+                () -> employeeController.getAllEmployeesJson(
+                        null, null, EmployeeController.MAX_PAGE_SIZE + 1, null, null, null));
+    }
+
+    @Test
+    void testGetAllEmployeesJsonNotModified() {
+        when(employeeService.getVersion()).thenReturn(7L);
+        when(employeeService.getAllEmployees()).thenReturn(Collections.emptyList());
+        String etag = employeeController
+                .getAllEmployeesJson(null, null, null, null, null, null)
+                .getHeaders()
+                .getETag();
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson(null, null, null, null, null, etag);
+
+        assertNotNull(etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verify(employeeService, times(1)).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesJsonModifiedSinceEtag() {
+        when(employeeService.getVersion()).thenReturn(7L, 7L, 8L, 8L);
+        when(employeeService.getAllEmployees()).thenReturn(Collections.emptyList());
+        String etag = employeeController
+                .getAllEmployeesJson(null, null, null, null, null, null)
+                .getHeaders()
+                .getETag();
+
+        ResponseEntity<List<Employee>> response =
+                employeeController.getAllEmployeesJson(null, null, null, null, null, etag);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(etag, response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetStatisticsJson() {
+        EmployeeStatistics statistics = new EmployeeStatistics(0, 0, null, Collections.emptyMap());
+        when(employeeService.getStatistics()).thenReturn(statistics);
+
+        assertSame(statistics, employeeController.getStatisticsJson());
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesHtmlSortedPage() {
+        Employee low = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        Employee mid = new EmployeeImpl(
+                UUID.randomUUID(), "Ben", "Ray", 2, 40, "Manager", "ben@example.com", Instant.EPOCH, null);
+        Employee high = new EmployeeImpl(
+                UUID.randomUUID(), "Cy", "Oh", 3, 50, "Director", "cy@example.com", Instant.EPOCH, null);
+        when(employeeService.getStatistics()).thenReturn(new EmployeeStatistics(3, 3, null, Collections.emptyMap()));
+        when(employeeService.streamEmployees()).thenAnswer(invocation -> Stream.of(mid, high, low));
+        Model model = new ConcurrentModel();
+
+        employeeController.getAllEmployeesHtml(1, "salary", "desc", null, null, model);
+        String after = (String) model.getAttribute("nextAfter");
+        String view = employeeController.getAllEmployeesHtml(1, "salary", "desc", null, after, model);
+
+        assertEquals("employees", view);
+        assertEquals(List.of(mid), model.getAttribute("employees"));
+        assertEquals(after, model.getAttribute("after"));
+        assertEquals(EmployeeSort.SALARY.cursor(mid), model.getAttribute("nextAfter"));
+        verify(employeeService, never()).getAllEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesHtmlUnsortedPageFollowsCursor() {
+        UUID cursor = UUID.randomUUID();
+        Employee next = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        when(employeeService.getStatistics()).thenReturn(new EmployeeStatistics(3, 3, null, Collections.emptyMap()));
+        when(employeeService.getEmployeesPage(cursor, 1)).thenReturn(new EmployeePage(List.of(next), next.getUuid()));
+        Model model = new ConcurrentModel();
+
+        String view = employeeController.getAllEmployeesHtml(1, null, "asc", cursor, null, model);
+
+        assertEquals("employees", view);
+        assertEquals(List.of(next), model.getAttribute("employees"));
+        assertEquals(next.getUuid(), model.getAttribute("nextCursor"));
+        verify(employeeService, never()).streamEmployees();
+    }
+
+    @Test
+    void testGetAllEmployeesHtmlWithUnknownSort() {
+        Model model = new ConcurrentModel();
+
+        assertThrows(
+                ResponseStatusException.class,
+                () -> employeeController.getAllEmployeesHtml(50, "shoe-size", "asc", null, null, model));
+    }
+
+    @Test
+    void testGetAllEmployeesJsonFields() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        Employee employee =
+                new EmployeeImpl(uuid, "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        when(employeeService.getAllEmployees()).thenReturn(List.of(employee));
+
+        ResponseEntity<StreamingResponseBody> response =
+                employeeController.getAllEmployeesJsonFields(null, null, null, null, null, null, "uuid,email");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(
+                "[{\"uuid\":\"" + uuid + "\",\"email\":\"ann@example.com\"}]",
+                out.toString(StandardCharsets.UTF_8));
+        assertNotNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void testGetAllEmployeesGzipSharedUntilWrite() throws Exception {
+        Employee employee = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        AtomicInteger walks = new AtomicInteger();
+        when(employeeService.snapshot()).thenAnswer(invocation -> new EmployeeSnapshot(5L, () -> {
+            walks.incrementAndGet();
+            return Stream.of(employee);
+        }));
+
+        ResponseEntity<?> first = employeeController.getAllEmployeesNegotiated(
+                null, null, null, null, null, null, "application/json", "gzip, deflate, br");
+        ResponseEntity<?> second = employeeController.getAllEmployeesNegotiated(
+                null, null, null, null, null, null, "*/*", "gzip");
+
+        assertEquals("gzip", first.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertSame(first.getBody(), second.getBody());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream((byte[]) first.getBody()))) {
+            String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(json.startsWith("[{\"uuid\":\"" + employee.getUuid() + "\""));
+            assertTrue(json.contains("\"email\":\"ann@example.com\""));
+        }
+        assertEquals(1, walks.get());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        verify(employeeService, never()).streamEmployees();
+
+        ResponseEntity<?> notModified = employeeController.getAllEmployeesNegotiated(
+                null, null, null, null, null, first.getHeaders().getETag(), null, "gzip");
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+    }
+
+    @Test
+    void testGetAllEmployeesNegotiatedWithoutGzip() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(Collections.emptyList());
+
+        ResponseEntity<?> identity = employeeController.getAllEmployeesNegotiated(
+                null, null, null, null, null, null, "application/json", "identity");
+        ResponseEntity<?> cbor = employeeController.getAllEmployeesNegotiated(
+                null, null, null, null, null, null, EmployeeController.APPLICATION_CBOR_VALUE, "gzip");
+
+        assertEquals(Collections.emptyList(), identity.getBody());
+        assertEquals(Collections.emptyList(), cbor.getBody());
+        assertNull(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        verify(employeeService, never()).streamEmployees();
+        verify(employeeService, never()).snapshot();
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertTrue(EmployeeController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(EmployeeController.acceptsGzip("br;q=1.0, *;q=0.5"));
+        assertFalse(EmployeeController.acceptsGzip(null));
+        assertFalse(EmployeeController.acceptsGzip("identity"));
+        assertFalse(EmployeeController.acceptsGzip("gzip;q=0, *"));
+    }
+
+    @Test
+    void testNegotiate() {
+        assertEquals(MediaType.APPLICATION_JSON, EmployeeController.negotiate(null));
+        assertEquals(MediaType.APPLICATION_JSON, EmployeeController.negotiate("*/*"));
+        assertEquals(
+                MediaType.APPLICATION_JSON,
+                EmployeeController.negotiate("application/cbor;q=0.5, application/json"));
+        assertEquals(
+                EmployeeController.APPLICATION_CBOR_VALUE,
+                EmployeeController.negotiate("application/cbor").toString());
+        assertEquals(
+                EmployeeController.APPLICATION_SMILE_VALUE,
+                EmployeeController.negotiate("*/*, application/x-jackson-smile").toString());
+    }
+
+    @Test
+    void testGetEmployeeByUuidEtagPerFormat() {
+        UUID uuid = UUID.randomUUID();
+        Employee employee =
+                new EmployeeImpl(uuid, "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        when(employeeService.getEmployeeVersion(uuid)).thenReturn(3L);
+        when(employeeService.getEmployeeByUuid(uuid)).thenReturn(employee);
+
+        ResponseEntity<Employee> json = employeeController.getEmployeeByUuid(uuid, null, "application/json");
+        ResponseEntity<Employee> cbor =
+                employeeController.getEmployeeByUuid(uuid, null, EmployeeController.APPLICATION_CBOR_VALUE);
+        ResponseEntity<Employee> stale =
+                employeeController.getEmployeeByUuid(uuid, json.getHeaders().getETag(), "application/cbor");
+
+        assertNotEquals(json.getHeaders().getETag(), cbor.getHeaders().getETag());
+        assertEquals(HttpStatus.OK, stale.getStatusCode());
+    }
+
+    @Test
+    void testRetagMatchesWrittenFormat() {
+        MediaType cbor = MediaType.parseMediaType(EmployeeController.APPLICATION_CBOR_VALUE);
+        MediaType smile = MediaType.parseMediaType(EmployeeController.APPLICATION_SMILE_VALUE);
+
+        assertEquals("\"e-3-cbor\"", EmployeeController.retag("\"e-3\"", cbor));
+        assertEquals("\"e-3-smile\"", EmployeeController.retag("\"e-3-cbor\"", smile));
+        assertEquals("\"e-3\"", EmployeeController.retag("\"e-3-smile\"", MediaType.APPLICATION_JSON));
+        assertEquals("\"e-3-gzip\"", EmployeeController.retag("\"e-3-gzip\"", MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testFieldsWithBinaryFormatNotAcceptable() {
+        EmployeeFormatAdvice advice = new EmployeeFormatAdvice();
+        MediaType cbor = MediaType.parseMediaType(EmployeeController.APPLICATION_CBOR_VALUE);
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/api/v1/employee/search");
+        servletRequest.setQueryString("q=an&fields=uuid,email");
+        ServerHttpRequest request = new ServletServerHttpRequest(servletRequest);
+        ServerHttpResponse response = new ServletServerHttpResponse(new MockHttpServletResponse());
+
+        ResponseStatusException refused = assertThrows(
+                ResponseStatusException.class,
+                () -> advice.beforeBodyWrite(List.of(), null, cbor, null, request, response));
+        Object json =
+                advice.beforeBodyWrite(List.of(), null, MediaType.APPLICATION_JSON, null, request, response);
 
-        assertNotNull(response);
-        assertTrue(response.isEmpty());
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, refused.getStatusCode());
+        assertEquals(List.of(), json);
+    }
+
+    @Test
+    void testGetAllEmployeesNdjson() throws Exception {
+        EmployeeController controller = new EmployeeController(
+                employeeService,
+                JsonMapper.builder().findAndAddModules().build(),
+                new EmployeeJsonCache(16),
+                new EmployeeDirectoryCache(1 << 20));
+        Employee first = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        Employee second = new EmployeeImpl(
+                UUID.randomUUID(), "Ben", "Ray", 2, 40, "Manager", "ben@example.com", Instant.EPOCH, null);
+        when(employeeService.streamEmployees()).thenReturn(Stream.of(first, second));
+
+        ResponseEntity<StreamingResponseBody> response = controller.getAllEmployeesNdjson();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"email\":\"ann@example.com\""));
+        assertTrue(lines[1].contains("\"email\":\"ben@example.com\""));
+        verify(employeeService, never()).getAllEmployees();
     }
 
     @Test
@@ -43,13 +413,42 @@ class EmployeeControllerTest {
         Employee mockEmployee = mock(Employee.class);
         when(employeeService.getEmployeeByUuid(uuid)).thenReturn(mockEmployee);
 
-        ResponseEntity<Employee> response = employeeController.getEmployeeByUuid(uuid);
+        ResponseEntity<Employee> response = employeeController.getEmployeeByUuid(uuid, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(mockEmployee, response.getBody());
     }
 
+    @Test
+    void testGetEmployeeByUuidNotModified() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        when(employeeService.getEmployeeVersion(uuid)).thenReturn(3L);
+        when(employeeService.getEmployeeByUuid(uuid)).thenReturn(new EmployeeImpl());
+        String etag = employeeController.getEmployeeByUuidJson(uuid, null).getHeaders().getETag();
+
+        ResponseEntity<byte[]> response = employeeController.getEmployeeByUuidJson(uuid, "W/" + etag);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(employeeService, times(1)).getEmployeeByUuid(uuid);
+    }
+
+    @Test
+    void testGetEmployeeByUuidJsonServedFromCache() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        Employee employee =
+                new EmployeeImpl(uuid, "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        when(employeeService.getEmployeeVersion(uuid)).thenReturn(3L);
+        when(employeeService.getEmployeeByUuid(uuid)).thenReturn(employee);
+
+        byte[] first = employeeController.getEmployeeByUuidJson(uuid, null).getBody();
+        byte[] second = employeeController.getEmployeeByUuidJson(uuid, null).getBody();
+
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("\"email\":\"ann@example.com\""));
+        assertSame(first, second);
+        verify(employeeService, times(1)).getEmployeeByUuid(uuid);
+    }
+
     @Test
     void testCreateEmployee() {
         EmployeeController.EmployeeRequest request = new EmployeeController.EmployeeRequest();
@@ -65,4 +464,51 @@ class EmployeeControllerTest {
         assertNotNull(response.getBody());
         verify(employeeService, times(1)).createEmployee(any(Employee.class));
     }
+
+    @Test
+    void testCreateEmployeesJson() {
+        EmployeeController.EmployeeRequest request = new EmployeeController.EmployeeRequest();
+        request.setFirstName("Test");
+        request.setEmail("test@example.com");
+
+        List<EmployeeCreateResult> results =
+                List.of(new EmployeeCreateResult(0, EmployeeCreateResult.Status.CREATED, UUID.randomUUID(), null));
+        when(employeeService.createEmployees(anyList())).thenReturn(results);
+
+        ResponseEntity<List<EmployeeCreateResult>> response = employeeController.createEmployeesJson(List.of(request));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(results, response.getBody());
+        verify(employeeService, never()).createEmployee(any(Employee.class));
+    }
+
+    @Test
+    void testUpdateEmployeeJsonIfMatch() {
+        UUID uuid = UUID.randomUUID();
+        Employee employee =
+                new EmployeeImpl(uuid, "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+        when(employeeService.getEmployeeVersion(uuid)).thenReturn(3L);
+        when(employeeService.getEmployeeByUuid(uuid)).thenReturn(employee);
+        String etag = employeeController.getEmployeeByUuid(uuid, null, null).getHeaders().getETag();
+        EmployeeController.EmployeePatchRequest request = new EmployeeController.EmployeePatchRequest();
+        request.setSalary(90000);
+        EmployeeRecord updated = new EmployeeRecord(
+                new EmployeeImpl(uuid, "Ann", "Lee", 90000, 30, "Engineer", "ann@example.com", Instant.EPOCH, null),
+                4L,
+                null);
+        when(employeeService.updateSalary(uuid, 90000, 3L)).thenReturn(updated);
+
+        ResponseEntity<Employee> response = employeeController.updateEmployeeJson(uuid, etag, request);
+        when(employeeService.getEmployeeVersion(uuid)).thenReturn(4L);
+        ResponseStatusException stale = assertThrows(
+                ResponseStatusException.class, () -> employeeController.updateEmployeeJson(uuid, etag, request));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(updated, response.getBody());
+        assertNotNull(response.getHeaders().getETag());
+        assertNotEquals(etag, response.getHeaders().getETag());
+        verify(employeeService, times(1)).updateSalary(uuid, 90000, 3L);
+        assertEquals(HttpStatus.PRECONDITION_FAILED, stale.getStatusCode());
+        verify(employeeService, times(1)).updateSalary(any(UUID.class), any(Integer.class), anyLong());
+    }
 }
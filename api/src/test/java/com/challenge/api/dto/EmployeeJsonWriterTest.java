@@ -0,0 +1,98 @@
+package com.challenge.api.dto;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class EmployeeJsonWriterTest {
+
+    // Same date handling as the application's Spring-configured mapper
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    void write_WithAllFields_ShouldMatchJackson() throws IOException {
+        // Arrange
+        List<Employee> employees = List.of(
+                new EmployeeImpl(
+                        UUID.fromString("0000000a-000b-000c-000d-00000000000e"),
+                        "Ann",
+                        "Lee \"Quoted\"",
+                        1,
+                        30,
+                        "Engineer",
+                        "ann@example.com",
+                        Instant.parse("2020-02-29T23:59:59Z"),
+                        null),
+                new EmployeeImpl(
+                        UUID.randomUUID(),
+                        "Ben",
+                        null,
+                        null,
+                        null,
+                        null,
+                        "ben@example.com",
+                        Instant.parse("1969-12-31T00:00:01.120Z"),
+                        Instant.parse("2400-03-01T12:00:00.000000001Z")),
+                new EmployeeImpl(
+                        UUID.randomUUID(),
+                        "Cy",
+                        "Ng",
+                        2,
+                        40,
+                        "Manager",
+                        "cy@example.com",
+                        Instant.parse("0001-01-01T00:00:00.000123Z"),
+                        Instant.parse("+12000-01-01T00:00:00Z")));
+
+        for (Employee employee : employees) {
+            // Act
+            String json = write(EmployeeJsonWriter.all(), employee);
+
+            // Assert
+            assertEquals(objectMapper.writeValueAsString(employee), json);
+        }
+    }
+
+    @Test
+    void forFields_ShouldWriteOnlySelectedFieldsInSerializationOrder() throws IOException {
+        // Arrange
+        UUID uuid = UUID.randomUUID();
+        Employee employee = new EmployeeImpl(
+                uuid, "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", Instant.EPOCH, null);
+
+        // Act
+        String json = write(EmployeeJsonWriter.forFields("fullName, email,uuid"), employee);
+
+        // Assert
+        assertEquals("{\"uuid\":\"" + uuid + "\",\"fullName\":\"Ann Lee\",\"email\":\"ann@example.com\"}", json);
+    }
+
+    @Test
+    void forFields_WithUnknownField_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> EmployeeJsonWriter.forFields("uuid,password"));
+    }
+
+    private String write(EmployeeJsonWriter writer, Employee employee) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            writer.write(generator, employee);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,133 @@
+package com.challenge.api.exporter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.importer.EmployeeCsvImporter;
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeExport;
+import com.challenge.api.model.EmployeeImportResult;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.persistence.EmployeeSnapshotFile;
+import com.challenge.api.service.impl.ColumnarEmployeeServiceImpl;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.server.ResponseStatusException;
+
+class EmployeeExporterTest {
+
+    @TempDir
+    Path directory;
+
+    private final EmployeeServiceImpl employeeService = new EmployeeServiceImpl();
+    private EmployeeExporter exporter;
+
+    @AfterEach
+    void tearDown() {
+        if (exporter != null) {
+            exporter.close();
+        }
+    }
+
+    @Test
+    void export_Csv_ShouldImportAsEveryEmployee() throws IOException {
+        // Arrange
+        EmployeeImpl dan = new EmployeeImpl();
+        dan.setFirstName("Dan, Jr.");
+        dan.setLastName("O\"Neil");
+        dan.setEmail("dan@example.com");
+        dan.setSalary(95_000);
+        dan.setContractHireDate(Instant.parse("2021-03-01T09:30:00.123Z"));
+        dan.setContractTerminationDate(Instant.parse("2024-06-30T00:00:00Z"));
+        UUID danUuid = employeeService.createEmployee(dan).getUuid();
+        exporter = new EmployeeExporter(employeeService, directory.toString());
+        ColumnarEmployeeServiceImpl target = new ColumnarEmployeeServiceImpl(16);
+
+        // Act
+        EmployeeExport export = exporter.export(EmployeeExport.Format.CSV).join();
+        Path file = exporter.file(export.getName());
+        EmployeeImportResult imported = new EmployeeCsvImporter(target).importCsv(file, null);
+
+        // Assert
+        int stored = employeeService.getAllEmployees().size();
+        assertEquals(stored, export.getEmployees());
+        assertEquals(employeeService.getVersion(), export.getVersion());
+        assertEquals(stored, imported.getCreated());
+        assertEquals(0, imported.getRejected());
+        Employee copy = target.getEmployeeByUuid(danUuid);
+        assertEquals("Dan, Jr.", copy.getFirstName());
+        assertEquals("O\"Neil", copy.getLastName());
+        assertEquals(95_000, copy.getSalary());
+        assertEquals(Instant.parse("2021-03-01T09:30:00.123Z"), copy.getContractHireDate());
+        assertEquals(Instant.parse("2024-06-30T00:00:00Z"), copy.getContractTerminationDate());
+    }
+
+    @Test
+    void export_CsvWithLineBreakInName_ShouldImportNameUnchanged() throws IOException {
+        // Arrange
+        EmployeeImpl eve = new EmployeeImpl();
+        eve.setFirstName("Eve\nMarie");
+        eve.setLastName("Ng\r\nLi");
+        eve.setEmail("eve@example.com");
+        UUID eveUuid = employeeService.createEmployee(eve).getUuid();
+        exporter = new EmployeeExporter(employeeService, directory.toString());
+        ColumnarEmployeeServiceImpl target = new ColumnarEmployeeServiceImpl(16);
+
+        // Act
+        EmployeeExport export = exporter.export(EmployeeExport.Format.CSV).join();
+        EmployeeImportResult imported =
+                new EmployeeCsvImporter(target).importCsv(exporter.file(export.getName()), null);
+
+        // Assert
+        assertEquals(0, imported.getRejected());
+        assertEquals(export.getEmployees(), imported.getCreated());
+        Employee copy = target.getEmployeeByUuid(eveUuid);
+        assertEquals("Eve\nMarie", copy.getFirstName());
+        assertEquals("Ng\r\nLi", copy.getLastName());
+    }
+
+    @Test
+    void export_Binary_ShouldLoadAsSnapshotAndBeReusedUntilWrite() throws IOException {
+        // Arrange
+        exporter = new EmployeeExporter(employeeService, directory.toString());
+        EmployeeExport first = exporter.export(EmployeeExport.Format.BINARY).join();
+
+        // Act
+        EmployeeExport unchanged = exporter.export(EmployeeExport.Format.BINARY).join();
+        EmployeeImpl ann = new EmployeeImpl();
+        ann.setFirstName("Ann");
+        ann.setEmail("ann@example.com");
+        employeeService.createEmployee(ann);
+        EmployeeExport second = exporter.export(EmployeeExport.Format.BINARY).join();
+
+        // Assert
+        assertSame(first, unchanged);
+        assertNotEquals(first.getName(), second.getName());
+        List<Employee> loaded = new ArrayList<>();
+        assertEquals(second.getEmployees(), EmployeeSnapshotFile.load(exporter.file(second.getName()), loaded::add));
+        assertEquals(first.getEmployees() + 1, loaded.size());
+        assertEquals(Files.size(exporter.file(second.getName())), second.getBytes());
+        // The previous export is kept for downloads under way
+        assertEquals(first.getEmployees(), EmployeeSnapshotFile.load(exporter.file(first.getName()), e -> {}));
+    }
+
+    @Test
+    void file_WithUnknownOrUnsafeName_ShouldReturnNotFound() throws IOException {
+        // Arrange
+        exporter = new EmployeeExporter(employeeService, directory.toString());
+        Files.writeString(directory.resolve("secret.txt"), "secret");
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> exporter.file("../secret.txt"));
+        assertThrows(ResponseStatusException.class, () -> exporter.file("secret.txt"));
+        assertThrows(ResponseStatusException.class, () -> exporter.file("employees-00000000000000000001.csv"));
+    }
+}
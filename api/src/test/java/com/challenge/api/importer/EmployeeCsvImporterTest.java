@@ -0,0 +1,140 @@
+package com.challenge.api.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeeImportRejection;
+import com.challenge.api.model.EmployeeImportResult;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class EmployeeCsvImporterTest {
+
+    private final EmployeeServiceImpl employeeService = new EmployeeServiceImpl();
+
+    @Test
+    void importCsv_ShouldCreateValidRowsAndReportRejectedLines() throws IOException {
+        // Arrange
+        Path file = csv("\uFEFFEmail,first_name,lastName,salary,contractHireDate,active\r\n"
+                + "ann@example.com,Ann,Lee,120000,2020-01-15,true\r\n"
+                + "\r\n"
+                + ",Ben,Ray,90000,,true\r\n"
+                + "cat@example.com,Cat,Doe,lots,,true\n"
+                + "ANN@example.com,Annie,Lee,,,true\n"
+                + "\"dan@example.com\",\"Dan, Jr.\",\"O\"\"Neil\",,2021-03-01T09:30:00Z,false\n"
+                + "eve@example.com,Eve\n"
+                + "\"fay@example.com,Fay,Ng,,,true");
+        EmployeeCsvImporter importer = new EmployeeCsvImporter(employeeService);
+        List<EmployeeImportRejection> report = new ArrayList<>();
+
+        // Act
+        EmployeeImportResult result = importer.importCsv(file, report::add);
+
+        // Assert
+        assertEquals(7, result.getRows());
+        assertEquals(2, result.getCreated());
+        assertEquals(5, result.getRejected());
+        assertEquals(
+                List.of(4L, 5L, 6L, 8L, 9L),
+                report.stream().map(EmployeeImportRejection::getLine).toList());
+        assertEquals("Email is required", report.get(0).getMessage());
+        assertEquals("Invalid salary: lots", report.get(1).getMessage());
+        assertEquals(EmployeeCreateResult.Status.CONFLICT, report.get(2).getStatus());
+        assertEquals("ANN@example.com,Annie,Lee,,,true", report.get(2).getRow());
+        assertEquals("Expected 6 fields, found 2", report.get(3).getMessage());
+        assertEquals(EmployeeCreateResult.Status.INVALID, report.get(4).getStatus());
+        assertEquals(5, result.getRejections().size());
+
+        Employee ann = employeeService.searchEmployees("ann@", 1).get(0);
+        assertEquals(120_000, ann.getSalary());
+        assertEquals(Instant.parse("2020-01-15T00:00:00Z"), ann.getContractHireDate());
+        Employee dan = employeeService.searchEmployees("dan@", 1).get(0);
+        assertEquals("Dan, Jr.", dan.getFirstName());
+        assertEquals("O\"Neil", dan.getLastName());
+    }
+
+    @Test
+    void importCsv_AcrossManyChunks_ShouldNumberLinesInFileOrder() throws IOException {
+        // Arrange
+        StringBuilder csv = new StringBuilder("uuid,firstName,email\n");
+        List<Long> invalidLines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            boolean invalid = i % 997 == 0;
+            if (invalid) {
+                invalidLines.add(i + 2L);
+            }
+            csv.append(UUID.randomUUID())
+                    .append(',')
+                    .append(invalid ? "" : "First" + i)
+                    .append(",e")
+                    .append(i)
+                    .append("@example.com\n");
+        }
+        // Chunks of about 30 rows, so workers finish out of order
+        int seeded = employeeService.getAllEmployees().size();
+        EmployeeCsvImporter importer = new EmployeeCsvImporter(employeeService, 2048, 4);
+        List<Long> reportedLines = new ArrayList<>();
+
+        // Act
+        EmployeeImportResult result = importer.importCsv(csv(csv.toString()), r -> reportedLines.add(r.getLine()));
+
+        // Assert
+        assertEquals(5000, result.getRows());
+        assertEquals(5000 - invalidLines.size(), result.getCreated());
+        assertEquals(invalidLines, reportedLines);
+        assertEquals(seeded + 5000 - invalidLines.size(), employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void importCsv_WithQuotedLineBreaksAcrossChunks_ShouldKeepRowsWhole() throws IOException {
+        // Arrange
+        StringBuilder csv = new StringBuilder("firstName,email\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append(i % 7 == 0 ? "\"Line\nBreak" + i + "\"" : "First" + i)
+                    .append(",")
+                    .append(i == 499 ? "" : "q" + i + "@example.com")
+                    .append('\n');
+        }
+        // Chunks of a few dozen rows, cut inside quoted fields as often as not
+        EmployeeCsvImporter importer = new EmployeeCsvImporter(employeeService, 512, 4);
+        List<EmployeeImportRejection> report = new ArrayList<>();
+
+        // Act
+        EmployeeImportResult result = importer.importCsv(csv(csv.toString()), report::add);
+
+        // Assert
+        assertEquals(500, result.getRows());
+        assertEquals(499, result.getCreated());
+        // The last row follows the header and 499 rows, 72 of them two lines long
+        assertEquals(List.of(573L), report.stream().map(EmployeeImportRejection::getLine).toList());
+        assertEquals("Line\nBreak7", employeeService.searchEmployees("q7@", 1).get(0).getFirstName());
+    }
+
+    @Test
+    void importCsv_WithoutRequiredColumns_ShouldRejectFile() throws IOException {
+        // Arrange
+        EmployeeCsvImporter importer = new EmployeeCsvImporter(employeeService);
+        Path file = csv("firstName,lastName\nAnn,Lee\n");
+        long version = employeeService.getVersion();
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> importer.importCsv(file, null));
+        assertEquals(version, employeeService.getVersion());
+    }
+
+    private static Path csv(String content) throws IOException {
+        Path file = Files.createTempFile("employees-", ".csv");
+        file.toFile().deleteOnExit();
+        return Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
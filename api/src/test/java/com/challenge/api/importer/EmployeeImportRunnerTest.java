@@ -0,0 +1,33 @@
+package com.challenge.api.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeImportRunnerTest {
+
+    @Test
+    void importCsv_ShouldWriteRejectedRowsAsCsvReport() throws IOException {
+        // Arrange
+        EmployeeImportRunner runner = new EmployeeImportRunner(new EmployeeCsvImporter(new EmployeeServiceImpl()));
+        Path file = Files.createTempFile("employees-", ".csv");
+        Path report = Files.createTempFile("employees-", ".rejected.csv");
+        Files.writeString(file, "firstName,email,salary\nAnn,ann@example.com,1\nBen,\"ben@example.com\",\"a lot\"\n");
+
+        // Act
+        runner.importCsv(file, report);
+
+        // Assert
+        assertEquals(
+                List.of(
+                        "line,status,message,row",
+                        "3,INVALID,\"Invalid salary: a lot\",\"Ben,\"\"ben@example.com\"\",\"\"a lot\"\"\""),
+                Files.readAllLines(report, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package com.challenge.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class InstrumentedEmployeeServiceTest {
+
+    private MeterRegistry registry;
+    private InstrumentedEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        employeeService = new InstrumentedEmployeeService(new EmployeeServiceImpl(), registry);
+    }
+
+    @Test
+    void createEmployee_ShouldTimeEachOutcomeSeparately() {
+        // Arrange
+        Employee first = newEmployee("Alice", "alice@example.com");
+        Employee duplicate = newEmployee("Alicia", "ALICE@example.com");
+
+        // Act
+        employeeService.createEmployee(first);
+        assertThrows(ResponseStatusException.class, () -> employeeService.createEmployee(duplicate));
+        assertThrows(ResponseStatusException.class, () -> employeeService.getEmployeeByUuid(UUID.randomUUID()));
+
+        // Assert
+        assertEquals(1, timerCount("createEmployee", "success"));
+        assertEquals(1, timerCount("createEmployee", "conflict"));
+        assertEquals(1, timerCount("getEmployeeByUuid", "not_found"));
+    }
+
+    @Test
+    void createEmployeeAsync_ShouldTimeOutcomeWhenFutureCompletes() {
+        // Act
+        employeeService.createEmployeeAsync(newEmployee("Dana", "dana@example.com")).join();
+        employeeService.createEmployeeAsync(newEmployee(null, "nameless@example.com"));
+
+        // Assert
+        assertEquals(1, timerCount("createEmployeeAsync", "success"));
+        assertEquals(1, timerCount("createEmployeeAsync", "invalid"));
+    }
+
+    @Test
+    void createEmployees_ShouldCountBatchItemsByStatus() {
+        // Act
+        employeeService.createEmployees(Arrays.asList(
+                newEmployee("Bea", "bea@example.com"), newEmployee("Bea", "bea@example.com"), newEmployee(null, null)));
+
+        // Assert
+        assertEquals(1, batchItems("created"));
+        assertEquals(1, batchItems("conflict"));
+        assertEquals(1, batchItems("invalid"));
+    }
+
+    @Test
+    void gauges_ShouldReportStoreAndIndexSizes() {
+        // Arrange
+        double before = registry.get("employee.store.size").gauge().value();
+
+        // Act
+        employeeService.createEmployee(newEmployee("Cole", "cole@example.com"));
+
+        // Assert
+        assertEquals(before + 1, registry.get("employee.store.size").gauge().value());
+        assertEquals(before + 1, registry.get("employee.index.size").tag("index", "uuid").gauge().value());
+        assertEquals(before + 1, registry.get("employee.index.size").tag("index", "email").gauge().value());
+    }
+
+    private long timerCount(String operation, String outcome) {
+        return registry.get("employee.service")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private double batchItems(String status) {
+        return registry.get("employee.create.batch.items")
+                .tag("status", status)
+                .counter()
+                .count();
+    }
+
+    private static Employee newEmployee(String firstName, String email) {
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName(firstName);
+        employee.setLastName("Tester");
+        employee.setEmail(email);
+        return employee;
+    }
+}
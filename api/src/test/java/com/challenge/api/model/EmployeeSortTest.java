@@ -0,0 +1,113 @@
+package com.challenge.api.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.impl.EmployeeImpl;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class EmployeeSortTest {
+
+    @Test
+    void select_ShouldMatchFullSortForEveryPage() {
+        // Arrange
+        Random random = new Random(7);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            // Few distinct salaries and some missing, so ties and nulls are exercised
+            Integer salary = i % 9 == 0 ? null : random.nextInt(20);
+            employees.add(new EmployeeImpl(
+                    UUID.randomUUID(), "First" + i, "Last", salary, 30, "Engineer", i + "@example.com", null, null));
+        }
+
+        for (boolean descending : new boolean[] {false, true}) {
+            List<Employee> sorted = new ArrayList<>(employees);
+            sorted.sort(EmployeeSort.SALARY.comparator(descending));
+
+            // Act
+            List<Employee> walked = new ArrayList<>();
+            Employee after = null;
+            List<Employee> page;
+            do {
+                Collections.shuffle(employees, random);
+                page = EmployeeSort.SALARY.select(employees.stream(), descending, after, 30);
+                walked.addAll(page);
+                if (!page.isEmpty()) {
+                    after = EmployeeSort.SALARY.after(EmployeeSort.SALARY.cursor(page.get(page.size() - 1)));
+                }
+            } while (!page.isEmpty());
+
+            // Assert
+            assertEquals(sorted, walked);
+            assertNull(walked.get(walked.size() - 1).getSalary()); // Missing salaries last in both directions
+        }
+    }
+
+    @Test
+    void select_PastLastEmployee_ShouldReturnEmptyPage() {
+        // Arrange
+        Employee employee = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", null, null);
+
+        // Act
+        List<Employee> page = EmployeeSort.NAME.select(
+                List.of(employee).stream(), false, EmployeeSort.NAME.after(EmployeeSort.NAME.cursor(employee)), 10);
+
+        // Assert
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    void select_AfterLastRowChanged_ShouldResumeAtItsOldPosition() {
+        // Arrange
+        Instant hired = Instant.parse("2020-01-01T00:00:00Z");
+        Employee first = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", hired, null);
+        Employee second = new EmployeeImpl(
+                UUID.randomUUID(), "Ben", "Ray", 2, 40, "Manager", "ben@example.com", hired.plusSeconds(1), null);
+        Employee unhired =
+                new EmployeeImpl(UUID.randomUUID(), "Cy", "Oh", 3, 50, "Director", "cy@example.com", null, null);
+        String cursor = EmployeeSort.HIRE_DATE.cursor(first);
+        // The last row shown is rehired after everyone else before the next page is read
+        first.setContractHireDate(hired.plusSeconds(10));
+
+        // Act
+        List<Employee> page = EmployeeSort.HIRE_DATE.select(
+                List.of(unhired, first, second).stream(), false, EmployeeSort.HIRE_DATE.after(cursor), 2);
+
+        // Assert
+        assertEquals(List.of(second, first), page);
+    }
+
+    @Test
+    void after_WithMalformedCursor_ShouldThrowBadRequest() {
+        // Arrange
+        Employee employee = new EmployeeImpl(
+                UUID.randomUUID(), "Ann", "Lee", 1, 30, "Engineer", "ann@example.com", null, null);
+        String nameCursor = EmployeeSort.NAME.cursor(employee);
+
+        // Act
+        ResponseStatusException garbled =
+                assertThrows(ResponseStatusException.class, () -> EmployeeSort.NAME.after("not a cursor"));
+        ResponseStatusException otherOrder =
+                assertThrows(ResponseStatusException.class, () -> EmployeeSort.SALARY.after(nameCursor));
+
+        // Assert
+        assertEquals(400, garbled.getStatusCode().value());
+        assertEquals(400, otherOrder.getStatusCode().value());
+    }
+
+    @Test
+    void of_ShouldAcceptHyphenatedAndUnderscoredNames() {
+        // Assert
+        assertEquals(EmployeeSort.JOB_TITLE, EmployeeSort.of("job-title"));
+        assertEquals(EmployeeSort.HIRE_DATE, EmployeeSort.of("Hire_Date"));
+        assertNull(EmployeeSort.of("shoe-size"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.challenge.api.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void codec_ShouldRoundTripAllFields() {
+        // Arrange
+        Employee employee = new EmployeeImpl(
+                UUID.randomUUID(),
+                "Zo\u00eb",
+                null,
+                90000,
+                null,
+                "Engineer",
+                "zoe@example.com",
+                Instant.ofEpochSecond(1_700_000_000L, 123_456_789),
+                null);
+
+        // Act
+        ByteBuffer encoded = EmployeeCodec.encode(employee);
+        Employee decoded = EmployeeCodec.decode(encoded);
+
+        // Assert
+        assertFalse(encoded.hasRemaining());
+        assertEquals(employee.getUuid(), decoded.getUuid());
+        assertEquals("Zo\u00eb", decoded.getFirstName());
+        assertNull(decoded.getLastName());
+        assertEquals("Zo\u00eb", decoded.getFullName());
+        assertEquals(90000, decoded.getSalary());
+        assertNull(decoded.getAge());
+        assertEquals("zoe@example.com", decoded.getEmail());
+        assertEquals(employee.getContractHireDate(), decoded.getContractHireDate());
+        assertNull(decoded.getContractTerminationDate());
+    }
+
+    @Test
+    void recover_AfterCrash_ShouldReplayJournal() {
+        // Arrange
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence(Durability.SYNC));
+        Employee created = service.createEmployee(newEmployee("crash"));
+
+        // Act - no close, as if the process died
+        EmployeeServiceImpl recovered = new EmployeeServiceImpl(persistence(Durability.SYNC));
+
+        // Assert
+        assertEquals(4, recovered.getAllEmployees().size());
+        assertEquals("crash@example.com", recovered.getEmployeeByUuid(created.getUuid()).getEmail());
+        assertEquals(1, recovered.getEmployeesByJobTitle("Archivist").size());
+    }
+
+    @Test
+    void recover_AfterSnapshot_ShouldLoadSnapshotAndJournalTail() throws Exception {
+        // Arrange
+        EmployeePersistence persistence = persistence(Durability.SYNC);
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence);
+        List<Employee> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(newEmployee("snap" + i));
+        }
+        service.createEmployees(batch);
+        persistence.snapshot();
+        Employee tail = service.createEmployee(newEmployee("tail"));
+
+        // Act
+        EmployeeServiceImpl recovered = new EmployeeServiceImpl(persistence(Durability.SYNC));
+
+        // Assert
+        assertEquals(1004, recovered.getAllEmployees().size());
+        assertNotNull(recovered.getEmployeeByUuid(tail.getUuid()));
+        assertNotNull(recovered.getEmployeeByUuid(batch.get(999).getUuid()));
+    }
+
+    @Test
+    void recover_AfterUpdates_ShouldKeepLatestVersion() throws Exception {
+        // Arrange
+        EmployeePersistence persistence = persistence(Durability.SYNC);
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence);
+        Employee created = service.createEmployee(newEmployee("updated"));
+        service.updateSalary(created.getUuid(), 50000, -1);
+        persistence.snapshot();
+        service.updateSalary(created.getUuid(), 60000, -1);
+        service.terminateEmployee(created.getUuid(), Instant.parse("2030-01-01T00:00:00Z"), -1);
+
+        // Act - no close, so the updates after the snapshot are replayed over it
+        EmployeeServiceImpl recovered = new EmployeeServiceImpl(persistence(Durability.SYNC));
+
+        // Assert
+        Employee employee = recovered.getEmployeeByUuid(created.getUuid());
+        assertEquals(60000, employee.getSalary());
+        assertEquals(Instant.parse("2030-01-01T00:00:00Z"), employee.getContractTerminationDate());
+        assertEquals(2, recovered.getTerminatedEmployees().size());
+        assertEquals(4, recovered.getStatistics().getHeadcount());
+    }
+
+    @Test
+    void close_ShouldSnapshotSoRestartReplaysNothing() {
+        // Arrange
+        EmployeePersistence persistence = persistence(Durability.ASYNC);
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence);
+        Employee created = service.createEmployee(newEmployee("closed"));
+
+        // Act
+        persistence.close();
+        EmployeeServiceImpl recovered = new EmployeeServiceImpl(persistence(Durability.ASYNC));
+
+        // Assert
+        assertEquals(4, recovered.getAllEmployees().size());
+        assertNotNull(recovered.getEmployeeByUuid(created.getUuid()));
+    }
+
+    private EmployeePersistence persistence(Durability durability) {
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(durability);
+        properties.setDirectory(directory);
+        return new EmployeePersistence(properties);
+    }
+
+    private static Employee newEmployee(String name) {
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName(name);
+        employee.setEmail(name + "@example.com");
+        employee.setJobTitle("Archivist");
+        return employee;
+    }
+}
@@ -0,0 +1,63 @@
+package com.challenge.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.model.impl.EmployeeImpl;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class EmployeeChangeFeedTest {
+
+    private final EmployeeChangeFeed feed = new EmployeeChangeFeed(4);
+
+    @Test
+    void readAfter_ShouldReturnChangesInSequenceOrder() {
+        // Arrange
+        feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), 10);
+        feed.publish(EmployeeChange.Type.TERMINATED, new EmployeeImpl(), 11);
+        feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), 12);
+
+        // Act
+        List<EmployeeChange> all = feed.readAfter(0, 10);
+        List<EmployeeChange> limited = feed.readAfter(1, 1);
+
+        // Assert
+        assertEquals(List.of(1L, 2L, 3L), all.stream().map(EmployeeChange::getSequence).toList());
+        assertEquals(EmployeeChange.Type.TERMINATED, all.get(1).getType());
+        assertEquals(11, all.get(1).getVersion());
+        assertEquals(List.of(2L), limited.stream().map(EmployeeChange::getSequence).toList());
+        assertTrue(feed.readAfter(3, 10).isEmpty());
+    }
+
+    @Test
+    void readAfter_WhenOverwrittenOrAhead_ShouldReturnNull() {
+        // Arrange
+        for (int i = 0; i < 6; i++) {
+            feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), i + 1);
+        }
+
+        // Act & Assert
+        assertNull(feed.readAfter(1, 10));
+        assertEquals(List.of(3L, 4L, 5L, 6L), feed.readAfter(2, 10).stream()
+                .map(EmployeeChange::getSequence)
+                .toList());
+        assertNull(feed.readAfter(7, 10));
+    }
+
+    @Test
+    void awaitAfter_ShouldCompleteOnNextPublish() {
+        // Arrange
+        feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), 1);
+        CompletableFuture<Void> pending = feed.awaitAfter(1);
+
+        // Act
+        feed.publish(EmployeeChange.Type.CREATED, new EmployeeImpl(), 2);
+
+        // Assert
+        assertTrue(feed.awaitAfter(0).isDone());
+        assertTrue(pending.isDone());
+        assertFalse(feed.awaitAfter(2).isDone());
+    }
+}
@@ -0,0 +1,239 @@
+package com.challenge.api.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.impl.EmployeeImpl;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+class ColumnarEmployeeServiceImplTest {
+
+    private ColumnarEmployeeServiceImpl employeeService;
+
+    @BeforeEach
+    void setUp() {
+        // Small initial capacity so the tests exercise column and index growth
+        employeeService = new ColumnarEmployeeServiceImpl(4);
+    }
+
+    @Test
+    void createEmployee_ShouldRoundTripThroughColumns() {
+        // Arrange
+        Instant hireDate = Instant.parse("2021-04-01T09:30:00.123Z");
+        Employee newEmployee = newEmployee("Alice", "alice@example.com", "Engineer");
+        newEmployee.setLastName("Johnson");
+        newEmployee.setSalary(80000);
+        newEmployee.setContractHireDate(hireDate);
+
+        // Act
+        Employee created = employeeService.createEmployee(newEmployee);
+        Employee found = employeeService.getEmployeeByUuid(newEmployee.getUuid());
+
+        // Assert
+        assertEquals(newEmployee.getUuid(), found.getUuid());
+        assertEquals("Alice Johnson", found.getFullName());
+        assertEquals(80000, found.getSalary());
+        assertNull(found.getAge());
+        assertEquals("Engineer", found.getJobTitle());
+        assertEquals("alice@example.com", found.getEmail());
+        assertEquals(hireDate, found.getContractHireDate());
+        assertNull(found.getContractTerminationDate());
+        assertEquals(created, found);
+        assertThrows(UnsupportedOperationException.class, () -> found.setSalary(1));
+    }
+
+    @Test
+    void createEmployee_WithDuplicateUuidOrEmail_ShouldThrowException() {
+        // Arrange
+        Employee first = employeeService.createEmployee(newEmployee("Bob", "bob@example.com", null));
+
+        Employee sameUuid = newEmployee("Bob", "other@example.com", null);
+        sameUuid.setUuid(first.getUuid());
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> {
+            employeeService.createEmployee(sameUuid);
+        });
+        assertThrows(ResponseStatusException.class, () -> {
+            employeeService.createEmployee(newEmployee("Bob", " BOB@example.com", null));
+        });
+        assertEquals(1, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void createEmployees_ShouldGrowStoreAndKeepEveryRowReachable() {
+        // Arrange
+        List<Employee> batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(newEmployee("Emp" + i, "emp" + i + "@example.com", i % 2 == 0 ? "Engineer" : "Manager"));
+        }
+        batch.add(newEmployee("Dup", "EMP0@example.com", null));
+
+        // Act
+        List<EmployeeCreateResult> results = employeeService.createEmployees(batch);
+
+        // Assert
+        assertEquals(EmployeeCreateResult.Status.CONFLICT, results.get(1000).getStatus());
+        assertEquals(1000, employeeService.getAllEmployees().size());
+        for (Employee employee : batch.subList(0, 1000)) {
+            assertEquals(employee.getEmail(), employeeService.getEmployeeByUuid(employee.getUuid()).getEmail());
+        }
+        assertEquals(500, employeeService.getEmployeesByJobTitle("ENGINEER").size());
+    }
+
+    @Test
+    void getActiveEmployees_ShouldScanTerminationColumn() {
+        // Arrange
+        employeeService.createEmployee(newEmployee("Active", "active@example.com", null));
+        Employee terminated = newEmployee("Gone", "gone@example.com", null);
+        terminated.setContractTerminationDate(Instant.now());
+        employeeService.createEmployee(terminated);
+
+        // Act & Assert
+        assertEquals(1, employeeService.getActiveEmployees().size());
+        assertEquals(terminated.getUuid(), employeeService.getTerminatedEmployees().get(0).getUuid());
+    }
+
+    @Test
+    void getEmployeesPage_ShouldWalkEveryEmployeeOnce() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            employeeService.createEmployee(newEmployee("Page" + i, "page" + i + "@example.com", null));
+        }
+
+        // Act
+        List<Employee> walked = new ArrayList<>();
+        UUID cursor = null;
+        do {
+            EmployeePage page = employeeService.getEmployeesPage(cursor, 3);
+            walked.addAll(page.getEmployees());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(employeeService.getAllEmployees(), walked);
+    }
+
+    @Test
+    void searchEmployees_ShouldUsePrefixIndex() {
+        // Arrange
+        employeeService.createEmployee(newEmployee("Kim", "kim@example.com", null));
+        employeeService.createEmployee(newEmployee("Kimberly", "kimberly@example.com", null));
+        employeeService.createEmployee(newEmployee("Lee", "lee@example.com", null));
+
+        // Act
+        List<Employee> matches = employeeService.searchEmployees("kim", 10);
+
+        // Assert
+        assertEquals(2, matches.size());
+        assertEquals("Kim", matches.get(0).getFirstName());
+    }
+
+    @Test
+    void findEmployeesInRange_ShouldScanSalaryColumn() {
+        // Arrange
+        for (int i = 1; i <= 5; i++) {
+            Employee employee = newEmployee("Emp" + i, "emp" + i + "@example.com", null);
+            employee.setSalary(i * 10000);
+            employeeService.createEmployee(employee);
+        }
+
+        // Act
+        List<Employee> matches =
+                employeeService.findEmployeesInRange(new EmployeeRangeQuery(20000, 40000, null, null, null, null));
+
+        // Assert
+        assertEquals(3, matches.size());
+        assertEquals("Emp2", matches.get(0).getFirstName());
+        assertThrows(
+                ResponseStatusException.class,
+                () -> employeeService.findEmployeesInRange(
+                        new EmployeeRangeQuery(null, null, null, null, null, null)));
+    }
+
+    @Test
+    void updateSalary_ShouldAppendNewRowAndKeepOldOneForEarlierSnapshots() {
+        // Arrange
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Employee employee = newEmployee("Row" + i, "row" + i + "@example.com", null);
+            employee.setSalary(1000 * i);
+            uuids.add(employeeService.createEmployee(employee).getUuid());
+        }
+        UUID updated = uuids.get(1);
+        long read = employeeService.getEmployeeVersion(updated);
+        EmployeeSnapshot pinned = employeeService.snapshot();
+
+        // Act
+        Employee result = employeeService.updateSalary(updated, 90000, read);
+
+        // Assert
+        assertEquals(90000, result.getSalary());
+        assertEquals(90000, employeeService.getEmployeeByUuid(updated).getSalary());
+        assertEquals(employeeService.getVersion(), employeeService.getEmployeeVersion(updated));
+        assertEquals(6, employeeService.getAllEmployees().size());
+        assertEquals(uuids, employeeService.getAllEmployees().stream().map(Employee::getUuid).toList());
+        assertEquals(
+                1000,
+                pinned.stream()
+                        .filter(e -> e.getUuid().equals(updated))
+                        .findFirst()
+                        .orElseThrow()
+                        .getSalary());
+        assertEquals(90000, employeeService.getStatistics().getSalary().getMax());
+        assertEquals(6L, employeeService.getIndexSizes().get("uuid"));
+        assertEquals(412, assertThrows(
+                        ResponseStatusException.class, () -> employeeService.updateSalary(updated, 1, read))
+                .getStatusCode()
+                .value());
+        // Pages keep creation order, with the cursor on the updated employee
+        EmployeePage first = employeeService.getEmployeesPage(null, 2);
+        assertEquals(updated, first.getNextCursor());
+        List<Employee> second = employeeService.getEmployeesPage(first.getNextCursor(), 2).getEmployees();
+        assertEquals(uuids.subList(2, 4), second.stream().map(Employee::getUuid).toList());
+    }
+
+    @Test
+    void terminateEmployee_ShouldMoveToTerminatedAndPublishTermination() {
+        // Arrange
+        Employee employee = employeeService.createEmployee(newEmployee("Dana", "dana@example.com", "Engineer"));
+        long sequence = employeeService.getChangeFeed().getSequence();
+        Instant date = Instant.now().plusSeconds(60);
+
+        // Act
+        Employee terminated = employeeService.terminateEmployee(employee.getUuid(), date, -1);
+
+        // Assert
+        assertEquals(date.toEpochMilli(), terminated.getContractTerminationDate().toEpochMilli());
+        assertTrue(employeeService.getActiveEmployees().isEmpty());
+        assertEquals(1, employeeService.getTerminatedEmployees().size());
+        assertEquals(1, employeeService.getEmployeesByJobTitle("engineer").size());
+        List<EmployeeChange> changes = employeeService.getChangeFeed().readAfter(sequence, 10);
+        assertEquals(1, changes.size());
+        assertEquals(EmployeeChange.Type.TERMINATED, changes.get(0).getType());
+        assertEquals(409, assertThrows(
+                        ResponseStatusException.class,
+                        () -> employeeService.terminateEmployee(employee.getUuid(), date, -1))
+                .getStatusCode()
+                .value());
+    }
+
+    private static Employee newEmployee(String firstName, String email, String jobTitle) {
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName(firstName);
+        employee.setEmail(email);
+        employee.setJobTitle(jobTitle);
+        return employee;
+    }
+}
@@ -3,10 +3,36 @@ package com.challenge.api.service.impl;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeChange;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.model.EmployeePage;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeSnapshot;
+import com.challenge.api.model.EmployeeSnapshotExpiredException;
+import com.challenge.api.model.EmployeeStatistics;
 import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.model.impl.EmployeeRecord;
+import com.challenge.api.persistence.Durability;
+import com.challenge.api.persistence.EmployeePersistence;
+import com.challenge.api.persistence.PersistenceProperties;
+import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -127,6 +153,78 @@ class EmployeeServiceImplTest {
         });
     }
 
+    @Test
+    void createEmployee_WithDuplicateEmailDifferentCase_ShouldThrowException() {
+        // Arrange
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName("John");
+        employee.setEmail(" JOHN.SMITH@example.com "); // Mock data email, different case and padding
+
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> {
+            employeeService.createEmployee(employee);
+        });
+    }
+
+    @Test
+    void createEmployeeAsync_ShouldCompleteWithStoredEmployeeOrFailWithStatus() {
+        // Arrange
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName("Async");
+        employee.setEmail("async@example.com");
+        Employee duplicate = new EmployeeImpl();
+        duplicate.setFirstName("Async");
+        duplicate.setEmail("ASYNC@example.com");
+
+        // Act
+        Employee created = employeeService.createEmployeeAsync(employee).join();
+        CompletableFuture<Employee> conflict = employeeService.createEmployeeAsync(duplicate);
+
+        // Assert
+        assertEquals(created, employeeService.getEmployeeByUuid(created.getUuid()));
+        assertTrue(conflict.isCompletedExceptionally());
+        CompletionException failure = assertThrows(CompletionException.class, conflict::join);
+        assertEquals(409, ((ResponseStatusException) failure.getCause()).getStatusCode().value());
+    }
+
+    @Test
+    void createEmployee_ConcurrentDuplicateEmail_ShouldCreateExactlyOne() throws Exception {
+        // Arrange
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < threads; i++) {
+            String firstName = "Racer" + i;
+            futures.add(executor.submit(() -> {
+                Employee employee = new EmployeeImpl();
+                employee.setFirstName(firstName);
+                employee.setEmail("race@example.com");
+                start.await();
+                try {
+                    employeeService.createEmployee(employee);
+                    created.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    conflicts.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(1, created.get());
+        assertEquals(threads - 1, conflicts.get());
+    }
+
     @Test
     void getActiveEmployees_ShouldReturnOnlyActiveEmployees() {
         // Act
@@ -150,4 +248,638 @@ class EmployeeServiceImplTest {
             assertEquals("Software Engineer", employee.getJobTitle());
         });
     }
+
+    @Test
+    void getEmployeesByJobTitle_ShouldMatchCaseInsensitivelyAndIncludeNewEmployees() {
+        // Arrange
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Carol");
+        newEmployee.setEmail("carol@example.com");
+        newEmployee.setJobTitle("SOFTWARE ENGINEER");
+        Employee created = employeeService.createEmployee(newEmployee);
+
+        // Act
+        List<Employee> softwareEngineers = employeeService.getEmployeesByJobTitle("software engineer");
+
+        // Assert
+        assertEquals(2, softwareEngineers.size());
+        assertTrue(softwareEngineers.contains(created));
+        assertTrue(employeeService.getEmployeesByJobTitle("Astronaut").isEmpty());
+    }
+
+    @Test
+    void getTerminatedEmployees_ShouldReturnOnlyTerminatedEmployees() {
+        // Arrange
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Dave");
+        newEmployee.setEmail("dave@example.com");
+        newEmployee.setContractTerminationDate(Instant.now());
+        Employee created = employeeService.createEmployee(newEmployee);
+
+        // Act
+        List<Employee> terminatedEmployees = employeeService.getTerminatedEmployees();
+
+        // Assert
+        assertEquals(2, terminatedEmployees.size());
+        assertTrue(terminatedEmployees.contains(created));
+        assertFalse(employeeService.getActiveEmployees().contains(created));
+    }
+
+    @Test
+    void getEmployeesPage_ShouldWalkEveryEmployeeOnceInUuidOrder() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            Employee employee = new EmployeeImpl();
+            employee.setFirstName("Page" + i);
+            employee.setEmail("page" + i + "@example.com");
+            employeeService.createEmployee(employee);
+        }
+
+        // Act
+        List<Employee> walked = new ArrayList<>();
+        UUID cursor = null;
+        do {
+            EmployeePage page = employeeService.getEmployeesPage(cursor, 4);
+            assertTrue(page.getEmployees().size() <= 4);
+            walked.addAll(page.getEmployees());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(13, walked.size());
+        Set<UUID> seen = new HashSet<>();
+        for (int i = 0; i < walked.size(); i++) {
+            assertTrue(seen.add(walked.get(i).getUuid()));
+            if (i > 0) {
+                assertTrue(walked.get(i - 1).getUuid().compareTo(walked.get(i).getUuid()) < 0);
+            }
+        }
+    }
+
+    @Test
+    void getEmployeesPage_WithInvalidLimit_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(ResponseStatusException.class, () -> {
+            employeeService.getEmployeesPage(null, 0);
+        });
+    }
+
+    @Test
+    void createEmployees_ShouldReportEachItemWithoutFailingBatch() {
+        // Arrange
+        Employee valid = new EmployeeImpl();
+        valid.setFirstName("Erin");
+        valid.setEmail("erin@example.com");
+
+        Employee invalid = new EmployeeImpl();
+        invalid.setEmail("no.first.name@example.com");
+
+        Employee existingEmail = new EmployeeImpl();
+        existingEmail.setFirstName("John");
+        existingEmail.setEmail("john.smith@example.com");
+
+        Employee batchDuplicate = new EmployeeImpl();
+        batchDuplicate.setFirstName("Erin");
+        batchDuplicate.setEmail("ERIN@example.com");
+
+        // Act
+        List<EmployeeCreateResult> results =
+                employeeService.createEmployees(Arrays.asList(valid, invalid, existingEmail, batchDuplicate, null));
+
+        // Assert
+        assertEquals(5, results.size());
+        assertEquals(EmployeeCreateResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(valid.getUuid(), results.get(0).getUuid());
+        assertEquals(EmployeeCreateResult.Status.INVALID, results.get(1).getStatus());
+        assertEquals(EmployeeCreateResult.Status.CONFLICT, results.get(2).getStatus());
+        assertEquals(EmployeeCreateResult.Status.CONFLICT, results.get(3).getStatus());
+        assertEquals(EmployeeCreateResult.Status.INVALID, results.get(4).getStatus());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals("erin@example.com", employeeService.getEmployeeByUuid(valid.getUuid()).getEmail());
+        assertEquals(4, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void createEmployee_ShouldStoreImmutableCopy() {
+        // Arrange
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Frank");
+        newEmployee.setLastName("Moore");
+        newEmployee.setEmail("frank@example.com");
+
+        // Act
+        Employee created = employeeService.createEmployee(newEmployee);
+        newEmployee.setFirstName("Changed");
+
+        // Assert
+        Employee stored = employeeService.getEmployeeByUuid(newEmployee.getUuid());
+        assertEquals("Frank", stored.getFirstName());
+        assertEquals("Frank Moore", stored.getFullName());
+        assertEquals(created, stored);
+        assertThrows(UnsupportedOperationException.class, () -> stored.setSalary(1));
+    }
+
+    @Test
+    void snapshot_ShouldNotSeeLaterWrites() {
+        // Arrange
+        EmployeeSnapshot before = employeeService.snapshot();
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Grace");
+        newEmployee.setEmail("grace@example.com");
+
+        // Act
+        employeeService.createEmployee(newEmployee);
+        EmployeeSnapshot after = employeeService.snapshot();
+
+        // Assert
+        assertEquals(3, before.stream().count());
+        assertEquals(4, after.stream().count());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertTrue(before.stream().noneMatch(employee -> employee.getUuid().equals(newEmployee.getUuid())));
+    }
+
+    @Test
+    void getVersion_ShouldAdvanceOnWriteAndTagEachEmployee() {
+        // Arrange
+        long before = employeeService.getVersion();
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Heidi");
+        newEmployee.setEmail("heidi@example.com");
+
+        // Act
+        employeeService.createEmployee(newEmployee);
+
+        // Assert
+        assertTrue(employeeService.getVersion() > before);
+        assertEquals(employeeService.getVersion(), employeeService.getEmployeeVersion(newEmployee.getUuid()));
+        UUID seeded = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        assertTrue(employeeService.getEmployeeVersion(seeded) <= before);
+        assertEquals(-1, employeeService.getEmployeeVersion(UUID.randomUUID()));
+    }
+
+    @Test
+    void getStatistics_ShouldReflectCreatesWithoutScanning() {
+        // Arrange
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Ivan");
+        newEmployee.setEmail("ivan@example.com");
+        newEmployee.setJobTitle("software engineer");
+        newEmployee.setSalary(95000);
+
+        // Act
+        employeeService.createEmployee(newEmployee);
+        EmployeeStatistics statistics = employeeService.getStatistics();
+
+        // Assert
+        assertEquals(4, statistics.getHeadcount());
+        assertEquals(3, statistics.getActiveCount());
+        assertEquals(1, statistics.getTerminatedCount());
+        assertEquals(320000, statistics.getSalary().getSum());
+        assertEquals(65000, statistics.getSalary().getMin());
+        assertEquals(95000, statistics.getSalary().getMax());
+        assertEquals(75000, statistics.getSalary().getPercentiles().get("p50"), 75000 / 64.0);
+        EmployeeStatistics.JobTitle engineers = statistics.getJobTitles().get("Software Engineer");
+        assertEquals(2, engineers.getHeadcount());
+        assertEquals(85000.0, engineers.getSalaryAverage());
+    }
+
+    @Test
+    void searchEmployees_ShouldMatchNamePrefixesAndEmailCaseInsensitively() {
+        // Arrange
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Johanna");
+        newEmployee.setLastName("Smithers");
+        newEmployee.setEmail("jo.smithers@example.com");
+        employeeService.createEmployee(newEmployee);
+
+        // Act
+        List<Employee> byPrefix = employeeService.searchEmployees("JOH", 10);
+        List<Employee> byLastName = employeeService.searchEmployees(" smith", 10);
+        List<Employee> byEmail = employeeService.searchEmployees("jo.s", 10);
+
+        // Assert
+        // John Smith (name and email, listed once), Bob Johnson (last name) and Johanna Smithers
+        assertEquals(3, byPrefix.size());
+        assertEquals(2, byLastName.size()); // Smith and Smithers
+        assertEquals(newEmployee.getUuid(), byEmail.get(0).getUuid());
+        assertEquals(1, employeeService.searchEmployees("jo", 1).size());
+        assertTrue(employeeService.searchEmployees("zz", 10).isEmpty());
+        assertThrows(ResponseStatusException.class, () -> employeeService.searchEmployees(" ", 10));
+    }
+
+    @Test
+    void findEmployeesInRange_ShouldIntersectBoundsInclusively() {
+        // Arrange
+        EmployeeRangeQuery salaryAndAge = new EmployeeRangeQuery(70000, null, null, 40, null, null);
+        EmployeeRangeQuery hiredBefore2020 =
+                new EmployeeRangeQuery(null, null, null, null, null, Instant.parse("2019-06-01T00:00:00Z"));
+        EmployeeRangeQuery exactSalary = new EmployeeRangeQuery(65000, 65000, null, null, null, null);
+
+        // Act
+        List<Employee> highEarners = employeeService.findEmployeesInRange(salaryAndAge);
+        List<Employee> earlyHires = employeeService.findEmployeesInRange(hiredBefore2020);
+        List<Employee> exact = employeeService.findEmployeesInRange(exactSalary);
+
+        // Assert
+        assertEquals(2, highEarners.size()); // John and Jane - Bob is over 40
+        assertTrue(highEarners.stream().allMatch(e -> e.getSalary() >= 70000 && e.getAge() <= 40));
+        assertEquals(2, earlyHires.size()); // Jane, hired on the bound, and Bob
+        assertEquals(1, exact.size());
+        assertEquals("Bob", exact.get(0).getFirstName());
+        assertThrows(
+                ResponseStatusException.class,
+                () -> employeeService.findEmployeesInRange(
+                        new EmployeeRangeQuery(null, null, null, null, null, null)));
+    }
+
+    @Test
+    void createEmployee_ShouldPublishCreationToChangeFeed() {
+        // Arrange
+        long before = employeeService.getChangeFeed().getSequence();
+        Employee newEmployee = new EmployeeImpl();
+        newEmployee.setFirstName("Judy");
+        newEmployee.setEmail("judy@example.com");
+
+        // Act
+        employeeService.createEmployee(newEmployee);
+        List<EmployeeChange> changes = employeeService.getChangeFeed().readAfter(before, 10);
+
+        // Assert
+        assertEquals(1, changes.size());
+        assertEquals(EmployeeChange.Type.CREATED, changes.get(0).getType());
+        assertEquals(newEmployee.getUuid(), changes.get(0).getEmployee().getUuid());
+        assertEquals(employeeService.getVersion(), changes.get(0).getVersion());
+    }
+
+    @Test
+    void updateSalary_ShouldReplaceRecordAndKeepIndexesConsistent() {
+        // Arrange
+        UUID john = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        long before = employeeService.getEmployeeVersion(john);
+        EmployeeSnapshot pinned = employeeService.snapshot();
+        long salarySum = employeeService.getStatistics().getSalary().getSum();
+
+        // Act
+        Employee updated = employeeService.updateSalary(john, 120000, before);
+
+        // Assert
+        assertEquals(120000, updated.getSalary());
+        assertEquals(employeeService.getVersion(), employeeService.getEmployeeVersion(john));
+        assertTrue(employeeService.getEmployeeVersion(john) > before);
+        assertEquals(120000, employeeService.getEmployeeByUuid(john).getSalary());
+        assertEquals(salarySum + 45000, employeeService.getStatistics().getSalary().getSum());
+        assertEquals(65000, employeeService.getStatistics().getSalary().getMin());
+        assertEquals(120000, employeeService.getStatistics().getSalary().getMax());
+        assertTrue(employeeService
+                .findEmployeesInRange(new EmployeeRangeQuery(70000, 80000, null, null, null, null))
+                .isEmpty());
+        assertEquals(
+                1,
+                employeeService
+                        .findEmployeesInRange(new EmployeeRangeQuery(100000, null, null, null, null, null))
+                        .size());
+        assertEquals(3L, employeeService.getIndexSizes().get("salary"));
+        // A snapshot pinned before the update still sees the old record
+        assertEquals(
+                75000,
+                pinned.stream()
+                        .filter(e -> e.getUuid().equals(john))
+                        .findFirst()
+                        .orElseThrow()
+                        .getSalary());
+    }
+
+    @Test
+    void snapshot_WhenEmployeeUpdatedPastRetainedVersions_ShouldExpireRatherThanSeeNewerRecord() {
+        // Arrange
+        UUID john = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        EmployeeSnapshot pinned = employeeService.snapshot();
+
+        // Act
+        for (int update = 1; update <= EmployeeRecord.RETAINED_VERSIONS + 2; update++) {
+            employeeService.updateSalary(john, 75000 + update, employeeService.getEmployeeVersion(john));
+        }
+
+        // Assert
+        EmployeeSnapshotExpiredException expired = assertThrows(
+                EmployeeSnapshotExpiredException.class,
+                () -> pinned.stream().map(Employee::getSalary).toList());
+        assertEquals(503, expired.getStatusCode().value());
+        assertEquals(
+                75000 + EmployeeRecord.RETAINED_VERSIONS + 2,
+                employeeService.getAllEmployees().stream()
+                        .filter(e -> e.getUuid().equals(john))
+                        .findFirst()
+                        .orElseThrow()
+                        .getSalary());
+    }
+
+    @Test
+    void updateSalary_WithStaleVersion_ShouldThrowPreconditionFailed() {
+        // Arrange
+        UUID jane = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+        long read = employeeService.getEmployeeVersion(jane);
+        employeeService.updateSalary(jane, 90000, read);
+
+        // Act
+        ResponseStatusException stale = assertThrows(
+                ResponseStatusException.class, () -> employeeService.updateSalary(jane, 95000, read));
+
+        // Assert
+        assertEquals(412, stale.getStatusCode().value());
+        assertEquals(90000, employeeService.getEmployeeByUuid(jane).getSalary());
+        assertEquals(404, assertThrows(
+                        ResponseStatusException.class, () -> employeeService.updateSalary(UUID.randomUUID(), 1, -1))
+                .getStatusCode()
+                .value());
+        assertEquals(400, assertThrows(
+                        ResponseStatusException.class, () -> employeeService.updateSalary(jane, -1, -1))
+                .getStatusCode()
+                .value());
+    }
+
+    @Test
+    void terminateEmployee_ShouldMoveToTerminatedAndPublishTermination() {
+        // Arrange
+        UUID jane = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+        Instant date = Instant.parse("2025-03-31T00:00:00Z");
+        long sequence = employeeService.getChangeFeed().getSequence();
+
+        // Act
+        Employee terminated = employeeService.terminateEmployee(jane, date, -1);
+
+        // Assert
+        assertEquals(date, terminated.getContractTerminationDate());
+        assertEquals(1, employeeService.getActiveEmployees().size());
+        assertEquals(2, employeeService.getTerminatedEmployees().size());
+        assertEquals(1, employeeService.getStatistics().getActiveCount());
+        assertEquals(3L, employeeService.getIndexSizes().get("activeStatus"));
+        List<EmployeeChange> changes = employeeService.getChangeFeed().readAfter(sequence, 10);
+        assertEquals(1, changes.size());
+        assertEquals(EmployeeChange.Type.TERMINATED, changes.get(0).getType());
+        assertEquals(employeeService.getEmployeeVersion(jane), changes.get(0).getVersion());
+        assertEquals(409, assertThrows(
+                        ResponseStatusException.class, () -> employeeService.terminateEmployee(jane, date, -1))
+                .getStatusCode()
+                .value());
+    }
+
+    @Test
+    void updateSalary_Concurrently_ShouldCommitEveryUpdateOnce() throws Exception {
+        // Arrange
+        int threads = 8;
+        int updates = 200;
+        List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i <= threads; i++) {
+            Employee employee = new EmployeeImpl();
+            employee.setFirstName("Writer" + i);
+            employee.setEmail("writer" + i + "@example.com");
+            employee.setSalary(0);
+            uuids.add(employeeService.createEmployee(employee).getUuid());
+        }
+        UUID shared = uuids.get(threads);
+        AtomicInteger sharedWins = new AtomicInteger();
+        long before = employeeService.getVersion();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act - each thread raises its own employee's salary, and races the others with conditional updates of one
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            UUID own = uuids.get(t);
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int i = 1; i <= updates; i++) {
+                    employeeService.updateSalary(own, i, -1);
+                    long read = employeeService.getEmployeeVersion(shared);
+                    try {
+                        employeeService.updateSalary(shared, i, read);
+                        sharedWins.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        assertEquals(412, e.getStatusCode().value());
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        for (int t = 0; t < threads; t++) {
+            assertEquals(updates, employeeService.getEmployeeByUuid(uuids.get(t)).getSalary());
+        }
+        assertTrue(sharedWins.get() > 0);
+        assertTrue(employeeService.getVersion() - before >= (long) threads * updates + sharedWins.get());
+        assertEquals((long) threads + 4, employeeService.getIndexSizes().get("salary"));
+        long salarySum = employeeService.getAllEmployees().stream()
+                .mapToLong(Employee::getSalary)
+                .sum();
+        assertEquals(salarySum, employeeService.getStatistics().getSalary().getSum());
+        assertEquals(
+                threads,
+                employeeService
+                        .findEmployeesInRange(new EmployeeRangeQuery(updates, updates, null, null, null, null))
+                        .stream()
+                        .filter(e -> !e.getUuid().equals(shared))
+                        .count());
+    }
+
+    @Test
+    void createAndUpdate_WhenJournalAppendThrows_ShouldUndoWriteAndKeepCommitting() {
+        // Arrange
+        AtomicBoolean journalBroken = new AtomicBoolean();
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(Durability.NONE);
+        EmployeePersistence persistence = new EmployeePersistence(properties) {
+            @Override
+            public CompletableFuture<Void> append(Employee employee) {
+                if (journalBroken.get()) {
+                    throw new IllegalStateException("Journal is closed");
+                }
+                return super.append(employee);
+            }
+        };
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence);
+        UUID john = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName("Alice");
+        employee.setEmail("alice@example.com");
+        employee.setSalary(50000);
+        Map<String, Long> indexSizes = service.getIndexSizes();
+        journalBroken.set(true);
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> service.createEmployee(employee));
+        assertThrows(IllegalStateException.class, () -> service.updateSalary(john, 1, -1));
+        journalBroken.set(false);
+
+        // Assert - nothing of either write is left, and later writes are not held back by their versions
+        assertEquals(indexSizes, service.getIndexSizes());
+        assertEquals(3, service.getAllEmployees().size());
+        assertEquals(75000, service.getEmployeeByUuid(john).getSalary());
+        assertEquals(
+                1,
+                service.findEmployeesInRange(new EmployeeRangeQuery(75000, 75000, null, null, null, null))
+                        .size());
+        Employee retried = new EmployeeImpl();
+        retried.setFirstName("Alice");
+        retried.setEmail("alice@example.com");
+        retried.setSalary(50000);
+        assertNotNull(service.createEmployee(retried));
+        assertEquals(80000, service.updateSalary(john, 80000, -1).getSalary());
+        assertEquals(service.getVersion(), service.getEmployeeVersion(john));
+    }
+
+    @Test
+    void createAndTerminate_WhenJournalWriteFails_ShouldRollBackWithoutPublishing() {
+        // Arrange
+        AtomicBoolean fsyncFailing = new AtomicBoolean();
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(Durability.NONE);
+        EmployeePersistence persistence = new EmployeePersistence(properties) {
+            @Override
+            public CompletableFuture<Void> append(Employee employee) {
+                if (fsyncFailing.get()) {
+                    return CompletableFuture.failedFuture(new IOException("fsync failed"));
+                }
+                return super.append(employee);
+            }
+        };
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence);
+        UUID jane = UUID.fromString("550e8400-e29b-41d4-a716-446655440001");
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName("Alice");
+        employee.setEmail("alice@example.com");
+        Map<String, Long> indexSizes = service.getIndexSizes();
+        long sequence = service.getChangeFeed().getSequence();
+        fsyncFailing.set(true);
+
+        // Act
+        ResponseStatusException created =
+                assertThrows(ResponseStatusException.class, () -> service.createEmployee(employee));
+        ResponseStatusException terminated =
+                assertThrows(ResponseStatusException.class, () -> service.terminateEmployee(jane, null, -1));
+        fsyncFailing.set(false);
+
+        // Assert
+        assertEquals(503, created.getStatusCode().value());
+        assertEquals(503, terminated.getStatusCode().value());
+        assertEquals(indexSizes, service.getIndexSizes());
+        assertEquals(3, service.getAllEmployees().size());
+        assertNull(service.getEmployeeByUuid(jane).getContractTerminationDate());
+        assertEquals(2, service.getActiveEmployees().size());
+        assertEquals(2, service.getStatistics().getActiveCount());
+        assertEquals(service.getVersion(), service.getEmployeeVersion(jane));
+        assertEquals(sequence, service.getChangeFeed().getSequence());
+        assertNotNull(service.createEmployee(employee));
+    }
+
+    @Test
+    void createEmployeeAsync_WhenUpdatedBeforeDurable_ShouldCompleteWithRecordItCommitted() {
+        // Arrange - hold the create's journal write until the update has landed
+        CompletableFuture<Void> heldWrite = new CompletableFuture<>();
+        AtomicBoolean holding = new AtomicBoolean();
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(Durability.NONE);
+        EmployeePersistence persistence = new EmployeePersistence(properties) {
+            @Override
+            public CompletableFuture<Void> append(Employee employee) {
+                CompletableFuture<Void> write = super.append(employee);
+                return holding.getAndSet(false) ? write.thenCompose(ignored -> heldWrite) : write;
+            }
+        };
+        EmployeeServiceImpl service = new EmployeeServiceImpl(persistence);
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName("Alice");
+        employee.setEmail("alice@example.com");
+        employee.setSalary(50000);
+        holding.set(true);
+
+        // Act
+        CompletableFuture<Employee> created = service.createEmployeeAsync(employee);
+        service.updateSalary(employee.getUuid(), 60000, -1);
+        heldWrite.complete(null);
+
+        // Assert
+        assertEquals(50000, created.join().getSalary());
+        assertEquals(60000, service.getEmployeeByUuid(employee.getUuid()).getSalary());
+    }
+
+    @Test
+    void getStatistics_AfterSalaryUpdates_ShouldReportOnlySalariesStillHeld() {
+        // Arrange
+        UUID john = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        UUID bob = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
+        employeeService.updateSalary(john, 200000, -1);
+
+        // Act - the highest and lowest salaries are replaced by ones inside the range
+        employeeService.updateSalary(john, 80000, -1);
+        employeeService.updateSalary(bob, 70000, -1);
+
+        // Assert
+        EmployeeStatistics.Salary salary = employeeService.getStatistics().getSalary();
+        assertEquals(70000, salary.getMin());
+        assertEquals(85000, salary.getMax());
+        assertEquals(3, salary.getCount());
+    }
+
+    @Test
+    void getStatistics_DuringConcurrentUpdates_ShouldNeverCountMoreThanStored() throws Exception {
+        // Arrange
+        List<UUID> uuids = employeeService.getAllEmployees().stream()
+                .map(Employee::getUuid)
+                .toList();
+        long stored = employeeService.getIndexSizes().get("uuid");
+        ExecutorService executor = Executors.newFixedThreadPool(uuids.size());
+        AtomicBoolean writing = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act - every employee's salary is rewritten over and over while the statistics are read
+        List<Future<?>> writers = new ArrayList<>();
+        for (UUID uuid : uuids) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 1; i <= 2000; i++) {
+                    employeeService.updateSalary(uuid, 50000 + i, -1);
+                }
+                return null;
+            }));
+        }
+        long maxHeadcount = 0;
+        long maxSalaryCount = 0;
+        long maxTitleHeadcount = 0;
+        start.countDown();
+        Future<?> done = executor.submit(() -> {
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            return null;
+        });
+        while (writing.get()) {
+            EmployeeStatistics statistics = employeeService.getStatistics();
+            maxHeadcount = Math.max(maxHeadcount, statistics.getHeadcount());
+            maxSalaryCount = Math.max(maxSalaryCount, statistics.getSalary().getCount());
+            maxTitleHeadcount = Math.max(
+                    maxTitleHeadcount,
+                    statistics.getJobTitles().values().stream()
+                            .mapToLong(EmployeeStatistics.JobTitle::getHeadcount)
+                            .sum());
+        }
+        done.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Assert
+        assertTrue(maxHeadcount <= stored, "headcount " + maxHeadcount + " exceeded " + stored);
+        assertTrue(maxSalaryCount <= stored, "salary count " + maxSalaryCount + " exceeded " + stored);
+        assertTrue(maxTitleHeadcount <= stored, "job title headcount " + maxTitleHeadcount + " exceeded " + stored);
+        assertEquals(stored, employeeService.getStatistics().getHeadcount());
+        assertEquals(stored, employeeService.getStatistics().getSalary().getCount());
+    }
 }
@@ -0,0 +1,49 @@
+package com.challenge.api.service.impl.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SalarySketchTest {
+
+    @Test
+    void percentile_ShouldStayWithinBucketPrecision() {
+        // Arrange
+        SalarySketch sketch = new SalarySketch();
+        for (int salary = 1; salary <= 200_000; salary++) {
+            sketch.add(salary);
+        }
+
+        // Act & Assert
+        for (double quantile : new double[] {0.01, 0.5, 0.9, 0.99, 1.0}) {
+            double exact = Math.ceil(quantile * 200_000);
+            double estimate = sketch.percentile(quantile);
+            assertTrue(Math.abs(estimate - exact) / exact <= 1.0 / 64, quantile + " -> " + estimate);
+        }
+    }
+
+    @Test
+    void percentile_AfterRemove_ShouldIgnoreRemovedSalaries() {
+        // Arrange
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(10);
+        sketch.add(1_000_000);
+
+        // Act
+        sketch.remove(1_000_000);
+
+        // Assert
+        assertEquals(10L, sketch.percentile(0.99));
+        sketch.remove(10);
+        assertNull(sketch.percentile(0.5));
+    }
+
+    @Test
+    void bucket_ShouldCoverFullIntRange() {
+        // Act & Assert
+        assertEquals(0, SalarySketch.bucket(-5));
+        assertEquals(63, SalarySketch.bucket(63));
+        assertTrue(SalarySketch.bucket(Integer.MAX_VALUE) < 26 * 64);
+        assertTrue(SalarySketch.midpoint(SalarySketch.bucket(Integer.MAX_VALUE)) <= Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,146 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.cache.EmployeeDirectoryCache;
+import com.challenge.api.cache.EmployeeJsonCache;
+import com.challenge.api.controller.EmployeeController;
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeCreateResult;
+import com.challenge.api.persistence.Durability;
+import com.challenge.api.persistence.EmployeePersistence;
+import com.challenge.api.persistence.PersistenceProperties;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Employees created per second through the batch endpoint against the same employees sent as single creates.
+ *
+ * <p>Both sides start from request bodies and end with encoded responses, calling the controller as Spring MVC would
+ * after reading the body: one JSON decode, create and encode per employee for single creates, one of each per batch
+ * for the batch endpoint. HTTP itself is not included, so the gap is the per-request work inside the application -
+ * plus, with SYNC durability, one journal wait per employee against one per batch. Each iteration starts from an
+ * empty store and journal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeBatchBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"NONE", "SYNC"})
+    public Durability durability;
+
+    private ObjectMapper objectMapper;
+    private EmployeePersistence persistence;
+    private Path directory;
+    private EmployeeController controller;
+    private long sequence;
+    private byte[][] singleBodies;
+    private byte[] batchBody;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        // Same date handling as the application's Spring-configured mapper
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        directory = Files.createTempDirectory("employee-batch-benchmark");
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(durability);
+        properties.setDirectory(directory);
+        persistence = new EmployeePersistence(properties);
+        controller = new EmployeeController(
+                new EmployeeServiceImpl(persistence),
+                objectMapper,
+                new EmployeeJsonCache(1024),
+                new EmployeeDirectoryCache(1 << 20));
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        persistence.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            // Children before their directory
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Encode the next BATCH new hires, both as single request bodies and as one batch body
+     */
+    @Setup(Level.Invocation)
+    public void nextRequests() throws IOException {
+        List<Map<String, Object>> requests = new ArrayList<>(BATCH);
+        singleBodies = new byte[BATCH][];
+        for (int i = 0; i < BATCH; i++) {
+            Map<String, Object> request = request(EmployeeFixtures.newHire(0, sequence++));
+            requests.add(request);
+            singleBodies[i] = objectMapper.writeValueAsBytes(request);
+        }
+        batchBody = objectMapper.writeValueAsBytes(requests);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long singleCreates() throws IOException {
+        long bytes = 0;
+        for (byte[] body : singleBodies) {
+            EmployeeController.EmployeeRequest request =
+                    objectMapper.readValue(body, EmployeeController.EmployeeRequest.class);
+            Employee created = controller.createEmployeeJson(request).getBody();
+            bytes += objectMapper.writeValueAsBytes(created).length;
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long batchCreate() throws IOException {
+        List<EmployeeController.EmployeeRequest> requests =
+                objectMapper.readValue(batchBody, new TypeReference<List<EmployeeController.EmployeeRequest>>() {});
+        List<EmployeeCreateResult> results = controller.createEmployeesJson(requests).getBody();
+        return objectMapper.writeValueAsBytes(results).length;
+    }
+
+    private static Map<String, Object> request(Employee employee) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("firstName", employee.getFirstName());
+        request.put("lastName", employee.getLastName());
+        request.put("email", employee.getEmail());
+        request.put("jobTitle", employee.getJobTitle());
+        request.put("salary", employee.getSalary());
+        request.put("age", employee.getAge());
+        return request;
+    }
+}
@@ -0,0 +1,115 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic employee data for the benchmarks - the same index always yields the same employee, so runs are
+ * comparable across releases.
+ */
+final class EmployeeFixtures {
+
+    static final String[] JOB_TITLES = {
+        "Software Engineer",
+        "Senior Software Engineer",
+        "Product Manager",
+        "Data Analyst",
+        "Designer",
+        "Support Engineer",
+        "Sales Representative",
+        "Accountant"
+    };
+
+    private static final String[] FIRST_NAMES = {
+        "Maria", "James", "Mark", "Linda", "Robert", "Patricia", "Michael", "Jennifer", "David", "Elizabeth", "Joseph",
+        "Susan", "Thomas", "Jessica", "Charles", "Sarah"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Taylor"
+    };
+
+    private static final Instant FIRST_HIRE = Instant.parse("2000-01-01T00:00:00Z");
+    private static final long HIRE_SPREAD_MINUTES = 25L * 365 * 24 * 60;
+    private static final int BATCH_SIZE = 10_000;
+
+    private EmployeeFixtures() {}
+
+    /**
+     * Service holding the given number of fixture employees, loaded through the batch create path
+     *
+     * @param size
+     * @return populated service
+     */
+    static EmployeeServiceImpl populate(int size) {
+        EmployeeServiceImpl service = new EmployeeServiceImpl();
+        List<Employee> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < size; i++) {
+            batch.add(employee(i));
+            if (batch.size() == BATCH_SIZE || i == size - 1) {
+                service.createEmployees(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        return service;
+    }
+
+    /**
+     * @param index
+     * @return UUID of the fixture employee at the index
+     */
+    static UUID uuid(int index) {
+        return new UUID(index * 0x9E3779B97F4A7C15L, index);
+    }
+
+    /**
+     * @param index
+     * @return fixture employee - one in ten is terminated
+     */
+    static Employee employee(int index) {
+        Employee employee = person(
+                FIRST_NAMES[index % FIRST_NAMES.length],
+                LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length],
+                "employee" + index + "@example.com",
+                index);
+        employee.setUuid(uuid(index));
+        if (index % 10 == 9) {
+            employee.setContractTerminationDate(employee.getContractHireDate().plusSeconds(365L * 24 * 60 * 60));
+        }
+        return employee;
+    }
+
+    /**
+     * New employee for write benchmarks, without a UUID so the service assigns one as it would for a client
+     *
+     * @param writer writer thread number
+     * @param sequence per-writer sequence number
+     * @return employee with an email no other call returns
+     */
+    static Employee newHire(int writer, long sequence) {
+        int mix = (int) (sequence ^ writer);
+        return person(
+                FIRST_NAMES[Math.floorMod(mix, FIRST_NAMES.length)],
+                LAST_NAMES[Math.floorMod(mix >> 4, LAST_NAMES.length)],
+                "hire" + writer + "-" + sequence + "@example.com",
+                mix);
+    }
+
+    private static Employee person(String firstName, String lastName, String email, int seed) {
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail(email);
+        employee.setJobTitle(JOB_TITLES[Math.floorMod(seed, JOB_TITLES.length)]);
+        employee.setSalary(40_000 + Math.floorMod(seed * 7919, 160_000));
+        employee.setAge(20 + Math.floorMod(seed, 46));
+        employee.setContractHireDate(FIRST_HIRE.plusSeconds(Math.floorMod(seed * 631L, HIRE_SPREAD_MINUTES) * 60));
+        return employee;
+    }
+}
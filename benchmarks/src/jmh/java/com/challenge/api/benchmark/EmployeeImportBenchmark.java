@@ -0,0 +1,79 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.importer.EmployeeCsvImporter;
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeImportResult;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bulk CSV import of a whole directory into an empty in-memory store - parsing on every core, validation and batch
+ * creates. One import per measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class EmployeeImportBenchmark {
+
+    private static final String HEADER =
+            "uuid,firstName,lastName,salary,age,jobTitle,email,contractHireDate,contractTerminationDate\n";
+
+    /**
+     * Rows in the file
+     */
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Path file;
+    private EmployeeCsvImporter importer;
+
+    @Setup
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("employee-import-", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            for (int i = 0; i < size; i++) {
+                Employee employee = EmployeeFixtures.employee(i);
+                writer.write(employee.getUuid() + "," + employee.getFirstName() + "," + employee.getLastName() + ","
+                        + employee.getSalary() + "," + employee.getAge() + "," + employee.getJobTitle() + ","
+                        + employee.getEmail() + "," + employee.getContractHireDate() + ","
+                        + (employee.getContractTerminationDate() == null ? "" : employee.getContractTerminationDate())
+                        + "\n");
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void emptyStore() {
+        importer = new EmployeeCsvImporter(new EmployeeServiceImpl());
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public EmployeeImportResult importCsv() throws IOException {
+        return importer.importCsv(file, null);
+    }
+}
@@ -0,0 +1,134 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.dto.EmployeeJsonWriter;
+import com.challenge.api.model.Employee;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One JSON response of stored employees - reflective Jackson serialization of whole employees, as the read endpoints
+ * write them today, against the employee JSON writer writing every field and the common uuid, email and fullName
+ * projection.
+ *
+ * <p>Responses are written to a sink that discards bytes, as a socket would take them. Bytes on the wire per response
+ * are reported as the wireBytes secondary metric; run with the gc profiler (-PbenchmarkProfilers=gc) for allocations
+ * per response (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeJsonBenchmark {
+
+    private static final String PROJECTION = "uuid,email,fullName";
+
+    /**
+     * Employees per response - a single lookup or a list page
+     */
+    @Param({"1", "100"})
+    public int employees;
+
+    private ObjectMapper objectMapper;
+    private List<Employee> page;
+
+    @Setup
+    public void setUp() {
+        // Same date handling as the application's Spring-configured mapper
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // Serialize what the controller serializes - the service's stored records, not the request objects
+        page = EmployeeFixtures.populate(employees).getAllEmployees().subList(0, employees);
+    }
+
+    @Benchmark
+    public long jackson(Wire wire) throws IOException {
+        if (employees == 1) {
+            objectMapper.writeValue(wire.start(), page.get(0));
+        } else {
+            objectMapper.writeValue(wire.start(), page);
+        }
+        return wire.finish();
+    }
+
+    @Benchmark
+    public long writerAllFields(Wire wire) throws IOException {
+        return write(wire, EmployeeJsonWriter.all());
+    }
+
+    @Benchmark
+    public long writerProjected(Wire wire) throws IOException {
+        return write(wire, EmployeeJsonWriter.forFields(PROJECTION));
+    }
+
+    private long write(Wire wire, EmployeeJsonWriter writer) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(wire.start())) {
+            if (employees == 1) {
+                writer.write(generator, page.get(0));
+            } else {
+                writer.writeArray(generator, page);
+            }
+        }
+        return wire.finish();
+    }
+
+    /**
+     * Response sink that counts and discards bytes, reporting the size of the last response
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Wire extends OutputStream {
+        /**
+         * Bytes in the last response written
+         */
+        public long wireBytes;
+
+        private long written;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+
+        private OutputStream start() {
+            written = 0;
+            return this;
+        }
+
+        private long finish() {
+            wireBytes = written;
+            return written;
+        }
+    }
+}
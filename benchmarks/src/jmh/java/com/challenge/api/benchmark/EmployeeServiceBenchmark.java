@@ -0,0 +1,136 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link EmployeeServiceImpl} read and write paths against a store preloaded with fixture employees.
+ *
+ * <p>The store is loaded once per trial. Write benchmarks keep adding to it, so later iterations of a write trial run
+ * against a slightly larger store than the size parameter says. Contended variants run the same operation from
+ * {@value #CONTENDED_THREADS} threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EmployeeServiceBenchmark {
+
+    private static final int CONTENDED_THREADS = 4;
+    private static final int SAMPLE_SIZE = 1 << 16;
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    private EmployeeServiceImpl service;
+    private UUID[] sample;
+    private EmployeeRangeQuery rangeQuery;
+
+    @Setup
+    public void setUp() {
+        service = EmployeeFixtures.populate(size);
+
+        // Point reads cycle through UUIDs spread evenly over the store
+        sample = new UUID[Math.min(size, SAMPLE_SIZE)];
+        int stride = size / sample.length;
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = EmployeeFixtures.uuid(i * stride);
+        }
+
+        // Roughly 1% of employees by salary, of whom about a quarter by age
+        rangeQuery = new EmployeeRangeQuery(100_000, 101_600, 20, 30, null, null);
+    }
+
+    @Benchmark
+    public Employee getEmployeeByUuid(Reader reader) {
+        return service.getEmployeeByUuid(reader.next(sample));
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public Employee getEmployeeByUuidContended(Reader reader) {
+        return service.getEmployeeByUuid(reader.next(sample));
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return service.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> getActiveEmployees() {
+        return service.getActiveEmployees();
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByJobTitle() {
+        return service.getEmployeesByJobTitle(EmployeeFixtures.JOB_TITLES[0]);
+    }
+
+    @Benchmark
+    public List<Employee> searchEmployees() {
+        return service.searchEmployees("mar", 10);
+    }
+
+    @Benchmark
+    public List<Employee> findEmployeesInRange() {
+        return service.findEmployeesInRange(rangeQuery);
+    }
+
+    @Benchmark
+    public Employee createEmployee(Writer writer) {
+        return service.createEmployee(writer.next());
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public Employee createEmployeeContended(Writer writer) {
+        return service.createEmployee(writer.next());
+    }
+
+    /**
+     * Per-thread position in the UUID sample, starting at a random offset so threads do not read in lockstep
+     */
+    @State(Scope.Thread)
+    public static class Reader {
+        private int next = ThreadLocalRandom.current().nextInt(SAMPLE_SIZE);
+
+        UUID next(UUID[] sample) {
+            next = (next + 1) % sample.length;
+            return sample[next];
+        }
+    }
+
+    /**
+     * Per-thread source of new hires, numbered so no two writers ever produce the same email
+     */
+    @State(Scope.Thread)
+    public static class Writer {
+        private static final AtomicInteger WRITERS = new AtomicInteger();
+
+        private final int writer = WRITERS.getAndIncrement();
+        private long sequence;
+
+        Employee next() {
+            return EmployeeFixtures.newHire(writer, sequence++);
+        }
+    }
+}
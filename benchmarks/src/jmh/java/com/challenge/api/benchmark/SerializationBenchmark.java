@@ -0,0 +1,89 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.cache.EmployeeJsonCache;
+import com.challenge.api.dto.EmployeeResponse;
+import com.challenge.api.model.Employee;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-employee response work: Jackson serialization of a stored employee, {@link EmployeeResponse} construction,
+ * and the pre-encoded JSON cache the single-employee endpoint serves from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SerializationBenchmark {
+
+    private static final int CONTENDED_THREADS = 4;
+
+    private ObjectMapper objectMapper;
+    private Employee employee;
+    private long version;
+    private EmployeeJsonCache jsonCache;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        // Same date handling as the application's Spring-configured mapper
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        // Serialize what the controller serializes - the service's stored record, not the request object
+        EmployeeServiceImpl service = new EmployeeServiceImpl();
+        employee = service.createEmployee(EmployeeFixtures.employee(42));
+
+        version = service.getEmployeeVersion(employee.getUuid());
+        jsonCache = new EmployeeJsonCache(1024);
+        jsonCache.put(employee.getUuid(), version, serializeEmployee());
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public byte[] serializeEmployeeContended() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public EmployeeResponse constructResponse() {
+        return new EmployeeResponse(employee);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new EmployeeResponse(employee));
+    }
+
+    @Benchmark
+    public byte[] cachedEmployeeJson() {
+        return jsonCache.get(employee.getUuid(), version);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public byte[] cachedEmployeeJsonContended() {
+        return jsonCache.get(employee.getUuid(), version);
+    }
+}
@@ -0,0 +1,128 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The full employee directory in each wire format the list endpoint negotiates - JSON, CBOR and Smile - encoded as
+ * the server writes it and decoded as a client reads it back.
+ *
+ * <p>Payload bytes per directory are reported as the payloadBytes secondary metric of encode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<EmployeeImpl>> EMPLOYEES = new TypeReference<>() {};
+
+    /**
+     * Employees in the directory
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper objectMapper;
+    private List<Employee> directory;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same settings as the application's Spring-configured mappers, over the negotiated format
+        objectMapper = new ObjectMapper(factory(format))
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // Encode what the controller encodes - the service's stored records, not the request objects
+        directory = EmployeeFixtures.populate(size).getAllEmployees();
+        payload = objectMapper.writeValueAsBytes(directory);
+    }
+
+    @Benchmark
+    public long encode(Payload sink) throws IOException {
+        objectMapper.writeValue(sink.start(), directory);
+        return sink.finish();
+    }
+
+    @Benchmark
+    public List<EmployeeImpl> decode() throws IOException {
+        return objectMapper.readValue(payload, EMPLOYEES);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "json" -> new JsonFactory();
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> throw new IllegalArgumentException("Unknown wire format: " + format);
+        };
+    }
+
+    /**
+     * Response sink that counts and discards bytes, reporting the size of the last payload
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload extends OutputStream {
+        /**
+         * Bytes in the last payload written
+         */
+        public long payloadBytes;
+
+        private long written;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+
+        private OutputStream start() {
+            written = 0;
+            return this;
+        }
+
+        private long finish() {
+            payloadBytes = written;
+            return written;
+        }
+    }
+}
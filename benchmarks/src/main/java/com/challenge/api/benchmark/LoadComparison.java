@@ -0,0 +1,227 @@
+package com.challenge.api.benchmark;
+
+import com.challenge.api.EntryLevelJavaChallengeApplication;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Load comparison of platform-thread and virtual-thread request handling under slow clients.
+ *
+ * <p>Each mode boots the application in-process, then for a fixed duration runs two client populations at once:
+ * slow clients that trickle the body of a create request over several seconds, holding a request thread while the
+ * servlet blocks reading it, and fast readers that fetch one employee as JSON in a closed loop. With platform threads
+ * the slow clients can occupy the whole Tomcat pool, so reads queue behind them; with virtual threads a blocked read
+ * parks and frees its carrier. Reader throughput and latency percentiles are logged per mode.
+ *
+ * <p>Tuned with system properties: load.seconds, load.slowClients, load.trickleMillis and load.readers.
+ */
+public final class LoadComparison {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadComparison.class);
+
+    private static final String EMPLOYEE_UUID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final int TRICKLE_CHUNKS = 10;
+
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.seconds", 30));
+    private final int slowClients = Integer.getInteger("load.slowClients", 400);
+    private final Duration trickle = Duration.ofMillis(Long.getLong("load.trickleMillis", 2000));
+    private final int readers = Integer.getInteger("load.readers", 64);
+
+    private LoadComparison() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadComparison comparison = new LoadComparison();
+        log.info(
+                "{} slow clients ({} ms per body), {} readers, {} s per mode",
+                comparison.slowClients,
+                comparison.trickle.toMillis(),
+                comparison.readers,
+                comparison.duration.toSeconds());
+        List<String> rows = new ArrayList<>();
+        rows.add(String.format(
+                Locale.ROOT,
+                "%-9s %12s %10s %10s %10s %10s %12s",
+                "mode",
+                "reads/s",
+                "p50 ms",
+                "p99 ms",
+                "p999 ms",
+                "errors",
+                "slow posts"));
+        for (boolean virtual : new boolean[] {false, true}) {
+            rows.add(comparison.run(virtual).row(virtual ? "virtual" : "platform"));
+        }
+        // One table after both modes, so application logging from the second boot does not split it
+        log.info("Reader results:{}{}", System.lineSeparator(), String.join(System.lineSeparator(), rows));
+    }
+
+    private Result run(boolean virtual) throws InterruptedException {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EntryLevelJavaChallengeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "employee.persistence.durability=none",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=warn",
+                        "logging.level.com.challenge.api.benchmark=info")
+                .run();
+        try {
+            int port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+            long deadline = System.nanoTime() + duration.toNanos();
+            AtomicLong slowPosts = new AtomicLong();
+            AtomicLong errors = new AtomicLong();
+            long[][] latencies = new long[readers][];
+            List<Thread> threads = new ArrayList<>();
+
+            for (int i = 0; i < slowClients; i++) {
+                int client = i;
+                threads.add(Thread.ofVirtual().start(() -> slowClient(port, client, deadline, slowPosts, errors)));
+            }
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(command -> Thread.ofVirtual().start(command))
+                    .build();
+            for (int i = 0; i < readers; i++) {
+                int reader = i;
+                threads.add(Thread.ofVirtual().start(() -> latencies[reader] = reader(http, port, deadline, errors)));
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            return new Result(latencies, duration, errors.get(), slowPosts.get());
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Create employees over raw sockets, sending each body in chunks spread over the trickle time
+     */
+    private void slowClient(int port, int client, long deadline, AtomicLong completed, AtomicLong errors) {
+        long pause = trickle.toMillis() / TRICKLE_CHUNKS;
+        for (int n = 0; System.nanoTime() < deadline; n++) {
+            byte[] body = ("{\"firstName\":\"Slow\",\"lastName\":\"Client\",\"email\":\"slow-" + client + "-" + n
+                            + "@example.com\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+            String head = "POST /api/v1/employee HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Accept: application/json\r\nContent-Length: " + body.length + "\r\nConnection: close\r\n\r\n";
+            try (Socket socket = new Socket("localhost", port)) {
+                OutputStream out = socket.getOutputStream();
+                out.write(head.getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                int chunk = (body.length + TRICKLE_CHUNKS - 1) / TRICKLE_CHUNKS;
+                for (int offset = 0; offset < body.length; offset += chunk) {
+                    Thread.sleep(pause);
+                    out.write(body, offset, Math.min(chunk, body.length - offset));
+                    out.flush();
+                }
+                InputStream in = socket.getInputStream();
+                while (in.read() >= 0) {
+                    // Drain the response - the server closes the connection when done
+                }
+                completed.incrementAndGet();
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Read one employee in a closed loop
+     *
+     * @return latency of each successful read, in nanoseconds
+     */
+    private long[] reader(HttpClient http, int port, long deadline, AtomicLong errors) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/employee/" + EMPLOYEE_UUID))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long[] samples = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            long started = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                    continue;
+                }
+                if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, count << 1);
+                }
+                samples[count++] = System.nanoTime() - started;
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return Arrays.copyOf(samples, count);
+    }
+
+    /**
+     * Reader latencies and counters for one mode
+     */
+    private static final class Result {
+        private final long[] sorted;
+        private final Duration duration;
+        private final long errors;
+        private final long slowPosts;
+
+        private Result(long[][] latencies, Duration duration, long errors, long slowPosts) {
+            this.sorted = Arrays.stream(latencies)
+                    .flatMapToLong(Arrays::stream)
+                    .sorted()
+                    .toArray();
+            this.duration = duration;
+            this.errors = errors;
+            this.slowPosts = slowPosts;
+        }
+
+        /**
+         * @return the mode's row of the results table
+         */
+        private String row(String mode) {
+            return String.format(
+                    Locale.ROOT,
+                    "%-9s %12.0f %10.2f %10.2f %10.2f %10d %12d",
+                    mode,
+                    sorted.length / (double) duration.toSeconds(),
+                    percentileMillis(0.5),
+                    percentileMillis(0.99),
+                    percentileMillis(0.999),
+                    errors,
+                    slowPosts);
+        }
+
+        private double percentileMillis(double percentile) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int rank = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, rank)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.challenge.api.reactive;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+
+/**
+ * Reactive Employee API - the employee service and persistence of the api module, served by WebFlux on Reactor
+ * Netty instead of Spring MVC on Tomcat. Only the service, persistence and metrics packages are scanned, so the MVC
+ * controllers are never loaded.
+ */
+@SpringBootApplication(
+        scanBasePackages = {
+            "com.challenge.api.reactive",
+            "com.challenge.api.service",
+            "com.challenge.api.persistence",
+            "com.challenge.api.metrics"
+        })
+@ConfigurationPropertiesScan("com.challenge.api.persistence")
+public class ReactiveEmployeeApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveEmployeeApplication.class);
+        // Read reactive.yml, not the api module's application.yml that is also on the classpath
+        application.setDefaultProperties(Map.of("spring.config.name", "reactive"));
+        application.run(args);
+    }
+}
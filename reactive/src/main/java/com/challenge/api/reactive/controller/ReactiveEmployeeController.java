@@ -0,0 +1,171 @@
+package com.challenge.api.reactive.controller;
+
+import com.challenge.api.controller.EmployeeController.EmployeeRequest;
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.reactive.service.ReactiveEmployeeService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Employee Controller Class - the JSON API of the MVC Employee Controller, served without holding a
+ * thread per request. Lists are written as the store is walked, with backpressure from the connection.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+public class ReactiveEmployeeController {
+
+    /**
+     * Typeahead results when no limit is given
+     */
+    static final int DEFAULT_SEARCH_LIMIT = 10;
+    /**
+     * Most typeahead results a client may request
+     */
+    static final int MAX_SEARCH_LIMIT = 100;
+
+    private final ReactiveEmployeeService employeeService;
+
+    /**
+     * Longest a client may wait on /changes
+     */
+    private final Duration maxWait;
+
+    /**
+     * Constructor
+     *
+     * @param employeeService
+     * @param maxWait longest a client may wait on /changes
+     */
+    @Autowired
+    public ReactiveEmployeeController(
+            ReactiveEmployeeService employeeService, @Value("${employee.changes.max-wait:5m}") Duration maxWait) {
+        this.employeeService = employeeService;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * JSON API - employees as a JSON array, optionally filtered by job title, active status and salary, age and
+     * hire date ranges
+     *
+     * @param jobTitle optional filter, matched case-insensitively
+     * @param active optional filter - true for current employees, false for terminated
+     * @param range optional salary, age and hire date ranges
+     * @return
+     */
+    @GetMapping(produces = "application/json")
+    public Flux<Employee> getAllEmployeesJson(
+            @RequestParam(required = false) String jobTitle,
+            @RequestParam(required = false) Boolean active,
+            @ModelAttribute EmployeeRangeQuery range) {
+        Flux<Employee> employees;
+        if (range != null && !range.isEmpty()) {
+            employees = employeeService
+                    .findEmployeesInRange(range)
+                    .filter(e -> jobTitle == null || jobTitle.equalsIgnoreCase(e.getJobTitle()));
+        } else if (jobTitle != null) {
+            employees = employeeService.getEmployeesByJobTitle(jobTitle);
+        } else if (active != null) {
+            return active ? employeeService.getActiveEmployees() : employeeService.getTerminatedEmployees();
+        } else {
+            return employeeService.getAllEmployees();
+        }
+        return active == null ? employees : employees.filter(e -> (e.getContractTerminationDate() == null) == active);
+    }
+
+    /**
+     * NDJSON export - one employee per line, each written as the connection accepts it
+     *
+     * @return
+     */
+    @GetMapping(produces = "application/x-ndjson")
+    public Flux<Employee> getAllEmployeesNdjson() {
+        return employeeService.getAllEmployees();
+    }
+
+    /**
+     * Typeahead search on full name, last name and email prefixes
+     *
+     * @param q prefix, matched case-insensitively
+     * @param limit optional result count, up to MAX_SEARCH_LIMIT
+     * @return
+     */
+    @GetMapping(value = "/search", produces = "application/json")
+    public Flux<Employee> searchEmployeesJson(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : limit;
+        if (size < 1 || size > MAX_SEARCH_LIMIT) {
+            return Flux.error(new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Search limit must be between 1 and " + MAX_SEARCH_LIMIT));
+        }
+        return employeeService.searchEmployees(q, size);
+    }
+
+    /**
+     * Workforce statistics
+     *
+     * @return
+     */
+    @GetMapping(value = "/statistics", produces = "application/json")
+    public Mono<EmployeeStatistics> getStatisticsJson() {
+        return employeeService.getStatistics();
+    }
+
+    /**
+     * Long-poll for changes - answered as soon as the store moves past the given version, or with the unchanged
+     * version once the wait runs out. Waiting clients hold a subscription, not a thread.
+     *
+     * @param since store version the client has already seen
+     * @param wait optional longest wait as an ISO-8601 duration (PT30S), up to the configured maximum
+     * @return current store version
+     */
+    @GetMapping(value = "/changes", produces = "application/json")
+    public Mono<Map<String, Long>> awaitChangesJson(
+            @RequestParam long since, @RequestParam(required = false) Duration wait) {
+        Duration timeout = wait == null || wait.compareTo(maxWait) > 0 ? maxWait : wait;
+        if (timeout.isNegative()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Wait must not be negative"));
+        }
+        return employeeService.awaitVersionAfter(since, timeout).map(version -> Map.of("version", version));
+    }
+
+    /**
+     * Get employee by their UUID
+     *
+     * @param uuid
+     * @return
+     */
+    @GetMapping(value = "/{uuid}", produces = "application/json")
+    public Mono<Employee> getEmployeeByUuidJson(@PathVariable UUID uuid) {
+        return employeeService.getEmployeeByUuid(uuid);
+    }
+
+    /**
+     * Create employee JSON
+     *
+     * @param request
+     * @return
+     */
+    @PostMapping(consumes = "application/json", produces = "application/json")
+    public Mono<ResponseEntity<Employee>> createEmployeeJson(@RequestBody EmployeeRequest request) {
+        return employeeService
+                .createEmployee(request.toEmployee())
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+}
@@ -0,0 +1,95 @@
+package com.challenge.api.reactive.service;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeStatistics;
+import java.time.Duration;
+import java.util.UUID;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Employee Service interface - nothing returned here blocks the subscribing thread. Lists are streamed
+ * as subscribers request them, and writes complete when they are durable.
+ */
+public interface ReactiveEmployeeService {
+
+    /**
+     * Stream all employees in system as of one consistent version, walking the store only as fast as the
+     * subscriber requests
+     *
+     * @return all employees
+     */
+    Flux<Employee> getAllEmployees();
+
+    /**
+     * Get employee by their UUID
+     *
+     * @param uuid
+     * @return Employee with UUID, or an error with a 404 ResponseStatusException
+     */
+    Mono<Employee> getEmployeeByUuid(UUID uuid);
+
+    /**
+     * Get employees holding a job title
+     *
+     * @param jobTitle matched case-insensitively
+     * @return employees with title
+     */
+    Flux<Employee> getEmployeesByJobTitle(String jobTitle);
+
+    /**
+     * Get employees without a contract termination date
+     *
+     * @return active employees
+     */
+    Flux<Employee> getActiveEmployees();
+
+    /**
+     * Get employees with a contract termination date
+     *
+     * @return terminated employees
+     */
+    Flux<Employee> getTerminatedEmployees();
+
+    /**
+     * Get employees within salary, age and hire date ranges
+     *
+     * @param query at least one bounded range
+     * @return matching employees
+     */
+    Flux<Employee> findEmployeesInRange(EmployeeRangeQuery query);
+
+    /**
+     * Typeahead search - employees whose full name, last name or email starts with the prefix
+     *
+     * @param prefix matched case-insensitively, not blank
+     * @param limit most employees to return, at least 1
+     * @return up to limit matching employees
+     */
+    Flux<Employee> searchEmployees(String prefix, int limit);
+
+    /**
+     * Workforce aggregates
+     *
+     * @return statistics
+     */
+    Mono<EmployeeStatistics> getStatistics();
+
+    /**
+     * Create new employee in system
+     *
+     * @param employee
+     * @return Employee added, emitted once its journal write is durable
+     */
+    Mono<Employee> createEmployee(Employee employee);
+
+    /**
+     * Wait for the store to move past a version - the long-poll primitive. No thread is held while waiting.
+     *
+     * @param since version the caller has already seen
+     * @param timeout longest wait
+     * @return first store version after since, or the current version if none was committed within the timeout
+     */
+    Mono<Long> awaitVersionAfter(long since, Duration timeout);
+}
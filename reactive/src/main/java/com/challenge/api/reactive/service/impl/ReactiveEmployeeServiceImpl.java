@@ -0,0 +1,126 @@
+package com.challenge.api.reactive.service.impl;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.EmployeeRangeQuery;
+import com.challenge.api.model.EmployeeStatistics;
+import com.challenge.api.reactive.service.ReactiveEmployeeService;
+import com.challenge.api.service.EmployeeService;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive Employee Service implementation, adapting the in-memory Employee Service.
+ *
+ * <p>Reads are answered from memory in microseconds, so they run on the subscribing event-loop thread rather than
+ * hopping to a worker pool. The only slow step is the journal write of a create, which the service exposes as a
+ * future completed by the journal writer - no thread waits on it. The journal writer is a single thread committing
+ * every writer's group, so a create resumes on the parallel scheduler: waking long-polling subscribers and encoding
+ * the response never delay the next fsync.
+ *
+ * <p>Committed versions are published to a multicast sink that keeps no history and holds no thread per waiter,
+ * so any number of long-polling clients cost one subscription each.
+ */
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    /**
+     * Emitters racing on the version sink retry for at most this long - an emit only fails while another is in
+     * progress
+     */
+    private static final Duration EMIT_RETRY = Duration.ofMillis(50);
+
+    private final EmployeeService employeeService;
+
+    private final Sinks.Many<Long> versions = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * Constructor
+     *
+     * @param employeeService
+     */
+    @Autowired
+    public ReactiveEmployeeServiceImpl(EmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return Flux.fromStream(employeeService::streamEmployees);
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeByUuid(UUID uuid) {
+        return Mono.fromSupplier(() -> employeeService.getEmployeeByUuid(uuid));
+    }
+
+    @Override
+    public Flux<Employee> getEmployeesByJobTitle(String jobTitle) {
+        return fromList(() -> employeeService.getEmployeesByJobTitle(jobTitle));
+    }
+
+    @Override
+    public Flux<Employee> getActiveEmployees() {
+        return fromList(employeeService::getActiveEmployees);
+    }
+
+    @Override
+    public Flux<Employee> getTerminatedEmployees() {
+        return fromList(employeeService::getTerminatedEmployees);
+    }
+
+    @Override
+    public Flux<Employee> findEmployeesInRange(EmployeeRangeQuery query) {
+        return fromList(() -> employeeService.findEmployeesInRange(query));
+    }
+
+    @Override
+    public Flux<Employee> searchEmployees(String prefix, int limit) {
+        return fromList(() -> employeeService.searchEmployees(prefix, limit));
+    }
+
+    @Override
+    public Mono<EmployeeStatistics> getStatistics() {
+        return Mono.fromSupplier(employeeService::getStatistics);
+    }
+
+    @Override
+    public Mono<Employee> createEmployee(Employee employee) {
+        return Mono.fromFuture(() -> employeeService.createEmployeeAsync(employee))
+                .publishOn(Schedulers.parallel())
+                .doOnSuccess(created -> publishVersion());
+    }
+
+    @Override
+    public Mono<Long> awaitVersionAfter(long since, Duration timeout) {
+        // Subscribe to new versions before reading the current one, so a commit between the two is never missed
+        return Flux.merge(versions.asFlux(), Mono.fromSupplier(employeeService::getVersion))
+                .filter(version -> version > since)
+                .next()
+                .timeout(timeout, Mono.fromSupplier(employeeService::getVersion));
+    }
+
+    /**
+     * Tell waiting subscribers the store version moved
+     */
+    private void publishVersion() {
+        versions.emitNext(employeeService.getVersion(), Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY));
+    }
+
+    /**
+     * Defer a list query to subscription time, then emit its results
+     *
+     * @param query
+     * @return flux of the query's results
+     */
+    private static Flux<Employee> fromList(Supplier<List<Employee>> query) {
+        return Flux.defer(() -> Flux.fromIterable(query.get()));
+    }
+}
@@ -0,0 +1,117 @@
+package com.challenge.api.reactive.service.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.challenge.api.model.Employee;
+import com.challenge.api.model.impl.EmployeeImpl;
+import com.challenge.api.persistence.Durability;
+import com.challenge.api.persistence.EmployeePersistence;
+import com.challenge.api.persistence.PersistenceProperties;
+import com.challenge.api.service.impl.EmployeeServiceImpl;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.test.StepVerifier;
+
+class ReactiveEmployeeServiceImplTest {
+
+    private EmployeeServiceImpl delegate;
+    private ReactiveEmployeeServiceImpl employeeService;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new EmployeeServiceImpl();
+        employeeService = new ReactiveEmployeeServiceImpl(delegate);
+    }
+
+    @Test
+    void getAllEmployees_ShouldStreamEveryEmployee() {
+        // Arrange
+        long headcount = delegate.getStatistics().getHeadcount();
+
+        // Act & Assert
+        StepVerifier.create(employeeService.getAllEmployees())
+                .expectNextCount(headcount)
+                .verifyComplete();
+    }
+
+    @Test
+    void getEmployeeByUuid_WithInvalidUuid_ShouldSignalNotFound() {
+        // Act & Assert
+        StepVerifier.create(employeeService.getEmployeeByUuid(UUID.randomUUID()))
+                .expectError(ResponseStatusException.class)
+                .verify();
+    }
+
+    @Test
+    void createEmployee_WithDuplicateEmail_ShouldSignalConflict() {
+        // Act & Assert
+        StepVerifier.create(employeeService.createEmployee(newEmployee("Jane", "john.smith@example.com")))
+                .expectErrorMatches(e -> e instanceof ResponseStatusException status
+                        && status.getStatusCode().value() == 409)
+                .verify();
+    }
+
+    @Test
+    void createEmployee_WithSyncJournal_ShouldResumeOffTheJournalFlusher(@TempDir Path directory) {
+        // Arrange
+        PersistenceProperties properties = new PersistenceProperties();
+        properties.setDurability(Durability.SYNC);
+        properties.setDirectory(directory);
+        EmployeePersistence persistence = new EmployeePersistence(properties);
+        ReactiveEmployeeServiceImpl journaled = new ReactiveEmployeeServiceImpl(new EmployeeServiceImpl(persistence));
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        // Act
+        try {
+            StepVerifier.create(journaled
+                            .createEmployee(newEmployee("Lena", "lena@example.com"))
+                            .doOnNext(created -> thread.set(Thread.currentThread().getName())))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        } finally {
+            persistence.close();
+        }
+
+        // Assert - the flusher only completes the future; everything after it runs elsewhere
+        assertNotNull(thread.get());
+        assertNotEquals("employee-journal-flusher", thread.get());
+    }
+
+    @Test
+    void awaitVersionAfter_ShouldCompleteWhenEmployeeIsCreated() {
+        // Arrange
+        long since = delegate.getVersion();
+
+        // Act & Assert
+        StepVerifier.create(employeeService.awaitVersionAfter(since, Duration.ofSeconds(10)))
+                .then(() -> employeeService
+                        .createEmployee(newEmployee("Lena", "lena@example.com"))
+                        .subscribe())
+                .expectNextMatches(version -> version > since)
+                .verifyComplete();
+    }
+
+    @Test
+    void awaitVersionAfter_WithoutWrites_ShouldReturnCurrentVersionOnTimeout() {
+        // Arrange
+        long since = delegate.getVersion();
+
+        // Act & Assert
+        StepVerifier.create(employeeService.awaitVersionAfter(since, Duration.ofMillis(50)))
+                .expectNext(since)
+                .verifyComplete();
+    }
+
+    private static Employee newEmployee(String firstName, String email) {
+        Employee employee = new EmployeeImpl();
+        employee.setFirstName(firstName);
+        employee.setEmail(email);
+        return employee;
+    }
+}